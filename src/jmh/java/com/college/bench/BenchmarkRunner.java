@@ -0,0 +1,66 @@
+package com.college.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entry point for the benchmark profile.
+ *
+ * Accepts the usual JMH command line (e.g. a benchmark regex, -f, -wi) and
+ * writes results as JSON to target/jmh/jmh-result-&lt;commit&gt;.json, where the
+ * commit is taken from GIT_COMMIT or from the working copy, so runs from
+ * different commits can be compared with any JMH result viewer.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+
+        File dir = new File("target/jmh");
+        dir.mkdirs();
+        File result = new File(dir, "jmh-result-" + commitId() + ".json");
+
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build();
+
+        new Runner(options).run();
+    }
+
+    private static String commitId() {
+        String env = System.getenv("GIT_COMMIT");
+        if (env != null && !env.isBlank()) {
+            return env.length() > 12 ? env.substring(0, 12) : env;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short=12", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                if (process.waitFor() == 0 && line != null && !line.isBlank()) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            // git not available
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "local";
+    }
+}
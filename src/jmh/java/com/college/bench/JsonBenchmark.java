@@ -0,0 +1,86 @@
+package com.college.bench;
+
+import com.college.models.Student;
+import com.college.utils.JsonHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonHelper serialization of a single student and of a student list, and
+ * parsing of a flat student object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({ "100", "1000" })
+    public int listSize;
+
+    private Student student;
+    private List<Student> students;
+    private String studentJson;
+
+    @Setup
+    public void setup() {
+        student = sampleStudent(1);
+        students = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            students.add(sampleStudent(i));
+        }
+        studentJson = "{\"id\":1,\"name\":\"Student 1\",\"email\":\"student1@example.edu\","
+                + "\"phone\":\"9876543210\",\"course\":\"B.Tech\",\"batch\":\"2024\","
+                + "\"department\":\"Computer Science\",\"semester\":3,\"hostelite\":true,"
+                + "\"tenthPercentage\":91.4,\"twelfthPercentage\":88.2}";
+    }
+
+    @Benchmark
+    public String toJsonSingle() {
+        return JsonHelper.toJson(student);
+    }
+
+    @Benchmark
+    public String toJsonList() {
+        return JsonHelper.toJson(students);
+    }
+
+    @Benchmark
+    public Student fromJson() {
+        return JsonHelper.fromJson(studentJson, Student.class);
+    }
+
+    private static Student sampleStudent(int i) {
+        Student s = new Student();
+        s.setId(i);
+        s.setName("Student " + i);
+        s.setEmail("student" + i + "@example.edu");
+        s.setPhone("9876543210");
+        s.setCourse("B.Tech");
+        s.setBatch("2024");
+        s.setDepartment("Computer Science");
+        s.setSemester(3);
+        s.setHostelite(i % 2 == 0);
+        s.setEnrollmentDate(Date.valueOf("2024-07-15"));
+        s.setAddress("12 MG Road, Pune \"Block " + (i % 5) + "\"");
+        s.setTenthPercentage(91.4);
+        s.setTwelfthPercentage(88.2);
+        return s;
+    }
+}
@@ -0,0 +1,72 @@
+package com.college.bench;
+
+import com.college.models.Permission;
+import com.college.models.Role;
+import com.college.utils.PasswordUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks against a role with a realistic permission count, and
+ * password verification for salted and legacy hashes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityBenchmark {
+
+    private static final int PERMISSION_COUNT = 120;
+    private static final String PASSWORD = "S3cure!Passw0rd";
+
+    private Role role;
+    private String presentCode;
+    private String missingCode;
+    private String saltedHash;
+    private String legacyHash;
+
+    @Setup
+    @SuppressWarnings("deprecation")
+    public void setup() {
+        role = new Role(1, "ADMIN", "Administrator");
+        for (int i = 0; i < PERMISSION_COUNT; i++) {
+            role.addPermission(new Permission(i, "MODULE_" + i + "_ACCESS", "Module " + i, "GENERAL"));
+        }
+        presentCode = "MODULE_" + (PERMISSION_COUNT - 1) + "_ACCESS";
+        missingCode = "MODULE_UNKNOWN_ACCESS";
+        saltedHash = PasswordUtils.hashPassword(PASSWORD);
+        legacyHash = PasswordUtils.hashPasswordLegacy(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean hasPermissionGranted() {
+        return role.hasPermission(presentCode);
+    }
+
+    @Benchmark
+    public boolean hasPermissionDenied() {
+        return role.hasPermission(missingCode);
+    }
+
+    @Benchmark
+    public boolean verifySaltedPassword() {
+        return PasswordUtils.verifyPassword(PASSWORD, saltedHash);
+    }
+
+    @Benchmark
+    public boolean verifyLegacyPassword() {
+        return PasswordUtils.verifyPassword(PASSWORD, legacyHash);
+    }
+}
@@ -0,0 +1,67 @@
+package com.college.bench;
+
+import com.college.dao.GradeDAO;
+import com.college.models.Grade;
+import com.college.models.Student;
+import com.college.services.TranscriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SGPA/CGPA calculation for a student with eight semesters of grades. The
+ * GradeDAO is replaced with an in-memory list so only the calculation is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranscriptBenchmark {
+
+    private static final String[] EXAM_TYPES = { "Final", "Mid Term", "Assignment" };
+
+    private TranscriptService service;
+    private Student student;
+
+    @Setup
+    public void setup() {
+        List<Grade> grades = new ArrayList<>();
+        for (int sem = 1; sem <= 8; sem++) {
+            for (int course = 0; course < 6; course++) {
+                for (String examType : EXAM_TYPES) {
+                    Grade g = new Grade(42, sem * 10 + course, examType, 40 + (sem * 7 + course * 11) % 60, 100);
+                    g.setSemester(sem);
+                    g.setCredits(2 + course % 3);
+                    grades.add(g);
+                }
+            }
+        }
+
+        service = new TranscriptService(new GradeDAO() {
+            @Override
+            public List<Grade> getGradesByStudent(int studentId) {
+                return grades;
+            }
+        });
+        student = new Student();
+        student.setId(42);
+    }
+
+    @Benchmark
+    public TranscriptService.TranscriptSummary generateTranscript() {
+        return service.generateTranscript(student);
+    }
+}
@@ -0,0 +1,159 @@
+package com.college.dao;
+
+import com.college.models.Attendance;
+import com.college.utils.DatabaseConnection;
+import com.college.utils.EnvLoader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk attendance marking against the configured database (.env).
+ *
+ * "batch" is the previous markBulkAttendance: addBatch of a per-row
+ * INSERT ... ON CONFLICT in one transaction (without summary maintenance, so
+ * it is a generous baseline). "copy" is markBulkAttendanceChunked. The
+ * "rows" secondary result is rows/s.
+ *
+ * Marks are written for dates from 2100-01-01 onwards for one course and
+ * removed again at the end of the trial. Needs at least one course and one
+ * student in the database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkAttendanceBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2100, 1, 1);
+
+    private static final String LEGACY_SQL = "INSERT INTO attendance (student_id, course_id, date, status, remarks, marked_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (student_id, course_id, date) DO UPDATE SET " +
+            "status = EXCLUDED.status, " +
+            "remarks = EXCLUDED.remarks, " +
+            "marked_by = EXCLUDED.marked_by";
+
+    @Param({ "batch", "copy" })
+    public String path;
+
+    @Param({ "1000", "20000" })
+    public int rows;
+
+    private AttendanceDAO attendanceDAO;
+    private int courseId;
+    private List<Integer> studentIds;
+    private int daysPerInvocation;
+    private int invocation;
+    private List<Attendance> marks;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup
+    public void setup() throws SQLException {
+        EnvLoader.load();
+        attendanceDAO = new AttendanceDAO();
+        studentIds = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection();
+                Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM courses ORDER BY id LIMIT 1")) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Benchmark needs at least one course");
+                }
+                courseId = rs.getInt(1);
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM students ORDER BY id LIMIT " + rows)) {
+                while (rs.next()) {
+                    studentIds.add(rs.getInt(1));
+                }
+            }
+        }
+        if (studentIds.isEmpty()) {
+            throw new IllegalStateException("Benchmark needs at least one student");
+        }
+        // Spread rows over several days when there are fewer students than rows
+        daysPerInvocation = (rows + studentIds.size() - 1) / studentIds.size();
+    }
+
+    @Setup(Level.Invocation)
+    public void nextMarks() {
+        LocalDate base = FIRST_DATE.plusDays((long) invocation++ * daysPerInvocation);
+        marks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Attendance a = new Attendance();
+            a.setStudentId(studentIds.get(i % studentIds.size()));
+            a.setCourseId(courseId);
+            a.setDate(java.sql.Date.valueOf(base.plusDays(i / studentIds.size())));
+            a.setStatus(i % 7 == 0 ? "ABSENT" : "PRESENT");
+            marks.add(a);
+        }
+    }
+
+    @TearDown
+    public void cleanup() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(
+                        "DELETE FROM attendance WHERE course_id = ? AND date >= ?")) {
+            pstmt.setInt(1, courseId);
+            pstmt.setDate(2, java.sql.Date.valueOf(FIRST_DATE));
+            pstmt.executeUpdate();
+        }
+        attendanceDAO.rebuildAttendanceSummary();
+    }
+
+    @Benchmark
+    public int mark(Rows counter) throws SQLException {
+        int marked = "copy".equals(path) ? attendanceDAO.markBulkAttendanceChunked(marks).getMarked() : legacyBatch();
+        counter.rows += marked;
+        return marked;
+    }
+
+    private int legacyBatch() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(LEGACY_SQL)) {
+                for (Attendance a : marks) {
+                    pstmt.setInt(1, a.getStudentId());
+                    pstmt.setInt(2, a.getCourseId());
+                    pstmt.setDate(3, new java.sql.Date(a.getDate().getTime()));
+                    pstmt.setString(4, a.getStatus());
+                    pstmt.setString(5, a.getRemarks());
+                    pstmt.setNull(6, java.sql.Types.INTEGER);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return marks.size();
+    }
+}
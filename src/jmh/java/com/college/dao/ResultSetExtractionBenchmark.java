@@ -0,0 +1,110 @@
+package com.college.dao;
+
+import com.college.bench.StubResultSet;
+import com.college.models.Student;
+import com.college.models.StudentFee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row mapping cost of the DAO extract methods.
+ *
+ * "full" rows carry every column the mapper reads; "legacy" rows omit the
+ * extended profile columns so the SQLException fallback paths are measured too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSetExtractionBenchmark {
+
+    private StudentDAO studentDAO;
+    private EnhancedFeeDAO feeDAO;
+
+    private ResultSet fullStudentRow;
+    private ResultSet legacyStudentRow;
+    private ResultSet feeRow;
+
+    @Setup
+    public void setup() {
+        studentDAO = new StudentDAO();
+        feeDAO = new EnhancedFeeDAO();
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("id", 42);
+        legacy.put("name", "Aarav Sharma");
+        legacy.put("email", "aarav.sharma@example.edu");
+        legacy.put("phone", "9876543210");
+        legacy.put("course", "B.Tech");
+        legacy.put("batch", "2024");
+        legacy.put("enrollment_date", Date.valueOf("2024-07-15"));
+        legacy.put("address", "12 MG Road, Pune");
+        legacyStudentRow = StubResultSet.of(legacy);
+
+        Map<String, Object> full = new HashMap<>(legacy);
+        full.put("dob", Date.valueOf("2006-03-02"));
+        full.put("gender", "Male");
+        full.put("blood_group", "B+");
+        full.put("category", "General");
+        full.put("nationality", "Indian");
+        full.put("father_name", "Rohit Sharma");
+        full.put("mother_name", "Neha Sharma");
+        full.put("guardian_contact", "9876500000");
+        full.put("previous_school", "City Public School");
+        full.put("tenth_percentage", 91.4);
+        full.put("twelfth_percentage", 88.2);
+        full.put("extracurricular_activities", "Chess, Debate");
+        full.put("profile_photo_path", "/photos/42.jpg");
+        full.put("department", "Computer Science");
+        full.put("semester", 3);
+        full.put("is_hostelite", true);
+        full.put("username", "STU2024042");
+        fullStudentRow = StubResultSet.of(full);
+
+        Map<String, Object> fee = new HashMap<>();
+        fee.put("id", 7);
+        fee.put("student_id", 42);
+        fee.put("category_id", 3);
+        fee.put("academic_year", "2024-25");
+        fee.put("total_amount", 85000.0);
+        fee.put("paid_amount", 40000.0);
+        fee.put("status", "PARTIAL");
+        fee.put("due_date", Date.valueOf("2024-09-30"));
+        fee.put("student_name", "Aarav Sharma");
+        fee.put("category_name", "Tuition");
+        fee.put("student_username", "STU2024042");
+        feeRow = StubResultSet.of(fee);
+    }
+
+    @Benchmark
+    public Student extractStudentFull() throws SQLException {
+        return studentDAO.extractStudentFromResultSet(fullStudentRow);
+    }
+
+    @Benchmark
+    public Student extractStudentLegacyColumns() throws SQLException {
+        return studentDAO.extractStudentFromResultSet(legacyStudentRow);
+    }
+
+    @Benchmark
+    public StudentFee extractStudentFee() throws SQLException {
+        return feeDAO.extractStudentFeeFromResultSet(feeRow);
+    }
+}
@@ -4,9 +4,8 @@ public class Launcher {
     public static void main(String[] args) {
         // Load environment variables
         com.college.utils.EnvLoader.load();
-        
-        // Run Database Migrations
-        com.college.utils.MigrationRunner.runMigrations();
+
+        // Database migrations run in MainFX.init()
 
         MainFX.main(args);
     }
@@ -17,7 +17,7 @@ public class MainFX extends Application {
 
     @Override
     public void init() throws Exception {
-        com.college.utils.DatabaseMigrator.migrate();
+        com.college.utils.MigrationRunner.runMigrations();
     }
 
     @Override
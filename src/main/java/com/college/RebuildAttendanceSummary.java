@@ -0,0 +1,23 @@
+package com.college;
+
+import com.college.dao.AttendanceDAO;
+
+/**
+ * Recomputes attendance_summary from the attendance table.
+ * Run after importing or editing attendance outside the application.
+ */
+public class RebuildAttendanceSummary {
+    public static void main(String[] args) {
+        // Load environment variables
+        com.college.utils.EnvLoader.load();
+
+        int rows = new AttendanceDAO().rebuildAttendanceSummary();
+        if (rows < 0) {
+            System.out.println("Attendance summary rebuild failed (see log)");
+            System.exit(1);
+        }
+        System.out.println("Attendance summary rebuilt: " + rows + " student/course rows");
+        com.college.utils.DatabaseConnection.shutdown();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.college.api;
+
+import com.college.utils.EnvConfig;
+import com.college.utils.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the executor that runs HttpServer exchanges.
+ *
+ * API_EXECUTOR=virtual (default) runs every request on its own virtual thread.
+ * API_EXECUTOR=pool uses a fixed platform pool (API_POOL_THREADS) with a
+ * bounded admission queue (API_QUEUE_CAPACITY). When that queue is full the
+ * exchange is run on the dispatcher thread in "shedding" mode so the
+ * {@link ConcurrencyLimitHandler} answers 503 without touching the database.
+ */
+public class ApiExecutors {
+
+    public static final String MODE_VIRTUAL = "virtual";
+    public static final String MODE_POOL = "pool";
+
+    private static final ThreadLocal<Boolean> SHEDDING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ApiExecutors() {
+    }
+
+    /**
+     * Create the executor configured in the environment
+     */
+    public static ExecutorService create() {
+        String mode = EnvConfig.get("API_EXECUTOR", MODE_VIRTUAL);
+        if (MODE_POOL.equalsIgnoreCase(mode)) {
+            int threads = EnvConfig.getInt("API_POOL_THREADS", Runtime.getRuntime().availableProcessors() * 2);
+            int queueCapacity = EnvConfig.getInt("API_QUEUE_CAPACITY", 100);
+            Logger.info("API executor: bounded pool (" + threads + " threads, queue " + queueCapacity + ")");
+            return boundedPool(threads, queueCapacity);
+        }
+        if (!MODE_VIRTUAL.equalsIgnoreCase(mode)) {
+            Logger.warn("Unknown API_EXECUTOR '" + mode + "', falling back to virtual threads");
+        }
+        Logger.info("API executor: virtual thread per request");
+        return virtualThreads();
+    }
+
+    public static ExecutorService virtualThreads() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-vt-", 0).factory());
+    }
+
+    public static ExecutorService boundedPool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, "api-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), factory,
+                (task, executor) -> runShedding(task));
+    }
+
+    /**
+     * True while a rejected exchange is being run on the dispatcher thread.
+     * Handlers must reply immediately instead of doing real work.
+     */
+    public static boolean isShedding() {
+        return SHEDDING.get();
+    }
+
+    private static void runShedding(Runnable task) {
+        SHEDDING.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            SHEDDING.remove();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.college.api;
+
+import com.college.utils.Logger;
+import com.college.utils.StreamingJsonSerializer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response helpers shared by the API controllers
+ */
+final class ApiResponses {
+
+    private ApiResponses() {
+    }
+
+    /**
+     * Send a small fixed-length response
+     */
+    static void sendResponse(HttpExchange t, int statusCode, String response) throws IOException {
+        t.getResponseHeaders().set("Content-Type", "application/json");
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        t.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream os = t.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Stream a JSON body with chunked transfer encoding, without building the
+     * whole payload in memory first.
+     *
+     * The status line is already sent when serialization starts, so a failure
+     * cannot become an error response. The body is then left unterminated and
+     * the exception rethrown, which makes the server drop the connection: the
+     * client sees a broken response instead of a truncated 200.
+     */
+    static void sendJson(HttpExchange t, int statusCode, Object body) throws IOException {
+        t.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        t.sendResponseHeaders(statusCode, 0);
+        OutputStream os = t.getResponseBody();
+        try {
+            StreamingJsonSerializer.write(body, os);
+        } catch (IOException | RuntimeException e) {
+            Logger.error("Aborted JSON response for " + t.getRequestURI().getPath(), e);
+            throw e instanceof IOException io ? io : new IOException(e);
+        }
+        os.close();
+    }
+
+    /**
+     * Answer 500 for a failed request, unless the response has already
+     * started (sendJson has then aborted it and the exception is rethrown)
+     */
+    static void sendServerError(HttpExchange t, Exception e) throws IOException {
+        if (t.getResponseCode() != -1) {
+            throw e instanceof IOException io ? io : new IOException(e);
+        }
+        Logger.error("API request failed: " + t.getRequestURI().getPath(), e);
+        sendResponse(t, 500, "{\"error\":\"" + e.getMessage() + "\"}");
+    }
+}
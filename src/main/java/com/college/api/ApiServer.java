@@ -1,11 +1,13 @@
 package com.college.api;
 
+import com.college.utils.EnvConfig;
 import com.sun.net.httpserver.HttpServer;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpExchange;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
 
 public class ApiServer {
 
@@ -13,21 +15,43 @@ public class ApiServer {
         // Create server on port 7000
         HttpServer server = HttpServer.create(new InetSocketAddress(7000), 0);
 
-        // Define routes (Protected)
+        // Define routes (Protected). Route limits default to the DB pool size split
+        // between routes so API load cannot starve the pool.
         server.createContext("/", new RootHandler()); // Public
-        server.createContext("/students", new ProtectedHandler(new StudentController()));
-        server.createContext("/fees", new ProtectedHandler(new FeeController()));
+        server.createContext("/students",
+                limit("/students", EnvConfig.getInt("API_LIMIT_STUDENTS", 10),
+                        new ProtectedHandler(new StudentController())));
+        server.createContext("/fees",
+                limit("/fees", EnvConfig.getInt("API_LIMIT_FEES", 5),
+                        new ProtectedHandler(new FeeController())));
+        server.createContext("/search",
+                limit("/search", EnvConfig.getInt("API_LIMIT_SEARCH", 5),
+                        new ProtectedHandler(new SearchController())));
+        // Query and pool metrics for Prometheus (send the API key as a bearer token)
+        server.createContext("/metrics", new ProtectedHandler(new MetricsController()));
 
-        server.setExecutor(null); // default executor
+        ExecutorService executor = ApiExecutors.create();
+        server.setExecutor(executor);
         server.start();
         System.out.println("API Server started on port 7000");
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            executor.shutdown();
+        }));
+    }
+
+    private static HttpHandler limit(String route, int maxConcurrent, HttpHandler handler) {
+        long admissionTimeout = EnvConfig.getInt("API_ADMISSION_TIMEOUT_MS", 250);
+        int retryAfter = EnvConfig.getInt("API_RETRY_AFTER_SECONDS", 1);
+        return new ConcurrencyLimitHandler(route, handler, maxConcurrent, admissionTimeout, retryAfter);
     }
 
     static class RootHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange t) throws IOException {
             // Public endpoint check
-            String response = "College Management API (Native) is Running. Use /students, /fees endpoints.";
+            String response = "College Management API (Native) is Running. Use /students, /fees, /search endpoints.";
             t.sendResponseHeaders(200, response.length());
             OutputStream os = t.getResponseBody();
             os.write(response.getBytes());
@@ -0,0 +1,77 @@
+package com.college.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of in-flight requests for a single route.
+ * A request that cannot get a permit within the admission timeout (or that
+ * arrives while the executor is shedding load) gets a 503 with Retry-After.
+ */
+public class ConcurrencyLimitHandler implements HttpHandler {
+
+    private final String route;
+    private final HttpHandler delegate;
+    private final Semaphore permits;
+    private final long admissionTimeoutMillis;
+    private final int retryAfterSeconds;
+
+    public ConcurrencyLimitHandler(String route, HttpHandler delegate, int maxConcurrent,
+            long admissionTimeoutMillis, int retryAfterSeconds) {
+        this.route = route;
+        this.delegate = delegate;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        this.admissionTimeoutMillis = admissionTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void handle(HttpExchange t) throws IOException {
+        if (ApiExecutors.isShedding()) {
+            sendServiceUnavailable(t, retryAfterSeconds);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(admissionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            sendServiceUnavailable(t, retryAfterSeconds);
+            return;
+        }
+
+        try {
+            delegate.handle(t);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public static void sendServiceUnavailable(HttpExchange t, int retryAfterSeconds) throws IOException {
+        byte[] bytes = "{\"error\":\"Server busy, retry later\"}".getBytes(StandardCharsets.UTF_8);
+        t.getResponseHeaders().set("Content-Type", "application/json");
+        t.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+        t.sendResponseHeaders(503, bytes.length);
+        try (OutputStream os = t.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
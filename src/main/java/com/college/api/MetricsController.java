@@ -0,0 +1,138 @@
+package com.college.api;
+
+import com.college.utils.DatabaseConnection;
+import com.college.utils.LatencyHistogram;
+import com.college.utils.PoolMetrics;
+import com.college.utils.QueryMetrics;
+import com.college.utils.ReferenceDataCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Serves query, connection pool and reference cache metrics in the
+ * Prometheus text format.
+ */
+public class MetricsController implements HttpHandler {
+
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.95, 0.99 };
+
+    @Override
+    public void handle(HttpExchange t) throws IOException {
+        if (!"GET".equals(t.getRequestMethod())) {
+            t.sendResponseHeaders(405, -1);
+            t.close();
+            return;
+        }
+        byte[] body = render(QueryMetrics.getStats(), ReferenceDataCache.getInstance().getStats(),
+                DatabaseConnection.getPoolMetrics(), DatabaseConnection.getReadPoolMetrics())
+                .getBytes(StandardCharsets.UTF_8);
+        t.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        t.sendResponseHeaders(200, body.length);
+        try (OutputStream os = t.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    static String render(List<QueryMetrics.Stats> queries, ReferenceDataCache.Stats cache, PoolMetrics... pools) {
+        StringBuilder sb = new StringBuilder(4096);
+
+        sb.append("# HELP college_db_query_seconds Statement execution time by calling DAO method\n");
+        sb.append("# TYPE college_db_query_seconds summary\n");
+        for (QueryMetrics.Stats s : queries) {
+            summary(sb, "college_db_query_seconds", "caller", s.getCaller(), s.getLatency());
+        }
+        counter(sb, "college_db_query_rows_total", "Rows returned or affected", queries,
+                QueryMetrics.Stats::getRows);
+        counter(sb, "college_db_query_errors_total", "Statements that threw", queries,
+                QueryMetrics.Stats::getErrors);
+        counter(sb, "college_db_slow_queries_total", "Statements above DB_SLOW_QUERY_MS", queries,
+                QueryMetrics.Stats::getSlowQueries);
+
+        sb.append("# HELP college_db_pool_connections Connections by state\n");
+        sb.append("# TYPE college_db_pool_connections gauge\n");
+        for (PoolMetrics p : pools) {
+            if (p == null || p.getPoolName() == null)
+                continue;
+            gauge(sb, p, "active", p.getActiveConnections());
+            gauge(sb, p, "idle", p.getIdleConnections());
+            gauge(sb, p, "max", p.getMaxConnections());
+        }
+        sb.append("# HELP college_db_pool_pending_threads Threads waiting for a connection\n");
+        sb.append("# TYPE college_db_pool_pending_threads gauge\n");
+        for (PoolMetrics p : pools) {
+            if (p != null && p.getPoolName() != null)
+                sample(sb, "college_db_pool_pending_threads", "pool", p.getPoolName(), null, p.getPendingThreads());
+        }
+        sb.append("# HELP college_db_pool_timeouts_total Connection requests that timed out\n");
+        sb.append("# TYPE college_db_pool_timeouts_total counter\n");
+        for (PoolMetrics p : pools) {
+            if (p != null && p.getPoolName() != null)
+                sample(sb, "college_db_pool_timeouts_total", "pool", p.getPoolName(), null, p.getTimeouts());
+        }
+        sb.append("# HELP college_db_pool_acquire_seconds Time spent waiting for a connection\n");
+        sb.append("# TYPE college_db_pool_acquire_seconds summary\n");
+        for (PoolMetrics p : pools) {
+            if (p != null && p.getPoolName() != null)
+                summary(sb, "college_db_pool_acquire_seconds", "pool", p.getPoolName(), p.getAcquireTime());
+        }
+
+        sb.append("# HELP college_reference_cache_requests_total Reference data lookups by result\n");
+        sb.append("# TYPE college_reference_cache_requests_total counter\n");
+        sample(sb, "college_reference_cache_requests_total", "result", "hit", null, cache.getHits());
+        sample(sb, "college_reference_cache_requests_total", "result", "miss", null, cache.getMisses());
+        sb.append("# HELP college_reference_cache_evictions_total Lists evicted to stay within the row limit\n");
+        sb.append("# TYPE college_reference_cache_evictions_total counter\n");
+        sb.append("college_reference_cache_evictions_total ").append(cache.getEvictions()).append('\n');
+        sb.append("# HELP college_reference_cache_rows Rows currently cached\n");
+        sb.append("# TYPE college_reference_cache_rows gauge\n");
+        sb.append("college_reference_cache_rows ").append(cache.getRows()).append('\n');
+        return sb.toString();
+    }
+
+    private static void summary(StringBuilder sb, String name, String label, String value,
+            LatencyHistogram.Snapshot latency) {
+        for (double q : QUANTILES) {
+            sample(sb, name, label, value, "quantile=\"" + q + "\"", latency.getPercentileMillis(q) / 1000);
+        }
+        sample(sb, name + "_sum", label, value, null, latency.getMeanMillis() * latency.getCount() / 1000);
+        sample(sb, name + "_count", label, value, null, latency.getCount());
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, List<QueryMetrics.Stats> queries,
+            ToLongFunction<QueryMetrics.Stats> value) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" counter\n");
+        for (QueryMetrics.Stats s : queries) {
+            sample(sb, name, "caller", s.getCaller(), null, value.applyAsLong(s));
+        }
+    }
+
+    private static void gauge(StringBuilder sb, PoolMetrics pool, String state, long value) {
+        sample(sb, "college_db_pool_connections", "pool", pool.getPoolName(), "state=\"" + state + "\"", value);
+    }
+
+    private static void sample(StringBuilder sb, String name, String label, String value, String extraLabel,
+            double sample) {
+        sb.append(name).append('{').append(label).append("=\"").append(escape(value)).append('"');
+        if (extraLabel != null) {
+            sb.append(',').append(extraLabel);
+        }
+        sb.append("} ");
+        if (sample == Math.rint(sample) && Math.abs(sample) < 1e15) {
+            sb.append((long) sample);
+        } else {
+            sb.append(String.format(Locale.ROOT, "%.6f", sample));
+        }
+        sb.append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
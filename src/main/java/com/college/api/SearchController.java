@@ -0,0 +1,78 @@
+package com.college.api;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpExchange;
+import com.college.services.SearchService;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GET /search?q=text&amp;type=STUDENT,BOOK&amp;page=1&amp;size=20
+ * Ranked global search with per-type hit counts (facets).
+ */
+public class SearchController implements HttpHandler {
+
+    private final SearchService searchService = new SearchService();
+
+    @Override
+    public void handle(HttpExchange t) throws IOException {
+        if (!"GET".equals(t.getRequestMethod())) {
+            ApiResponses.sendResponse(t, 405, "Method Not Allowed");
+            return;
+        }
+        Map<String, String> params;
+        try {
+            params = parseQuery(t.getRequestURI().getRawQuery());
+        } catch (IllegalArgumentException e) {
+            // Malformed percent escape, e.g. q=%zz
+            ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid query string\"}");
+            return;
+        }
+        int page;
+        int size;
+        try {
+            page = Integer.parseInt(params.getOrDefault("page", "1"));
+            size = Integer.parseInt(params.getOrDefault("size", String.valueOf(SearchService.DEFAULT_PAGE_SIZE)));
+        } catch (NumberFormatException e) {
+            ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid page or size\"}");
+            return;
+        }
+
+        List<String> types = new ArrayList<>();
+        String typeParam = params.get("type");
+        if (typeParam != null) {
+            for (String type : typeParam.split(",")) {
+                if (!type.isBlank())
+                    types.add(type.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+
+        try {
+            ApiResponses.sendJson(t, 200, searchService.search(params.get("q"), types, page, size));
+        } catch (Exception e) {
+            ApiResponses.sendServerError(t, e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a key or value has a malformed escape
+     */
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty())
+            return params;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
@@ -6,13 +6,21 @@ import com.college.dao.StudentDAO;
 import com.college.models.Student;
 import com.college.utils.JsonHelper;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class StudentController implements HttpHandler {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final StudentDAO studentDAO = new StudentDAO();
 
     @Override
@@ -24,18 +32,18 @@ public class StudentController implements HttpHandler {
             if ("GET".equals(method))
                 handleGetCourses(t);
             else
-                sendResponse(t, 405, "Method Not Allowed");
+                ApiResponses.sendResponse(t, 405, "Method Not Allowed");
         } else if (path.matches("/students/\\d+/enroll")) {
             if ("POST".equals(method))
                 handleEnroll(t);
             else
-                sendResponse(t, 405, "Method Not Allowed");
+                ApiResponses.sendResponse(t, 405, "Method Not Allowed");
         } else if ("GET".equals(method)) {
             handleGet(t);
         } else if ("POST".equals(method)) {
             handlePost(t);
         } else {
-            sendResponse(t, 405, "Method Not Allowed");
+            ApiResponses.sendResponse(t, 405, "Method Not Allowed");
         }
     }
 
@@ -49,7 +57,7 @@ public class StudentController implements HttpHandler {
     private void handleGetCourses(HttpExchange t) throws IOException {
         int studentId = getIdFromPath(t);
         List<?> courses = studentDAO.getRegisteredCourses(studentId);
-        sendResponse(t, 200, JsonHelper.toJson(courses));
+        ApiResponses.sendJson(t, 200, courses);
     }
 
     private void handleEnroll(HttpExchange t) throws IOException {
@@ -66,24 +74,126 @@ public class StudentController implements HttpHandler {
                 year = Integer.parseInt(body.replaceAll(".*\"year\"\\s*:\\s*(\\d+).*", "$1"));
 
             if (studentDAO.registerCourse(studentId, courseId, semester, year)) {
-                sendResponse(t, 200, "{\"status\":\"Enrolled\"}");
+                ApiResponses.sendResponse(t, 200, "{\"status\":\"Enrolled\"}");
             } else {
-                sendResponse(t, 400, "{\"error\":\"Enrollment failed\"}");
+                ApiResponses.sendResponse(t, 400, "{\"error\":\"Enrollment failed\"}");
             }
         } catch (Exception e) {
-            sendResponse(t, 400, "{\"error\":\"Invalid JSON: " + e.getMessage() + "\"}");
+            ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid JSON: " + e.getMessage() + "\"}");
         }
     }
 
     private void handleGet(HttpExchange t) throws IOException {
         try {
-            List<Student> students = studentDAO.getAllStudents();
-            String json = JsonHelper.toJson(students);
-            sendResponse(t, 200, json);
+            Map<String, String> params = parseQuery(t.getRequestURI().getRawQuery());
+            if (!params.containsKey("after") && !params.containsKey("limit") && !params.containsKey("fields")) {
+                // Legacy behaviour: whole table
+                List<Student> students = studentDAO.getAllStudents();
+                ApiResponses.sendJson(t, 200, students);
+                return;
+            }
+            handleGetPage(t, params);
         } catch (Exception e) {
-            e.printStackTrace();
-            sendResponse(t, 500, "{\"error\":\"" + e.getMessage() + "\"}");
+            ApiResponses.sendServerError(t, e);
+        }
+    }
+
+    /**
+     * GET /students?after=&lt;name,id&gt;&amp;limit=N&amp;fields=id,name,email
+     * Keyset pagination; the cursor for the next page is returned in X-Next-Cursor
+     * when the page is full.
+     */
+    private void handleGetPage(HttpExchange t, Map<String, String> params) throws IOException {
+        int limit = DEFAULT_PAGE_SIZE;
+        if (params.containsKey("limit")) {
+            try {
+                limit = Integer.parseInt(params.get("limit"));
+            } catch (NumberFormatException e) {
+                ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid limit\"}");
+                return;
+            }
+            limit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        }
+
+        String afterName = null;
+        int afterId = 0;
+        String after = params.get("after");
+        if (after != null && !after.isEmpty()) {
+            // Names may contain commas, the id is always after the last one
+            int comma = after.lastIndexOf(',');
+            try {
+                afterId = Integer.parseInt(after.substring(comma + 1).trim());
+                afterName = after.substring(0, comma);
+            } catch (RuntimeException e) {
+                ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid cursor, expected after=<name,id>\"}");
+                return;
+            }
+        }
+
+        List<String> fields = new ArrayList<>();
+        String fieldParam = params.get("fields");
+        if (fieldParam != null && !fieldParam.isBlank()) {
+            for (String field : fieldParam.split(",")) {
+                field = field.trim();
+                if (field.isEmpty())
+                    continue;
+                if (!StudentDAO.getProjectableFields().contains(field)) {
+                    ApiResponses.sendResponse(t, 400, "{\"error\":\"Unknown field: " + field + "\"}");
+                    return;
+                }
+                fields.add(field);
+            }
+        }
+
+        String lastName = null;
+        int lastId = 0;
+        Object body;
+        int size;
+        if (fields.isEmpty()) {
+            List<Student> page = studentDAO.getStudentsPage(afterName, afterId, limit);
+            if (!page.isEmpty()) {
+                Student last = page.get(page.size() - 1);
+                lastName = last.getName();
+                lastId = last.getId();
+            }
+            body = page;
+            size = page.size();
+        } else {
+            List<Map<String, Object>> page = studentDAO.getStudentPageProjection(afterName, afterId, limit, fields);
+            if (!page.isEmpty()) {
+                Map<String, Object> last = page.get(page.size() - 1);
+                lastName = (String) last.get("name");
+                lastId = ((Number) last.get("id")).intValue();
+            }
+            // id and name are always fetched for the cursor; drop them unless requested
+            for (Map<String, Object> row : page) {
+                if (!fields.contains("id"))
+                    row.remove("id");
+                if (!fields.contains("name"))
+                    row.remove("name");
+            }
+            body = page;
+            size = page.size();
         }
+
+        if (size == limit && lastName != null) {
+            t.getResponseHeaders().set(NEXT_CURSOR_HEADER,
+                    URLEncoder.encode(lastName + "," + lastId, StandardCharsets.UTF_8));
+        }
+        ApiResponses.sendJson(t, 200, body);
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty())
+            return params;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
     }
 
     private void handlePost(HttpExchange t) throws IOException {
@@ -93,29 +203,19 @@ public class StudentController implements HttpHandler {
 
             Student student = JsonHelper.fromJson(body, Student.class);
             if (student == null) {
-                sendResponse(t, 400, "{\"error\":\"Invalid JSON\"}");
+                ApiResponses.sendResponse(t, 400, "{\"error\":\"Invalid JSON\"}");
                 return;
             }
 
             int id = studentDAO.addStudent(student, 0);
             if (id > 0) {
                 student.setId(id);
-                sendResponse(t, 201, JsonHelper.toJson(student));
+                ApiResponses.sendJson(t, 201, student);
             } else {
-                sendResponse(t, 400, "{\"error\":\"Failed to create student\"}");
+                ApiResponses.sendResponse(t, 400, "{\"error\":\"Failed to create student\"}");
             }
         } catch (Exception e) {
-            e.printStackTrace();
-            sendResponse(t, 500, "{\"error\":\"" + e.getMessage() + "\"}");
+            ApiResponses.sendServerError(t, e);
         }
     }
-
-    private void sendResponse(HttpExchange t, int statusCode, String response) throws IOException {
-        t.getResponseHeaders().set("Content-Type", "application/json");
-        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
-        t.sendResponseHeaders(statusCode, bytes.length);
-        OutputStream os = t.getResponseBody();
-        os.write(bytes);
-        os.close();
-    }
 }
@@ -137,9 +137,9 @@ public class AnnouncementDAO {
         String sql = "SELECT a.*, u.username as created_by_name FROM announcements a " +
                 "LEFT JOIN users u ON a.created_by = u.id ORDER BY a.created_at DESC";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 announcements.add(extractAnnouncementFromResultSet(rs));
@@ -1,14 +1,21 @@
 package com.college.dao;
 
 import com.college.models.Attendance;
+import com.college.utils.CsvParser;
 import com.college.utils.DatabaseConnection;
+import com.college.utils.EnvConfig;
 import com.college.utils.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Data Access Object for Attendance entity
@@ -16,96 +23,273 @@ import java.util.Map;
  */
 public class AttendanceDAO {
 
+    private static final String BULK_STAGE_TABLE = "CREATE TEMP TABLE attendance_mark_stage (" +
+            "idx INTEGER, student_id INTEGER, course_id INTEGER, date DATE, status TEXT, remarks TEXT, " +
+            "marked_by INTEGER) ON COMMIT DROP";
+
+    private static final String BULK_COPY = "COPY attendance_mark_stage (idx, student_id, course_id, date, " +
+            "status, remarks, marked_by) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String BULK_REJECT_UNKNOWN = "DELETE FROM attendance_mark_stage s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM students st WHERE st.id = s.student_id) " +
+            "OR NOT EXISTS (SELECT 1 FROM courses c WHERE c.id = s.course_id) " +
+            "RETURNING s.idx, EXISTS (SELECT 1 FROM students st WHERE st.id = s.student_id) AS student_ok";
+
+    private static final String BULK_CLEAR_UNKNOWN_MARKERS = "UPDATE attendance_mark_stage s SET marked_by = NULL " +
+            "WHERE s.marked_by IS NOT NULL AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = s.marked_by)";
+
+    // ON CONFLICT cannot touch the same row twice in one statement
+    private static final String BULK_SUPERSEDE = "DELETE FROM attendance_mark_stage s USING attendance_mark_stage t " +
+            "WHERE t.student_id = s.student_id AND t.course_id = s.course_id AND t.date = s.date " +
+            "AND t.idx > s.idx";
+
+    private static final String BULK_LOCK_SUMMARY = "INSERT INTO attendance_summary (student_id, course_id) " +
+            "SELECT DISTINCT student_id, course_id FROM attendance_mark_stage ORDER BY student_id, course_id " +
+            "ON CONFLICT (student_id, course_id) DO UPDATE SET updated_at = attendance_summary.updated_at";
+
+    // All CTEs see the pre-upsert snapshot, so prev holds the replaced statuses
+    private static final String BULK_MERGE = "WITH prev AS ( " +
+            "  SELECT s.student_id, s.course_id, s.status AS new_status, a.status AS old_status " +
+            "  FROM attendance_mark_stage s LEFT JOIN attendance a " +
+            "    ON a.student_id = s.student_id AND a.course_id = s.course_id AND a.date = s.date " +
+            "), up AS ( " +
+            "  INSERT INTO attendance (student_id, course_id, date, status, remarks, marked_by) " +
+            "  SELECT student_id, course_id, date, status, remarks, marked_by FROM attendance_mark_stage " +
+            "  ORDER BY student_id, course_id, date " +
+            "  ON CONFLICT (student_id, course_id, date) DO UPDATE SET " +
+            "  status = EXCLUDED.status, remarks = EXCLUDED.remarks, marked_by = EXCLUDED.marked_by " +
+            "  RETURNING 1 " +
+            "), sums AS ( " +
+            "  UPDATE attendance_summary sm SET present_count = sm.present_count + d.present, " +
+            "  total_count = sm.total_count + d.total, updated_at = CURRENT_TIMESTAMP " +
+            "  FROM (SELECT student_id, course_id, " +
+            "          SUM(CASE WHEN new_status = 'PRESENT' THEN 1 ELSE 0 END " +
+            "            - CASE WHEN old_status = 'PRESENT' THEN 1 ELSE 0 END) AS present, " +
+            "          COUNT(*) FILTER (WHERE old_status IS NULL) AS total " +
+            "        FROM prev GROUP BY student_id, course_id) d " +
+            "  WHERE sm.student_id = d.student_id AND sm.course_id = d.course_id " +
+            "  RETURNING 1 " +
+            ") " +
+            "SELECT COUNT(*) FROM up";
+
     /**
-     * Mark attendance for a student
+     * Mark attendance for a student.
+     * The attendance_summary counters are adjusted in the same transaction.
      * 
      * @param attendance Attendance record to mark
      * @return true if successful, false otherwise
      */
     public boolean markAttendance(Attendance attendance) {
-        String sql = "INSERT INTO attendance (student_id, course_id, date, status, remarks, marked_by) " +
-                "VALUES (?, ?, ?, ?, ?, ?) " +
-                "ON CONFLICT (student_id, course_id, date) DO UPDATE SET " +
-                "status = EXCLUDED.status, " +
-                "remarks = EXCLUDED.remarks, " +
-                "marked_by = EXCLUDED.marked_by"; // updated_at is auto-handled by trigger slightly later but we can
-                                                  // ignore or set it if needed, but schema doesn't show updated_at
-                                                  // column in V1.
+        // Old status is read in the same statement so the counters can be
+        // adjusted for a changed mark (e.g. ABSENT -> PRESENT)
+        String sql = "WITH old AS ( " +
+                "  SELECT status FROM attendance WHERE student_id = ? AND course_id = ? AND date = ? " +
+                "), up AS ( " +
+                "  INSERT INTO attendance (student_id, course_id, date, status, remarks, marked_by) " +
+                "  VALUES (?, ?, ?, ?, ?, ?) " +
+                "  ON CONFLICT (student_id, course_id, date) DO UPDATE SET " +
+                "  status = EXCLUDED.status, " +
+                "  remarks = EXCLUDED.remarks, " +
+                "  marked_by = EXCLUDED.marked_by " +
+                "  RETURNING student_id, course_id, status " +
+                ") " +
+                "UPDATE attendance_summary s SET " +
+                "present_count = s.present_count + (CASE WHEN up.status = 'PRESENT' THEN 1 ELSE 0 END) " +
+                "  - COALESCE((SELECT CASE WHEN old.status = 'PRESENT' THEN 1 ELSE 0 END FROM old), 0), " +
+                "total_count = s.total_count + (CASE WHEN EXISTS (SELECT 1 FROM old) THEN 0 ELSE 1 END), " +
+                "updated_at = CURRENT_TIMESTAMP " +
+                "FROM up WHERE s.student_id = up.student_id AND s.course_id = up.course_id";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false);
 
-            pstmt.setInt(1, attendance.getStudentId());
-            pstmt.setInt(2, attendance.getCourseId());
-            pstmt.setDate(3, new java.sql.Date(attendance.getDate().getTime()));
-            pstmt.setString(4, attendance.getStatus());
-            pstmt.setString(5, attendance.getRemarks());
-            pstmt.setInt(6, 1); // marked_by user_id
+            lockSummaryRows(conn, new int[] { attendance.getStudentId() }, new int[] { attendance.getCourseId() });
 
-            int rowsAffected = pstmt.executeUpdate();
-            return rowsAffected > 0;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                java.sql.Date date = new java.sql.Date(attendance.getDate().getTime());
+                pstmt.setInt(1, attendance.getStudentId());
+                pstmt.setInt(2, attendance.getCourseId());
+                pstmt.setDate(3, date);
+                pstmt.setInt(4, attendance.getStudentId());
+                pstmt.setInt(5, attendance.getCourseId());
+                pstmt.setDate(6, date);
+                pstmt.setString(7, attendance.getStatus());
+                pstmt.setString(8, attendance.getRemarks());
+                if (attendance.getMarkedBy() > 0) {
+                    pstmt.setInt(9, attendance.getMarkedBy());
+                } else {
+                    pstmt.setNull(9, Types.INTEGER);
+                }
+                pstmt.executeUpdate();
+            }
+
+            conn.commit();
+            return true;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
+            rollbackQuietly(conn);
             return false;
+        } finally {
+            closeQuietly(conn);
         }
     }
 
     /**
-     * Mark attendance for multiple students (bulk)
+     * Mark attendance for multiple students (bulk).
      * 
      * @param attendanceList List of attendance records
      * @return number of records marked successfully
+     * @see #markBulkAttendanceChunked(List)
      */
     public int markBulkAttendance(List<Attendance> attendanceList) {
-        String sql = "INSERT INTO attendance (student_id, course_id, date, status, remarks, marked_by) " +
-                "VALUES (?, ?, ?, ?, ?, ?) " +
-                "ON CONFLICT (student_id, course_id, date) DO UPDATE SET " +
-                "status = EXCLUDED.status, " +
-                "remarks = EXCLUDED.remarks, " +
-                "marked_by = EXCLUDED.marked_by";
+        return markBulkAttendanceChunked(attendanceList).getMarked();
+    }
+
+    /**
+     * Mark attendance at department scale.
+     *
+     * Records are loaded in chunks of ATTENDANCE_CHUNK_SIZE (default 5000).
+     * Each chunk is COPYed into a staging table and upserted with one
+     * INSERT ... SELECT ... ON CONFLICT, with the attendance_summary counters
+     * adjusted in the same statement, and committed on its own. A failing
+     * chunk is rolled back and reported without affecting the others; rows
+     * for unknown students or courses are reported individually. When the
+     * same student/course/date appears more than once the last record wins.
+     *
+     * @param attendanceList List of attendance records
+     * @return counts and per-row failures, keyed by index in attendanceList
+     */
+    public BulkMarkResult markBulkAttendanceChunked(List<Attendance> attendanceList) {
+        BulkMarkResult result = new BulkMarkResult();
+        int chunkSize = Math.max(1, EnvConfig.getInt("ATTENDANCE_CHUNK_SIZE", 5000));
+        long started = System.nanoTime();
+
+        List<Integer> chunk = new ArrayList<>(Math.min(chunkSize, attendanceList.size()));
+        for (int i = 0; i < attendanceList.size(); i++) {
+            String error = validateMark(attendanceList.get(i));
+            if (error != null) {
+                result.failures.put(i, error);
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                markChunk(attendanceList, chunk, result);
+                chunk.clear();
+            }
+        }
+        markChunk(attendanceList, chunk, result);
+
+        long elapsed = (System.nanoTime() - started) / 1_000_000;
+        Logger.info(String.format("Bulk attendance: %d marked, %d failed in %d chunks, %d ms",
+                result.getMarked(), result.getFailedCount(), result.getChunks(), elapsed));
+        return result;
+    }
+
+    private static String validateMark(Attendance a) {
+        if (a == null)
+            return "Missing record";
+        if (a.getStudentId() <= 0)
+            return "Missing student";
+        if (a.getCourseId() <= 0)
+            return "Missing course";
+        if (a.getDate() == null)
+            return "Missing date";
+        if (a.getStatus() == null || a.getStatus().isBlank())
+            return "Missing status";
+        return null;
+    }
+
+    private void markChunk(List<Attendance> attendanceList, List<Integer> indexes, BulkMarkResult result) {
+        if (indexes.isEmpty())
+            return;
 
         Connection conn = null;
         try {
             conn = DatabaseConnection.getConnection();
             conn.setAutoCommit(false);
 
-            PreparedStatement pstmt = conn.prepareStatement(sql);
-            int count = 0;
-
-            for (Attendance attendance : attendanceList) {
-                pstmt.setInt(1, attendance.getStudentId());
-                pstmt.setInt(2, attendance.getCourseId());
-                pstmt.setDate(3, new java.sql.Date(attendance.getDate().getTime()));
-                pstmt.setString(4, attendance.getStatus());
-                pstmt.setString(5, attendance.getRemarks());
-                pstmt.setInt(6, 1);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(BULK_STAGE_TABLE);
+            }
 
-                pstmt.addBatch();
-                count++;
+            CopyManager copy = conn.unwrap(PGConnection.class).getCopyAPI();
+            copy.copyIn(BULK_COPY, new StringReader(toCsv(attendanceList, indexes)));
+
+            Map<Integer, String> rejected = new HashMap<>();
+            int superseded;
+            int upserted;
+            try (Statement stmt = conn.createStatement()) {
+                try (ResultSet rs = stmt.executeQuery(BULK_REJECT_UNKNOWN)) {
+                    while (rs.next()) {
+                        rejected.put(rs.getInt("idx"),
+                                rs.getBoolean("student_ok") ? "Unknown course" : "Unknown student");
+                    }
+                }
+                stmt.executeUpdate(BULK_CLEAR_UNKNOWN_MARKERS);
+                superseded = stmt.executeUpdate(BULK_SUPERSEDE);
+                stmt.executeUpdate(BULK_LOCK_SUMMARY);
+                try (ResultSet rs = stmt.executeQuery(BULK_MERGE)) {
+                    rs.next();
+                    upserted = rs.getInt(1);
+                }
             }
 
-            pstmt.executeBatch();
             conn.commit();
-            pstmt.close();
-            return count;
-
-        } catch (SQLException e) {
-            Logger.error("Failed to mark bulk attendance", e);
-            try {
-                if (conn != null)
-                    conn.rollback();
-            } catch (Exception ex) {
+            result.marked += upserted + superseded;
+            result.failures.putAll(rejected);
+            result.chunks++;
+
+        } catch (SQLException | IOException e) {
+            Logger.error("Failed to mark attendance chunk of " + indexes.size() + " records", e);
+            rollbackQuietly(conn);
+            for (int i : indexes) {
+                result.failures.put(i, "Database error: " + e.getMessage());
             }
-            return 0;
         } finally {
-            try {
-                if (conn != null) {
-                    conn.setAutoCommit(true);
-                    conn.close();
-                }
-            } catch (Exception ex) {
-            }
+            closeQuietly(conn);
+        }
+    }
+
+    private static String toCsv(List<Attendance> attendanceList, List<Integer> indexes) {
+        StringBuilder sb = new StringBuilder(indexes.size() * 48);
+        for (int i : indexes) {
+            Attendance a = attendanceList.get(i);
+            sb.append(CsvParser.toLine(i, a.getStudentId(), a.getCourseId(),
+                    new java.sql.Date(a.getDate().getTime()), a.getStatus(), a.getRemarks(),
+                    a.getMarkedBy() > 0 ? a.getMarkedBy() : null))
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Outcome of {@link #markBulkAttendanceChunked(List)}
+     */
+    public static class BulkMarkResult {
+        private int marked;
+        private int chunks;
+        private final Map<Integer, String> failures = new TreeMap<>();
+
+        /** Records written (including ones superseded by a later duplicate) */
+        public int getMarked() {
+            return marked;
+        }
+
+        /** Chunks committed */
+        public int getChunks() {
+            return chunks;
+        }
+
+        /** Index in the submitted list -> reason, in index order */
+        public Map<Integer, String> getFailures() {
+            return failures;
+        }
+
+        public int getFailedCount() {
+            return failures.size();
         }
     }
 
@@ -181,10 +365,7 @@ public class AttendanceDAO {
      * @return Attendance percentage (0-100)
      */
     public double getAttendancePercentage(int studentId, int courseId) {
-        String sql = "SELECT " +
-                "COUNT(*) as total, " +
-                "SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END) as present_count " +
-                "FROM attendance " +
+        String sql = "SELECT present_count, total_count FROM attendance_summary " +
                 "WHERE student_id = ? AND course_id = ?";
 
         try (Connection conn = DatabaseConnection.getConnection();
@@ -195,7 +376,7 @@ public class AttendanceDAO {
 
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
-                int total = rs.getInt("total");
+                int total = rs.getInt("total_count");
                 int present = rs.getInt("present_count");
 
                 if (total > 0) {
@@ -217,13 +398,8 @@ public class AttendanceDAO {
      */
     public Map<Integer, Double> getCourseAttendanceStats(int courseId) {
         Map<Integer, Double> stats = new HashMap<>();
-        String sql = "SELECT " +
-                "student_id, " +
-                "COUNT(*) as total, " +
-                "SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END) as present_count " +
-                "FROM attendance " +
-                "WHERE course_id = ? " +
-                "GROUP BY student_id";
+        String sql = "SELECT student_id, present_count, total_count FROM attendance_summary " +
+                "WHERE course_id = ? AND total_count > 0";
 
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -233,11 +409,40 @@ public class AttendanceDAO {
 
             while (rs.next()) {
                 int studentId = rs.getInt("student_id");
-                int total = rs.getInt("total");
+                int total = rs.getInt("total_count");
                 int present = rs.getInt("present_count");
 
-                double percentage = total > 0 ? (double) present / total * 100.0 : 0.0;
-                stats.put(studentId, percentage);
+                stats.put(studentId, (double) present / total * 100.0);
+            }
+
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return stats;
+    }
+
+    /**
+     * Attendance percentage of every student of a course, keyed by the
+     * student's name, in one query
+     *
+     * @param courseId Course ID
+     * @return student name and attendance percentage, ordered by name
+     */
+    public List<Map.Entry<String, Double>> getCourseAttendanceByStudentName(int courseId) {
+        List<Map.Entry<String, Double>> stats = new ArrayList<>();
+        String sql = "SELECT s.name, a.present_count, a.total_count FROM attendance_summary a " +
+                "JOIN students s ON s.id = a.student_id " +
+                "WHERE a.course_id = ? AND a.total_count > 0 ORDER BY s.name";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, courseId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    double percentage = (double) rs.getInt("present_count") / rs.getInt("total_count") * 100.0;
+                    stats.add(Map.entry(rs.getString("name"), percentage));
+                }
             }
 
         } catch (SQLException e) {
@@ -255,17 +460,111 @@ public class AttendanceDAO {
      */
     public List<Integer> getLowAttendanceStudents(int courseId, double threshold) {
         List<Integer> studentIds = new ArrayList<>();
-        Map<Integer, Double> stats = getCourseAttendanceStats(courseId);
+        String sql = "SELECT student_id FROM attendance_summary " +
+                "WHERE course_id = ? AND total_count > 0 AND present_count * 100.0 < ? * total_count";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-        for (Map.Entry<Integer, Double> entry : stats.entrySet()) {
-            if (entry.getValue() < threshold) {
-                studentIds.add(entry.getKey());
+            pstmt.setInt(1, courseId);
+            pstmt.setDouble(2, threshold);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                studentIds.add(rs.getInt("student_id"));
             }
-        }
 
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
         return studentIds;
     }
 
+    /**
+     * Recompute attendance_summary from the attendance table.
+     * Use to backfill after bulk changes made outside this DAO.
+     *
+     * @return number of summary rows written, or -1 on failure
+     */
+    public int rebuildAttendanceSummary() {
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            int rows;
+            try (Statement stmt = conn.createStatement()) {
+                // Blocks concurrent marking until the rebuild commits
+                stmt.execute("LOCK TABLE attendance_summary IN EXCLUSIVE MODE");
+                stmt.executeUpdate("DELETE FROM attendance_summary");
+                rows = stmt.executeUpdate(
+                        "INSERT INTO attendance_summary (student_id, course_id, present_count, total_count) " +
+                                "SELECT student_id, course_id, COUNT(*) FILTER (WHERE status = 'PRESENT'), COUNT(*) " +
+                                "FROM attendance WHERE student_id IS NOT NULL AND course_id IS NOT NULL " +
+                                "GROUP BY student_id, course_id");
+            }
+
+            conn.commit();
+            Logger.info("Rebuilt attendance summary: " + rows + " rows");
+            return rows;
+
+        } catch (SQLException e) {
+            Logger.error("Failed to rebuild attendance summary", e);
+            rollbackQuietly(conn);
+            return -1;
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Make sure summary rows exist for the given (student, course) pairs and
+     * lock them for the rest of the transaction, so concurrent markings of
+     * the same student/course apply their counter deltas one after another.
+     */
+    private void lockSummaryRows(Connection conn, int[] studentIds, int[] courseIds) throws SQLException {
+        if (studentIds.length == 0)
+            return;
+        String sql = "INSERT INTO attendance_summary (student_id, course_id) " +
+                "SELECT DISTINCT t.student_id, t.course_id FROM unnest(?::int[], ?::int[]) AS t(student_id, course_id) " +
+                "ORDER BY t.student_id, t.course_id " +
+                "ON CONFLICT (student_id, course_id) DO UPDATE SET updated_at = attendance_summary.updated_at";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setArray(1, conn.createArrayOf("integer", box(studentIds)));
+            pstmt.setArray(2, conn.createArrayOf("integer", box(courseIds)));
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static Integer[] box(int[] values) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private void rollbackQuietly(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException ex) {
+                Logger.error("Rollback failed", ex);
+            }
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+                conn.close();
+            } catch (SQLException e) {
+                Logger.error("Connection close failed", e);
+            }
+        }
+    }
+
     /**
      * Helper method to extract Attendance object from ResultSet
      * 
@@ -280,6 +579,7 @@ public class AttendanceDAO {
         attendance.setDate(rs.getDate("date"));
         attendance.setStatus(rs.getString("status"));
         attendance.setRemarks(rs.getString("remarks"));
+        attendance.setMarkedBy(rs.getInt("marked_by"));
 
         // Set display fields if available
         try {
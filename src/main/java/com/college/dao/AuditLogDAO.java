@@ -17,44 +17,32 @@ public class AuditLogDAO {
 
     /**
      * Log an action to the audit log
+     * The entry is queued and written in the background by {@link AuditLogWriter}
      */
     public static void logAction(int userId, String username, String action,
             String entityType, Integer entityId, String details) {
-        String sql = "INSERT INTO audit_logs (user_id, username, action, entity_type, entity_id, details) " +
-                "VALUES (?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, userId);
-            pstmt.setString(2, username);
-            pstmt.setString(3, action);
-            pstmt.setString(4, entityType);
-            if (entityId != null) {
-                pstmt.setInt(5, entityId);
-            } else {
-                pstmt.setNull(5, Types.INTEGER);
-            }
-            pstmt.setString(6, details);
-
-            pstmt.executeUpdate();
+        AuditLogWriter.getInstance().enqueue(userId, username, action, entityType, entityId, details);
+    }
 
-        } catch (SQLException e) {
-            // Don't throw exceptions for audit logging - fail silently
-            System.err.println("Audit log error: " + e.getMessage());
-        }
+    /**
+     * Write any queued audit entries now
+     */
+    public static void flush() {
+        AuditLogWriter.getInstance().flush();
     }
 
     /**
      * Get all audit logs
      */
     public static List<AuditLog> getAllLogs() {
+        flush(); // Include entries still waiting in the write buffer
         List<AuditLog> logs = new ArrayList<>();
         String sql = "SELECT * FROM audit_logs ORDER BY timestamp DESC LIMIT 1000";
 
+        // Primary, not the replica: the rows flushed above may not have replicated yet
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 logs.add(mapResultSetToAuditLog(rs));
@@ -71,6 +59,7 @@ public class AuditLogDAO {
      * Get logs by user ID
      */
     public static List<AuditLog> getLogsByUser(int userId) {
+        flush(); // Include entries still waiting in the write buffer
         List<AuditLog> logs = new ArrayList<>();
         String sql = "SELECT * FROM audit_logs WHERE user_id = ? ORDER BY timestamp DESC LIMIT 500";
 
@@ -95,6 +84,7 @@ public class AuditLogDAO {
      * Get logs by username
      */
     public static List<AuditLog> getLogsByUser(String username, int limit) {
+        flush(); // Include entries still waiting in the write buffer
         List<AuditLog> logs = new ArrayList<>();
         String sql = "SELECT * FROM audit_logs WHERE username = ? ORDER BY timestamp DESC LIMIT ?";
 
@@ -146,6 +136,7 @@ public class AuditLogDAO {
      * Get recent logs (last N entries)
      */
     public static List<AuditLog> getRecentLogs(int limit) {
+        flush(); // Include entries still waiting in the write buffer
         List<AuditLog> logs = new ArrayList<>();
         String sql = "SELECT * FROM audit_logs ORDER BY timestamp DESC LIMIT ?";
 
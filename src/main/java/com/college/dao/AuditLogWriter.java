@@ -0,0 +1,242 @@
+package com.college.dao;
+
+import com.college.utils.DatabaseConnection;
+import com.college.utils.EnvConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for audit log entries.
+ *
+ * Callers enqueue into a bounded buffer and return immediately. A daemon
+ * thread drains the buffer every AUDIT_FLUSH_INTERVAL_MS or as soon as
+ * AUDIT_BATCH_SIZE entries are waiting, and writes them with one multi-row
+ * INSERT. When the buffer (AUDIT_QUEUE_CAPACITY) is full new entries are
+ * dropped and counted rather than blocking the caller. Pending entries are
+ * flushed before the connection pool closes.
+ */
+public class AuditLogWriter {
+
+    private static final int COLUMNS = 7;
+    private static final long SHUTDOWN_JOIN_MILLIS = 5000;
+
+    private static AuditLogWriter instance;
+
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Object writeLock = new Object();
+    // Entries the worker had taken off the queue when it stopped; written by shutdown()
+    private final List<Entry> leftover = new ArrayList<>();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running = true;
+    private final Thread worker;
+
+    private AuditLogWriter(int capacity, int batchSize, long flushIntervalMillis) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(10, flushIntervalMillis);
+
+        this.worker = new Thread(this::run, "audit-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+        DatabaseConnection.registerShutdownTask(this::shutdown);
+    }
+
+    public static synchronized AuditLogWriter getInstance() {
+        if (instance == null) {
+            instance = new AuditLogWriter(
+                    EnvConfig.getInt("AUDIT_QUEUE_CAPACITY", 10000),
+                    EnvConfig.getInt("AUDIT_BATCH_SIZE", 200),
+                    EnvConfig.getInt("AUDIT_FLUSH_INTERVAL_MS", 500));
+        }
+        return instance;
+    }
+
+    /**
+     * Queue an entry for writing. Never blocks.
+     *
+     * @return false if the buffer was full and the entry was dropped
+     */
+    public boolean enqueue(int userId, String username, String action,
+            String entityType, Integer entityId, String details) {
+        Entry entry = new Entry(userId, username, action, entityType, entityId, details,
+                new Timestamp(System.currentTimeMillis()));
+        if (!running || !queue.offer(entry)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Write everything currently queued on the calling thread
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Stop the background thread and write what is left.
+     *
+     * The worker is only interrupted outside a write and hands any entries it
+     * was holding back instead of writing them, so this thread alone writes
+     * the tail before the pool closes.
+     */
+    public void shutdown() {
+        synchronized (writeLock) {
+            if (!running)
+                return;
+            running = false;
+            worker.interrupt();
+        }
+        try {
+            worker.join(SHUTDOWN_JOIN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            System.err.println("Audit writer did not stop within " + SHUTDOWN_JOIN_MILLIS + "ms");
+        }
+        synchronized (writeLock) {
+            writeBatch(leftover);
+            leftover.clear();
+        }
+        flush();
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+
+                // Wait up to one interval for a full batch
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                queue.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Entry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                synchronized (writeLock) {
+                    // shutdown() sets running under this lock, so no interrupt can hit the write
+                    if (!running)
+                        break;
+                    writeBatch(batch);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        synchronized (writeLock) {
+            leftover.addAll(batch);
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) {
+        if (batch.isEmpty())
+            return;
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO audit_logs (user_id, username, action, entity_type, entity_id, details, timestamp) VALUES ");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int idx = 0;
+            for (Entry e : batch) {
+                int base = idx * COLUMNS;
+                pstmt.setInt(base + 1, e.userId);
+                pstmt.setString(base + 2, e.username);
+                pstmt.setString(base + 3, e.action);
+                pstmt.setString(base + 4, e.entityType);
+                if (e.entityId != null) {
+                    pstmt.setInt(base + 5, e.entityId);
+                } else {
+                    pstmt.setNull(base + 5, Types.INTEGER);
+                }
+                pstmt.setString(base + 6, e.details);
+                pstmt.setTimestamp(base + 7, e.timestamp);
+                idx++;
+            }
+
+            pstmt.executeUpdate();
+            written.addAndGet(batch.size());
+
+        } catch (SQLException e) {
+            // Don't throw exceptions for audit logging - fail silently
+            failed.addAndGet(batch.size());
+            System.err.println("Audit log error (" + batch.size() + " entries): " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        final int userId;
+        final String username;
+        final String action;
+        final String entityType;
+        final Integer entityId;
+        final String details;
+        final Timestamp timestamp;
+
+        Entry(int userId, String username, String action, String entityType, Integer entityId,
+                String details, Timestamp timestamp) {
+            this.userId = userId;
+            this.username = username;
+            this.action = action;
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.details = details;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -94,9 +94,9 @@ public class BookIssueDAO {
                 "JOIN books b ON bi.book_id = b.id " +
                 "WHERE bi.status = 'ISSUED' ORDER BY bi.due_date";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 issues.add(extractIssueFromResultSet(rs));
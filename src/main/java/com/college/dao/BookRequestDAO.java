@@ -52,8 +52,8 @@ public class BookRequestDAO {
         List<BookRequest> requests = new ArrayList<>();
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 requests.add(extractRequestFromResultSet(rs));
@@ -224,8 +224,8 @@ public class BookRequestDAO {
         String sql = "SELECT COUNT(*) as count FROM book_requests WHERE status = 'PENDING'";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             if (rs.next()) {
                 return rs.getInt("count");
@@ -25,9 +25,9 @@ public class ClubDAO {
                 "WHERE c.status = 'ACTIVE' " +
                 "ORDER BY c.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 clubs.add(extractClub(rs));
@@ -54,7 +54,7 @@ public class CommunityDAO {
     public List<Campaign> getAllCampaigns() {
         List<Campaign> list = new ArrayList<>();
         String sql = "SELECT * FROM campaigns";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql);
                 ResultSet rs = pstmt.executeQuery()) {
             while (rs.next()) {
@@ -135,9 +135,9 @@ public class CommunityDAO {
     public List<Scholarship> getAllScholarships() {
         List<Scholarship> list = new ArrayList<>();
         String sql = "SELECT * FROM scholarships";
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 Scholarship s = new Scholarship();
                 s.setId(rs.getInt("id"));
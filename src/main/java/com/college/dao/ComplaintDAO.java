@@ -81,9 +81,9 @@ public class ComplaintDAO {
                 "LEFT JOIN users u ON c.resolved_by = u.id " +
                 "ORDER BY CASE WHEN c.status = 'OPEN' THEN 1 ELSE 2 END, c.created_at DESC";
         List<Complaint> list = new ArrayList<>();
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 Complaint c = extractComplaint(rs);
@@ -3,10 +3,13 @@ package com.college.dao;
 import com.college.models.Course;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Course entity
@@ -38,34 +41,43 @@ public class CourseDAO {
             }
             pstmt.setString(10, course.getSpecialization());
 
-            return pstmt.executeUpdate() > 0;
+            boolean added = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return added;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
             return false;
         }
     }
 
+    /**
+     * All courses with department and faculty names (cached, see
+     * {@link ReferenceDataCache})
+     */
     public List<Course> getAllCourses() {
+        try {
+            return ReferenceDataCache.getInstance().get(ReferenceDataCache.COURSES, "all", this::loadAllCourses,
+                    Course::new);
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private List<Course> loadAllCourses() throws SQLException {
         List<Course> courses = new ArrayList<>();
         String sql = "SELECT c.*, d.name as dept_name, f.name as faculty_name FROM courses c " +
                 "LEFT JOIN departments d ON c.department_id = d.id " +
                 "LEFT JOIN faculty f ON c.faculty_id = f.id " +
                 "ORDER BY c.code";
 
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            if (conn == null) {
-                Logger.error("Database connection failed");
-                return courses;
-            }
-            try (Statement stmt = conn.createStatement();
-                    ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
-                while (rs.next()) {
-                    courses.add(extractCourseFromResultSet(rs));
-                }
+            while (rs.next()) {
+                courses.add(extractCourseFromResultSet(rs));
             }
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
         }
         return courses;
     }
@@ -176,7 +188,9 @@ public class CourseDAO {
             pstmt.setString(10, course.getSpecialization());
             pstmt.setInt(11, course.getId());
 
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return updated;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
             return false;
@@ -233,6 +247,7 @@ public class CourseDAO {
             }
 
             conn.commit(); // Commit transaction
+            invalidateCache();
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -257,6 +272,10 @@ public class CourseDAO {
         }
     }
 
+    private void invalidateCache() {
+        ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
+    }
+
     // Faculty Assignment
     public boolean assignFaculty(int courseId, int facultyId) {
         String sql = "UPDATE courses SET faculty_id = ? WHERE id = ?";
@@ -268,7 +287,9 @@ public class CourseDAO {
                 pstmt.setNull(1, Types.INTEGER);
             }
             pstmt.setInt(2, courseId);
-            return pstmt.executeUpdate() > 0;
+            boolean assigned = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return assigned;
         } catch (SQLException e) {
             Logger.error("Assign faculty failed", e);
             return false;
@@ -277,9 +298,82 @@ public class CourseDAO {
 
     // Workload
     public static class WorkloadStats {
+        public int facultyId;
         public int count;
         public int credits;
         public int totalStudents;
+
+        public WorkloadStats() {
+        }
+
+        WorkloadStats(WorkloadStats other) {
+            this.facultyId = other.facultyId;
+            this.count = other.count;
+            this.credits = other.credits;
+            this.totalStudents = other.totalStudents;
+        }
+    }
+
+    private static final String WORKLOAD_ALL_SQL = "SELECT faculty_id, COUNT(*) AS cnt, "
+            + "SUM(credits) AS total_credits, SUM(enrolled_count) AS total_students "
+            + "FROM courses WHERE faculty_id IS NOT NULL GROUP BY faculty_id";
+
+    private static final String WORKLOAD_BY_DEPARTMENT_SQL = "SELECT c.faculty_id, COUNT(*) AS cnt, "
+            + "SUM(c.credits) AS total_credits, SUM(c.enrolled_count) AS total_students "
+            + "FROM courses c JOIN faculty f ON f.id = c.faculty_id "
+            + "WHERE f.department = ? GROUP BY c.faculty_id";
+
+    /**
+     * Workload of every faculty member in one grouped query.
+     *
+     * @return stats by faculty id; faculty without courses are absent
+     */
+    public Map<Integer, WorkloadStats> getWorkloadForAllFaculty() {
+        return getWorkloadForAllFaculty(null);
+    }
+
+    /**
+     * Workload of every faculty member of a department (all departments when
+     * null). Cached with the course list, so it is invalidated by the same
+     * writes (assignFaculty, course and enrolment changes).
+     *
+     * @return stats by faculty id; faculty without courses are absent
+     */
+    public Map<Integer, WorkloadStats> getWorkloadForAllFaculty(String department) {
+        Map<Integer, WorkloadStats> byFaculty = new HashMap<>();
+        try {
+            List<WorkloadStats> rows = ReferenceDataCache.getInstance().get(ReferenceDataCache.COURSES,
+                    department == null ? "workload" : "workload:" + department,
+                    () -> loadWorkload(department), WorkloadStats::new);
+            for (WorkloadStats stats : rows) {
+                byFaculty.put(stats.facultyId, stats);
+            }
+        } catch (SQLException e) {
+            Logger.error("Workload fetch failed", e);
+        }
+        return byFaculty;
+    }
+
+    private List<WorkloadStats> loadWorkload(String department) throws SQLException {
+        List<WorkloadStats> rows = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(
+                        department == null ? WORKLOAD_ALL_SQL : WORKLOAD_BY_DEPARTMENT_SQL)) {
+            if (department != null) {
+                pstmt.setString(1, department);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    WorkloadStats stats = new WorkloadStats();
+                    stats.facultyId = rs.getInt("faculty_id");
+                    stats.count = rs.getInt("cnt");
+                    stats.credits = rs.getInt("total_credits");
+                    stats.totalStudents = rs.getInt("total_students");
+                    rows.add(stats);
+                }
+            }
+        }
+        return rows;
     }
 
     public WorkloadStats getFacultyWorkload(int facultyId) {
@@ -290,6 +384,7 @@ public class CourseDAO {
             pstmt.setInt(1, facultyId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
+                stats.facultyId = facultyId;
                 stats.count = rs.getInt("cnt");
                 stats.credits = rs.getInt("total_credits");
                 stats.totalStudents = rs.getInt("total_students");
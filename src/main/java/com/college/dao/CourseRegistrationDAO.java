@@ -2,6 +2,7 @@ package com.college.dao;
 
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -185,6 +186,8 @@ public class CourseRegistrationDAO {
             }
 
             conn.commit();
+            // Course listings show enrolled_count
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
             return true;
         } catch (SQLException e) {
             Logger.error("Approve failed", e);
@@ -296,6 +299,7 @@ public class CourseRegistrationDAO {
             }
 
             conn.commit();
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
             return true;
 
         } catch (SQLException e) {
@@ -0,0 +1,63 @@
+package com.college.dao;
+
+import com.college.models.DashboardStats;
+import com.college.utils.DatabaseConnection;
+import com.college.utils.Logger;
+
+import java.sql.*;
+
+/**
+ * DAO for dashboard aggregates
+ * Computes every home screen counter in a single round trip
+ */
+public class DashboardDAO {
+
+    // Joins mirror the list queries the counters used to be derived from
+    private static final String STATS_SQL = "SELECT " +
+            "(SELECT COUNT(*) FROM students) AS student_count, " +
+            "(SELECT COUNT(*) FROM faculty) AS faculty_count, " +
+            "(SELECT COUNT(*) FROM users) AS user_count, " +
+            "(SELECT COUNT(*) FROM departments) AS department_count, " +
+            "(SELECT COUNT(*) FROM courses) AS course_count, " +
+            "(SELECT COUNT(*) FROM books) AS book_count, " +
+            "(SELECT COUNT(*) FROM rooms r JOIN hostels h ON r.hostel_id = h.id) AS hostel_room_count, " +
+            "(SELECT COUNT(*) FROM gate_passes gp JOIN students s ON gp.student_id = s.id " +
+            "WHERE gp.status = 'PENDING') AS pending_gate_pass_count, " +
+            "(SELECT COUNT(*) FROM fee_categories WHERE is_active = TRUE) AS fee_category_count, " +
+            "(SELECT COALESCE(SUM(amount), 0) FROM fee_payments WHERE payment_date = CURRENT_DATE) AS todays_collection, "
+            +
+            "(SELECT COALESCE(SUM(total_amount - paid_amount), 0) FROM student_fees WHERE status != 'PAID') AS total_pending";
+
+    /**
+     * Load all dashboard counters
+     *
+     * @return stats, or null if the query failed
+     */
+    public DashboardStats getStats() {
+        // Primary, not the replica: DashboardStatsService reloads right after
+        // invalidate() and would otherwise cache counters from before the write
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(STATS_SQL);
+                ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                DashboardStats stats = new DashboardStats();
+                stats.setStudentCount(rs.getInt("student_count"));
+                stats.setFacultyCount(rs.getInt("faculty_count"));
+                stats.setUserCount(rs.getInt("user_count"));
+                stats.setDepartmentCount(rs.getInt("department_count"));
+                stats.setCourseCount(rs.getInt("course_count"));
+                stats.setBookCount(rs.getInt("book_count"));
+                stats.setHostelRoomCount(rs.getInt("hostel_room_count"));
+                stats.setPendingGatePassCount(rs.getInt("pending_gate_pass_count"));
+                stats.setFeeCategoryCount(rs.getInt("fee_category_count"));
+                stats.setTodaysCollection(rs.getDouble("todays_collection"));
+                stats.setTotalPendingFees(rs.getDouble("total_pending"));
+                return stats;
+            }
+        } catch (SQLException e) {
+            Logger.error("Failed to load dashboard stats", e);
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package com.college.dao;
 import com.college.models.Department;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -14,22 +15,29 @@ import java.util.List;
 public class DepartmentDAO {
 
     /**
-     * Get all departments
+     * Get all departments (cached, see {@link ReferenceDataCache})
      */
     public List<Department> getAllDepartments() {
+        try {
+            return ReferenceDataCache.getInstance().get(ReferenceDataCache.DEPARTMENTS, "all",
+                    this::loadAllDepartments, Department::new);
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private List<Department> loadAllDepartments() throws SQLException {
         List<Department> departments = new ArrayList<>();
         String sql = "SELECT * FROM departments ORDER BY name";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 departments.add(extractDepartmentFromResultSet(rs));
             }
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
         }
 
         return departments;
@@ -72,7 +80,9 @@ public class DepartmentDAO {
             pstmt.setString(3, department.getDescription());
             pstmt.setString(4, department.getHeadOfDepartment());
 
-            return pstmt.executeUpdate() > 0;
+            boolean added = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return added;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -95,7 +105,9 @@ public class DepartmentDAO {
             pstmt.setString(4, department.getHeadOfDepartment());
             pstmt.setInt(5, department.getId());
 
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return updated;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -113,7 +125,9 @@ public class DepartmentDAO {
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            invalidateCache();
+            return deleted;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -121,6 +135,12 @@ public class DepartmentDAO {
         }
     }
 
+    // Course listings carry the department name
+    private void invalidateCache() {
+        ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.DEPARTMENTS);
+        ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
+    }
+
     /**
      * Search departments by name or code
      */
@@ -128,7 +148,7 @@ public class DepartmentDAO {
         List<Department> departments = new ArrayList<>();
         String sql = "SELECT * FROM departments WHERE name ILIKE ? OR code ILIKE ? ORDER BY name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             String searchPattern = "%" + query + "%";
@@ -94,9 +94,9 @@ public class EmployeeDAO {
                 "WHERE r.code NOT IN ('STUDENT') " +
                 "ORDER BY u.username";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 Employee e = new Employee();
@@ -173,8 +173,8 @@ public class EmployeeDAO {
             // join" complexity.
 
             // Get all employees
-            try (Statement stmt2 = conn.createStatement();
-                    ResultSet rs2 = stmt2.executeQuery("SELECT * FROM employees")) {
+            try (PreparedStatement stmt2 = conn.prepareStatement("SELECT * FROM employees");
+                    ResultSet rs2 = stmt2.executeQuery()) {
 
                 while (rs2.next()) {
                     String empIdStr = rs2.getString("employee_id");
@@ -3,8 +3,10 @@ package com.college.dao;
 import com.college.models.FeeCategory;
 import com.college.models.StudentFee;
 import com.college.models.FeePayment;
+import com.college.services.DashboardStatsService;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -16,15 +18,25 @@ import java.util.List;
 public class EnhancedFeeDAO {
 
     /**
-     * Get all fee categories
+     * Get all fee categories (cached, see {@link ReferenceDataCache})
      */
     public List<FeeCategory> getAllCategories() {
+        try {
+            return ReferenceDataCache.getInstance().get(ReferenceDataCache.FEE_CATEGORIES, "active",
+                    this::loadActiveCategories, FeeCategory::new);
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private List<FeeCategory> loadActiveCategories() throws SQLException {
         List<FeeCategory> categories = new ArrayList<>();
         String sql = "SELECT * FROM fee_categories WHERE is_active = TRUE ORDER BY category_name";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 FeeCategory category = new FeeCategory();
@@ -35,9 +47,6 @@ public class EnhancedFeeDAO {
                 category.setActive(rs.getBoolean("is_active"));
                 categories.add(category);
             }
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
         }
 
         return categories;
@@ -48,7 +57,11 @@ public class EnhancedFeeDAO {
      */
     public boolean assignFeeToStudent(StudentFee studentFee) {
         try (Connection conn = DatabaseConnection.getConnection()) {
-            return assignFeeToStudent(conn, studentFee);
+            boolean assigned = assignFeeToStudent(conn, studentFee);
+            if (assigned) {
+                DashboardStatsService.getInstance().invalidate();
+            }
+            return assigned;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
             return false;
@@ -119,7 +132,9 @@ public class EnhancedFeeDAO {
     }
 
     /**
-     * Record payment with validation
+     * Record payment with validation.
+     * Amounts above the remaining balance are capped; the receipt number and
+     * final amount are set on the payment. See {@link #recordPayments(List)}.
      */
     public boolean recordPayment(FeePayment payment) {
         // Validate payment amount
@@ -128,66 +143,119 @@ public class EnhancedFeeDAO {
             return false;
         }
 
-        // Check if payment would exceed total fee
-        String checkSql = "SELECT total_amount, paid_amount FROM student_fees WHERE id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-
-            checkStmt.setInt(1, payment.getStudentFeeId());
-            ResultSet rs = checkStmt.executeQuery();
+        return !recordPayments(List.of(payment)).isEmpty();
+    }
 
-            if (rs.next()) {
-                double totalAmount = rs.getDouble("total_amount");
-                double paidAmount = rs.getDouble("paid_amount");
-                double remaining = totalAmount - paidAmount;
-
-                if (payment.getAmount() > remaining) {
-                    Logger.warn(String.format("Payment amount %.2f exceeds remaining fee %.2f",
-                            payment.getAmount(), remaining));
-                    // Optionally allow overpayment or reject it
-                    // For now, we'll cap it at remaining amount
-                    payment.setAmount(remaining);
-                }
-            }
-        } catch (SQLException e) {
-            Logger.error("Failed to validate payment", e);
-            return false;
+    /**
+     * Record a batch of payments (e.g. a bank reconciliation import) in one
+     * statement.
+     *
+     * The affected student_fees rows are locked, each payment is capped at
+     * what is still owed (taking earlier payments in the batch for the same
+     * fee into account), receipt numbers come from fee_receipt_seq and
+     * paid_amount/status are incremented in place. Payments with nothing left
+     * to pay, or a non-positive amount, are skipped. Either the whole batch is
+     * recorded or none of it is.
+     *
+     * @return the payments that were recorded, with id, receipt number and
+     *         final amount set
+     */
+    public List<FeePayment> recordPayments(List<FeePayment> payments) {
+        List<FeePayment> recorded = new ArrayList<>();
+        if (payments == null || payments.isEmpty()) {
+            return recorded;
         }
 
-        // Generate receipt number
-        String receiptNumber = generateReceiptNumber();
-        payment.setReceiptNumber(receiptNumber);
-
-        String sql = "INSERT INTO fee_payments (student_fee_id, payment_date, amount, payment_mode, " +
-                "transaction_id, receipt_number, received_by, remarks) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = "WITH req AS ( " +
+                "  SELECT t.* FROM unnest(?::int[], ?::date[], ?::float8[], ?::text[], ?::text[], ?::int[], ?::text[]) " +
+                "    WITH ORDINALITY AS t(student_fee_id, payment_date, amount, payment_mode, transaction_id, " +
+                "                         received_by, remarks, ord) " +
+                "  WHERE t.amount > 0 " +
+                "), fee AS ( " +
+                "  SELECT id, total_amount - COALESCE(paid_amount, 0) AS remaining FROM student_fees " +
+                "  WHERE id IN (SELECT student_fee_id FROM req) FOR UPDATE " +
+                "), capped AS ( " +
+                "  SELECT req.*, LEAST(req.amount::numeric, GREATEST(fee.remaining - COALESCE(SUM(req.amount::numeric) " +
+                "    OVER (PARTITION BY req.student_fee_id ORDER BY req.ord " +
+                "          ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0), 0)) AS paid " +
+                "  FROM req JOIN fee ON fee.id = req.student_fee_id " +
+                "), numbered AS ( " +
+                "  SELECT c.*, nextval('fee_receipt_seq') AS seq FROM (SELECT * FROM capped WHERE paid > 0 ORDER BY ord) c " +
+                "), receipts AS ( " +
+                "  SELECT n.*, 'RCP' || lpad(n.seq::text, GREATEST(6, length(n.seq::text)), '0') AS receipt_number " +
+                "  FROM numbered n " +
+                "), ins AS ( " +
+                "  INSERT INTO fee_payments (student_fee_id, payment_date, amount, payment_mode, " +
+                "    transaction_id, receipt_number, received_by, remarks) " +
+                "  SELECT student_fee_id, payment_date, paid, payment_mode, transaction_id, receipt_number, " +
+                "    received_by, remarks FROM receipts " +
+                "  RETURNING id, receipt_number " +
+                "), upd AS ( " +
+                "  UPDATE student_fees sf SET paid_amount = COALESCE(sf.paid_amount, 0) + t.total, " +
+                "    status = CASE WHEN COALESCE(sf.paid_amount, 0) + t.total >= sf.total_amount THEN 'PAID' " +
+                "                  WHEN COALESCE(sf.paid_amount, 0) + t.total > 0 THEN 'PARTIAL' " +
+                "                  ELSE 'PENDING' END " +
+                "  FROM (SELECT student_fee_id, SUM(paid) AS total FROM receipts GROUP BY student_fee_id) t " +
+                "  WHERE sf.id = t.student_fee_id " +
+                ") " +
+                "SELECT r.ord, i.id, i.receipt_number, r.paid FROM ins i " +
+                "JOIN receipts r ON r.receipt_number = i.receipt_number ORDER BY r.ord";
+
+        int n = payments.size();
+        Integer[] feeIds = new Integer[n];
+        java.sql.Date[] dates = new java.sql.Date[n];
+        Double[] amounts = new Double[n];
+        String[] modes = new String[n];
+        String[] transactionIds = new String[n];
+        Integer[] receivedBy = new Integer[n];
+        String[] remarks = new String[n];
+        for (int i = 0; i < n; i++) {
+            FeePayment p = payments.get(i);
+            feeIds[i] = p.getStudentFeeId();
+            dates[i] = p.getPaymentDate() != null
+                    ? new java.sql.Date(p.getPaymentDate().getTime())
+                    : new java.sql.Date(System.currentTimeMillis());
+            amounts[i] = p.getAmount();
+            modes[i] = p.getPaymentMode();
+            transactionIds[i] = p.getTransactionId();
+            receivedBy[i] = p.getReceivedBy();
+            remarks[i] = p.getRemarks();
+        }
 
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setInt(1, payment.getStudentFeeId());
-            pstmt.setDate(2, new java.sql.Date(payment.getPaymentDate().getTime()));
-            pstmt.setDouble(3, payment.getAmount());
-            pstmt.setString(4, payment.getPaymentMode());
-            pstmt.setString(5, payment.getTransactionId());
-            pstmt.setString(6, receiptNumber);
-            if (payment.getReceivedBy() != null) {
-                pstmt.setInt(7, payment.getReceivedBy());
-            } else {
-                pstmt.setNull(7, Types.INTEGER);
-            }
-            pstmt.setString(8, payment.getRemarks());
-
-            if (pstmt.executeUpdate() > 0) {
-                // Update student_fees paid amount and status
-                updateStudentFeeStatus(payment.getStudentFeeId());
-                return true;
+            pstmt.setArray(1, conn.createArrayOf("integer", feeIds));
+            pstmt.setArray(2, conn.createArrayOf("date", dates));
+            pstmt.setArray(3, conn.createArrayOf("float8", amounts));
+            pstmt.setArray(4, conn.createArrayOf("text", modes));
+            pstmt.setArray(5, conn.createArrayOf("text", transactionIds));
+            pstmt.setArray(6, conn.createArrayOf("integer", receivedBy));
+            pstmt.setArray(7, conn.createArrayOf("text", remarks));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    FeePayment p = payments.get(rs.getInt("ord") - 1);
+                    double paid = rs.getDouble("paid");
+                    if (paid < p.getAmount()) {
+                        Logger.warn(String.format("Payment amount %.2f exceeds remaining fee %.2f",
+                                p.getAmount(), paid));
+                    }
+                    p.setId(rs.getInt("id"));
+                    p.setReceiptNumber(rs.getString("receipt_number"));
+                    p.setAmount(paid);
+                    recorded.add(p);
+                }
             }
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
 
-        return false;
+        if (!recorded.isEmpty()) {
+            DashboardStatsService.getInstance().invalidate();
+        }
+        return recorded;
     }
 
     /**
@@ -232,8 +300,8 @@ public class EnhancedFeeDAO {
                 "WHERE sf.status != 'PAID' ORDER BY sf.due_date";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 fees.add(extractStudentFeeFromResultSet(rs));
@@ -258,9 +326,9 @@ public class EnhancedFeeDAO {
                 "JOIN fee_categories fc ON sf.category_id = fc.id " +
                 "ORDER BY sf.due_date DESC"; // Ordered by date descending
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 fees.add(extractStudentFeeFromResultSet(rs));
@@ -310,62 +378,10 @@ public class EnhancedFeeDAO {
         return payments;
     }
 
-    /**
-     * Update student fee status based on payments
-     */
-    private void updateStudentFeeStatus(int studentFeeId) {
-        String sql = "UPDATE student_fees SET " +
-                "paid_amount = (SELECT COALESCE(SUM(amount), 0) FROM fee_payments WHERE student_fee_id = ?), " +
-                "status = CASE " +
-                "    WHEN (SELECT COALESCE(SUM(amount), 0) FROM fee_payments WHERE student_fee_id = ?) >= total_amount THEN 'PAID' "
-                +
-                "    WHEN (SELECT COALESCE(SUM(amount), 0) FROM fee_payments WHERE student_fee_id = ?) > 0 THEN 'PARTIAL' "
-                +
-                "    ELSE 'PENDING' " +
-                "END " +
-                "WHERE id = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, studentFeeId);
-            pstmt.setInt(2, studentFeeId);
-            pstmt.setInt(3, studentFeeId);
-            pstmt.setInt(4, studentFeeId);
-            pstmt.executeUpdate();
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
-        }
-    }
-
-    /**
-     * Generate receipt number
-     */
-    private String generateReceiptNumber() {
-        String sql = "SELECT MAX(CAST(SUBSTRING(receipt_number, 5) AS INTEGER)) as max_num " +
-                "FROM fee_payments WHERE receipt_number LIKE 'RCP%'";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
-
-            if (rs.next()) {
-                int maxNum = rs.getInt("max_num");
-                return String.format("RCP%06d", maxNum + 1);
-            }
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
-        }
-
-        return "RCP000001";
-    }
-
     /**
      * Extract StudentFee from ResultSet
      */
-    private StudentFee extractStudentFeeFromResultSet(ResultSet rs) throws SQLException {
+    StudentFee extractStudentFeeFromResultSet(ResultSet rs) throws SQLException {
         StudentFee fee = new StudentFee();
         fee.setId(rs.getInt("id"));
         fee.setStudentId(rs.getInt("student_id"));
@@ -401,12 +417,17 @@ public class EnhancedFeeDAO {
                         "JOIN fee_categories fc ON sf.category_id = fc.id ");
 
         if (keyword != null && !keyword.isEmpty()) {
-            sql.append("WHERE s.name ILIKE ? OR fp.receipt_number ILIKE ? OR u.username ILIKE ? ");
+            // Matched per table so the trigram indexes (V52) can be used
+            sql.append("WHERE fp.id IN (SELECT id FROM fee_payments WHERE receipt_number ILIKE ? ")
+                    .append("UNION SELECT p.id FROM fee_payments p JOIN student_fees f ON p.student_fee_id = f.id ")
+                    .append("WHERE f.student_id IN (SELECT id FROM students WHERE name ILIKE ? ")
+                    .append("UNION SELECT st.id FROM students st JOIN users us ON us.id = st.user_id ")
+                    .append("WHERE us.username ILIKE ?)) ");
         }
 
         sql.append("ORDER BY fp.payment_date DESC");
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
 
             if (keyword != null && !keyword.isEmpty()) {
@@ -449,8 +470,8 @@ public class EnhancedFeeDAO {
     public double getTodaysCollectionAmount() {
         String sql = "SELECT SUM(amount) as total FROM fee_payments WHERE payment_date = CURRENT_DATE";
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return rs.getDouble("total");
             }
@@ -468,8 +489,8 @@ public class EnhancedFeeDAO {
         // PAID
         String sql = "SELECT SUM(total_amount - paid_amount) as pending FROM student_fees WHERE status != 'PAID'";
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return rs.getDouble("pending");
             }
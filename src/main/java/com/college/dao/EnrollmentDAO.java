@@ -1,6 +1,7 @@
 package com.college.dao;
 
 import com.college.models.Student;
+import com.college.services.DashboardStatsService;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
 import com.college.utils.EnrollmentGenerator;
@@ -36,6 +37,9 @@ public class EnrollmentDAO {
 
             // 1. Generate Enrollment Number
             String enrollmentNumber = EnrollmentGenerator.generateStudentEnrollment(student.getDepartment());
+            if (enrollmentNumber == null) {
+                throw new SQLException("Failed to allocate enrollment number.");
+            }
             student.setUsername(enrollmentNumber);
 
             // 2. Create User Account with Role ID
@@ -77,6 +81,7 @@ public class EnrollmentDAO {
             assignCoreCourses(conn, studentId, student);
 
             conn.commit(); // Commit Transaction
+            DashboardStatsService.getInstance().invalidate();
             return student;
 
         } catch (SQLException e) {
@@ -4,6 +4,7 @@ import com.college.models.Event;
 import com.college.models.EventRegistration;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.SqlCatalog;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -14,6 +15,12 @@ import java.util.List;
  */
 public class EventDAO {
 
+    // UPCOMING -> ONGOING once started, UPCOMING/ONGOING -> COMPLETED once ended
+    private static final SqlCatalog.Query UPDATE_EVENT_STATUSES = SqlCatalog.define("EventDAO.updateEventStatuses",
+            "UPDATE events SET status = CASE WHEN end_time <= NOW() THEN 'COMPLETED' ELSE 'ONGOING' END " +
+                    "WHERE (status IN ('UPCOMING', 'ONGOING') AND end_time <= NOW()) " +
+                    "OR (status = 'UPCOMING' AND start_time <= NOW() AND end_time > NOW())");
+
     public List<Event> getAllEvents() {
         List<Event> events = new ArrayList<>();
         String sql = "SELECT e.*, " +
@@ -25,9 +32,9 @@ public class EventDAO {
                 "GROUP BY e.id, u.username " +
                 "ORDER BY e.start_time DESC";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 events.add(extractEvent(rs));
@@ -51,8 +58,8 @@ public class EventDAO {
                 "ORDER BY e.start_time ASC";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 events.add(extractEvent(rs));
@@ -314,17 +321,10 @@ public class EventDAO {
     }
 
     public void updateEventStatuses() {
-        String ongoingSql = "UPDATE events SET status = 'ONGOING' " +
-                "WHERE status = 'UPCOMING' AND start_time <= NOW() AND end_time > NOW()";
-        String completedSql = "UPDATE events SET status = 'COMPLETED' " +
-                "WHERE (status = 'UPCOMING' OR status = 'ONGOING') AND end_time <= NOW()";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement()) {
+                PreparedStatement stmt = UPDATE_EVENT_STATUSES.prepare(conn)) {
 
-            stmt.addBatch(ongoingSql);
-            stmt.addBatch(completedSql);
-            stmt.executeBatch();
+            stmt.executeUpdate();
 
         } catch (SQLException e) {
             Logger.error("Error auto-updating event statuses: " + e.getMessage());
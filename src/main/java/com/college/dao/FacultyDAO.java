@@ -3,6 +3,7 @@ package com.college.dao;
 import com.college.models.Faculty;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -90,6 +91,8 @@ public class FacultyDAO {
             pstmt.setInt(8, faculty.getId());
 
             int rowsAffected = pstmt.executeUpdate();
+            // Course listings carry the faculty name
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -112,6 +115,7 @@ public class FacultyDAO {
 
             pstmt.setInt(1, facultyId);
             int rowsAffected = pstmt.executeUpdate();
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.COURSES);
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -163,9 +167,9 @@ public class FacultyDAO {
                 "LEFT JOIN roles r ON u.role_id = r.id " +
                 "ORDER BY f.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 facultyList.add(extractFacultyFromResultSet(rs));
@@ -191,7 +195,7 @@ public class FacultyDAO {
                 "LEFT JOIN roles r ON u.role_id = r.id " +
                 "WHERE f.name ILIKE ? OR f.email ILIKE ? ORDER BY f.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             String searchPattern = "%" + keyword + "%";
@@ -137,8 +137,8 @@ public class GatePassDAO {
                 "ORDER BY gp.requested_at ASC";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 passes.add(mapResultSetToGatePass(rs));
@@ -165,9 +165,9 @@ public class GatePassDAO {
                 "ORDER BY gp.requested_at DESC " +
                 "LIMIT 500";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 passes.add(mapResultSetToGatePass(rs));
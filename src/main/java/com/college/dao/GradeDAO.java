@@ -224,9 +224,9 @@ public class GradeDAO {
                 "LEFT JOIN departments d ON c.department_id = d.id " +
                 "ORDER BY s.name, c.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 grades.add(extractGradeFromResultSet(rs));
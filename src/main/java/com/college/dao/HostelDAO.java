@@ -3,35 +3,53 @@ package com.college.dao;
 import com.college.models.Hostel;
 import com.college.models.Room;
 import com.college.models.HostelAllocation;
+import com.college.services.DashboardStatsService;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.ReferenceDataCache;
+import com.college.utils.SqlCatalog;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DAO for Hostel Management operations
  */
 public class HostelDAO {
 
+    private static final SqlCatalog.Query TOTAL_HOSTEL_STUDENTS = SqlCatalog.define("HostelDAO.getTotalHostelStudents",
+            "SELECT COUNT(*) FROM students WHERE is_hostelite = TRUE");
+
+    private static final SqlCatalog.Query TOTAL_AVAILABLE_CAPACITY = SqlCatalog.define(
+            "HostelDAO.getTotalAvailableCapacity", "SELECT SUM(capacity - occupied_count) FROM rooms");
+
     /**
      * Get all hostels
      */
     public List<Hostel> getAllHostels() {
+        try {
+            return ReferenceDataCache.getInstance().get(ReferenceDataCache.HOSTELS, "all", this::loadAllHostels,
+                    Hostel::new);
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private List<Hostel> loadAllHostels() throws SQLException {
         List<Hostel> hostels = new ArrayList<>();
         String sql = "SELECT * FROM hostels ORDER BY name";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 hostels.add(extractHostelFromResultSet(rs));
             }
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
         }
 
         return hostels;
@@ -46,9 +64,9 @@ public class HostelDAO {
                 "JOIN hostels h ON r.hostel_id = h.id " +
                 "ORDER BY h.name, r.floor, r.room_number";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 rooms.add(extractRoomFromResultSet(rs));
@@ -114,30 +132,47 @@ public class HostelDAO {
     }
 
     /**
-     * Allocate room to student
+     * Allocate room to student.
+     *
+     * The occupancy increment and the allocation insert run as one statement:
+     * the room row is only updated while it has a free bed and the
+     * student has no active allocation, so concurrent allocations cannot
+     * overbook a room. Returns false when the room is full or the student is
+     * already housed.
      */
     public boolean allocateRoom(HostelAllocation allocation) {
-        String sql = "INSERT INTO hostel_allocations (student_id, room_id, check_in_date, remarks, allocated_by, status) "
-                +
-                "VALUES (?, ?, ?, ?, ?, 'ACTIVE')";
+        String sql = "WITH room AS ( " +
+                "  UPDATE rooms SET occupied_count = occupied_count + 1, " +
+                "    status = CASE WHEN occupied_count + 1 >= capacity THEN 'FULL' ELSE 'AVAILABLE' END " +
+                "  WHERE id = ? AND occupied_count < capacity " +
+                "    AND NOT EXISTS (SELECT 1 FROM hostel_allocations " +
+                "                    WHERE student_id = ? AND status = 'ACTIVE') " +
+                "  RETURNING id) " +
+                "INSERT INTO hostel_allocations (student_id, room_id, check_in_date, remarks, allocated_by, status) " +
+                "SELECT ?, room.id, ?, ?, ?, 'ACTIVE' FROM room " +
+                "RETURNING id";
 
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setInt(1, allocation.getStudentId());
-            pstmt.setInt(2, allocation.getRoomId());
-            pstmt.setDate(3, new java.sql.Date(allocation.getCheckInDate().getTime()));
-            pstmt.setString(4, allocation.getRemarks());
+            pstmt.setInt(1, allocation.getRoomId());
+            pstmt.setInt(2, allocation.getStudentId());
+            pstmt.setInt(3, allocation.getStudentId());
+            pstmt.setDate(4, new java.sql.Date(allocation.getCheckInDate().getTime()));
+            pstmt.setString(5, allocation.getRemarks());
             if (allocation.getAllocatedBy() != null) {
-                pstmt.setInt(5, allocation.getAllocatedBy());
+                pstmt.setInt(6, allocation.getAllocatedBy());
             } else {
-                pstmt.setNull(5, Types.INTEGER);
+                pstmt.setNull(6, Types.INTEGER);
             }
 
-            if (pstmt.executeUpdate() > 0) {
-                // Update room occupied count
-                updateRoomOccupancy(allocation.getRoomId(), 1);
-                return true;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    allocation.setId(rs.getInt("id"));
+                    allocation.setStatus("ACTIVE");
+                    DashboardStatsService.getInstance().invalidate();
+                    return true;
+                }
             }
 
         } catch (SQLException e) {
@@ -148,25 +183,116 @@ public class HostelDAO {
     }
 
     /**
-     * Vacate room
+     * Allocate rooms for a batch of students (e.g. an incoming cohort) in one
+     * statement.
+     *
+     * Requests are served in list order; a request is skipped when its room
+     * has no free beds left or the student already has an active allocation.
+     * Room rows are locked for the duration of the statement, so concurrent
+     * single allocations cannot overbook either.
+     *
+     * @return the allocations that were placed, with their ids set
      */
-    public boolean vacateRoom(int allocationId) {
-        // Get allocation first to update room
-        HostelAllocation allocation = getAllocationById(allocationId);
-        if (allocation == null) {
-            return false;
+    public List<HostelAllocation> allocateRooms(List<HostelAllocation> allocations) {
+        List<HostelAllocation> placed = new ArrayList<>();
+        if (allocations == null || allocations.isEmpty()) {
+            return placed;
         }
 
-        String sql = "UPDATE hostel_allocations SET status = 'VACATED', check_out_date = CURRENT_DATE WHERE id = ?";
+        String sql = "WITH req AS ( " +
+                "  SELECT * FROM unnest(?::int[], ?::int[], ?::date[], ?::text[], ?::int[]) " +
+                "    WITH ORDINALITY AS t(student_id, room_id, check_in_date, remarks, allocated_by, ord) " +
+                "), eligible AS ( " +
+                "  SELECT DISTINCT ON (req.student_id) req.* FROM req " +
+                "  WHERE NOT EXISTS (SELECT 1 FROM hostel_allocations ha " +
+                "                    WHERE ha.student_id = req.student_id AND ha.status = 'ACTIVE') " +
+                "  ORDER BY req.student_id, req.ord " +
+                "), locked AS ( " +
+                "  SELECT r.id, r.capacity - r.occupied_count AS free FROM rooms r " +
+                "  WHERE r.id IN (SELECT room_id FROM eligible) FOR UPDATE " +
+                "), accepted AS ( " +
+                "  SELECT e.* FROM ( " +
+                "    SELECT eligible.*, row_number() OVER (PARTITION BY room_id ORDER BY ord) AS rn FROM eligible " +
+                "  ) e JOIN locked l ON l.id = e.room_id WHERE e.rn <= l.free " +
+                "), bumped AS ( " +
+                "  UPDATE rooms r SET occupied_count = r.occupied_count + a.n, " +
+                "    status = CASE WHEN r.occupied_count + a.n >= r.capacity THEN 'FULL' ELSE 'AVAILABLE' END " +
+                "  FROM (SELECT room_id, count(*) AS n FROM accepted GROUP BY room_id) a " +
+                "  WHERE r.id = a.room_id " +
+                ") " +
+                "INSERT INTO hostel_allocations (student_id, room_id, check_in_date, remarks, allocated_by, status) " +
+                "SELECT student_id, room_id, check_in_date, remarks, allocated_by, 'ACTIVE' FROM accepted ORDER BY ord " +
+                "RETURNING id, student_id";
+
+        int n = allocations.size();
+        Integer[] studentIds = new Integer[n];
+        Integer[] roomIds = new Integer[n];
+        java.sql.Date[] checkInDates = new java.sql.Date[n];
+        String[] remarks = new String[n];
+        Integer[] allocatedBy = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            HostelAllocation a = allocations.get(i);
+            studentIds[i] = a.getStudentId();
+            roomIds[i] = a.getRoomId();
+            checkInDates[i] = new java.sql.Date(a.getCheckInDate().getTime());
+            remarks[i] = a.getRemarks();
+            allocatedBy[i] = a.getAllocatedBy();
+        }
 
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setInt(1, allocationId);
+            pstmt.setArray(1, conn.createArrayOf("integer", studentIds));
+            pstmt.setArray(2, conn.createArrayOf("integer", roomIds));
+            pstmt.setArray(3, conn.createArrayOf("date", checkInDates));
+            pstmt.setArray(4, conn.createArrayOf("text", remarks));
+            pstmt.setArray(5, conn.createArrayOf("integer", allocatedBy));
+
+            Map<Integer, Integer> idsByStudent = new HashMap<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    idsByStudent.put(rs.getInt("student_id"), rs.getInt("id"));
+                }
+            }
+
+            for (HostelAllocation a : allocations) {
+                Integer id = idsByStudent.remove(a.getStudentId());
+                if (id != null) {
+                    a.setId(id);
+                    a.setStatus("ACTIVE");
+                    placed.add(a);
+                }
+            }
+
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+
+        if (!placed.isEmpty()) {
+            DashboardStatsService.getInstance().invalidate();
+        }
+        return placed;
+    }
+
+    /**
+     * Vacate room. Marks the allocation vacated and frees the bed in one
+     * statement; allocations that are not active are left untouched.
+     */
+    public boolean vacateRoom(int allocationId) {
+        String sql = "WITH vacated AS ( " +
+                "  UPDATE hostel_allocations SET status = 'VACATED', check_out_date = CURRENT_DATE " +
+                "  WHERE id = ? AND status = 'ACTIVE' " +
+                "  RETURNING room_id) " +
+                "UPDATE rooms r SET occupied_count = GREATEST(r.occupied_count - 1, 0), " +
+                "  status = CASE WHEN r.occupied_count - 1 >= r.capacity THEN 'FULL' ELSE 'AVAILABLE' END " +
+                "FROM vacated v WHERE r.id = v.room_id";
 
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, allocationId);
             if (pstmt.executeUpdate() > 0) {
-                // Update room occupied count
-                updateRoomOccupancy(allocation.getRoomId(), -1);
+                DashboardStatsService.getInstance().invalidate();
                 return true;
             }
 
@@ -189,9 +315,9 @@ public class HostelDAO {
                 "JOIN hostels h ON r.hostel_id = h.id " +
                 "WHERE ha.status = 'ACTIVE' ORDER BY h.name, r.room_number";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 allocations.add(extractAllocationFromResultSet(rs));
@@ -248,54 +374,6 @@ public class HostelDAO {
         }
     }
 
-    /**
-     * Update room occupancy
-     */
-    private void updateRoomOccupancy(int roomId, int change) {
-        String sql = "UPDATE rooms SET occupied_count = occupied_count + ?, " +
-                "status = CASE WHEN occupied_count >= capacity THEN 'FULL' ELSE 'AVAILABLE' END " +
-                "WHERE id = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, change);
-            pstmt.setInt(2, roomId);
-            pstmt.executeUpdate();
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
-        }
-    }
-
-    /**
-     * Get allocation by ID
-     */
-    private HostelAllocation getAllocationById(int id) {
-        String sql = "SELECT ha.*, s.name as student_name, r.room_number, h.name as hostel_name " +
-                "FROM hostel_allocations ha " +
-                "JOIN students s ON ha.student_id = s.id " +
-                "JOIN rooms r ON ha.room_id = r.id " +
-                "JOIN hostels h ON r.hostel_id = h.id " +
-                "WHERE ha.id = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                return extractAllocationFromResultSet(rs);
-            }
-
-        } catch (SQLException e) {
-            Logger.error("Database operation failed", e);
-        }
-
-        return null;
-    }
-
     /**
      * Add new hostel
      */
@@ -315,7 +393,9 @@ public class HostelDAO {
             pstmt.setInt(6, hostel.getTotalCapacity());
             pstmt.setString(7, hostel.getAddress());
 
-            return pstmt.executeUpdate() > 0;
+            boolean added = pstmt.executeUpdate() > 0;
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.HOSTELS);
+            return added;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -341,7 +421,9 @@ public class HostelDAO {
             pstmt.setString(7, hostel.getAddress());
             pstmt.setInt(8, hostel.getId());
 
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.HOSTELS);
+            return updated;
         } catch (SQLException e) {
             Logger.error("Failed to update hostel: " + hostel.getId(), e);
             return false;
@@ -356,7 +438,9 @@ public class HostelDAO {
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            ReferenceDataCache.getInstance().invalidate(ReferenceDataCache.HOSTELS);
+            return deleted;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
@@ -449,10 +533,9 @@ public class HostelDAO {
      * Get total number of students in hostels
      */
     public int getTotalHostelStudents() {
-        String sql = "SELECT COUNT(*) FROM students WHERE is_hostelite = TRUE";
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = TOTAL_HOSTEL_STUDENTS.prepare(conn);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return rs.getInt(1);
             }
@@ -466,10 +549,9 @@ public class HostelDAO {
      * Get total available capacity across all hostels
      */
     public int getTotalAvailableCapacity() {
-        String sql = "SELECT SUM(capacity - occupied_count) FROM rooms";
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = TOTAL_AVAILABLE_CAPACITY.prepare(conn);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return rs.getInt(1);
             }
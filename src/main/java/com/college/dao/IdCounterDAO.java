@@ -0,0 +1,67 @@
+package com.college.dao;
+
+import com.college.utils.DatabaseConnection;
+import com.college.utils.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DAO for the id_counters table used by {@link com.college.services.IdAllocator}
+ */
+public class IdCounterDAO {
+
+    /**
+     * Reserve size consecutive values for a scope.
+     *
+     * The first reservation for a scope seeds the counter from the highest
+     * existing username of the form prefix + digits, so numbering continues
+     * where the old MAX lookups left off.
+     *
+     * @return the first reserved value, or -1 on failure
+     */
+    public long reserveBlock(String scope, String usernamePrefix, int size) {
+        String updateSql = "UPDATE id_counters SET next_value = next_value + ?, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE scope = ? RETURNING next_value - ? AS block_start";
+
+        String seedSql = "INSERT INTO id_counters AS c (scope, next_value) " +
+                "SELECT ?, COALESCE(MAX(CAST(SUBSTRING(username FROM ?) AS BIGINT)), 0) + 1 + ? " +
+                "FROM users WHERE username ~ ? " +
+                "ON CONFLICT (scope) DO UPDATE SET next_value = c.next_value + ?, updated_at = CURRENT_TIMESTAMP " +
+                "RETURNING next_value - ? AS block_start";
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(updateSql)) {
+                pstmt.setInt(1, size);
+                pstmt.setString(2, scope);
+                pstmt.setInt(3, size);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getLong("block_start");
+                    }
+                }
+            }
+
+            // First use of this scope
+            try (PreparedStatement pstmt = conn.prepareStatement(seedSql)) {
+                pstmt.setString(1, scope);
+                pstmt.setInt(2, usernamePrefix.length() + 1);
+                pstmt.setInt(3, size);
+                pstmt.setString(4, "^" + usernamePrefix + "[0-9]{1,15}$");
+                pstmt.setInt(5, size);
+                pstmt.setInt(6, size);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getLong("block_start");
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return -1;
+    }
+}
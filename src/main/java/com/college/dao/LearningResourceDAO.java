@@ -80,9 +80,9 @@ public class LearningResourceDAO {
     public List<ResourceCategory> getAllCategories() {
         List<ResourceCategory> categories = new ArrayList<>();
         String sql = "SELECT * FROM resource_categories ORDER BY name";
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 categories.add(new ResourceCategory(
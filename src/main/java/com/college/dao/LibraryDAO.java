@@ -56,9 +56,9 @@ public class LibraryDAO {
         List<Book> books = new ArrayList<>();
         String sql = "SELECT * FROM books ORDER BY title";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 books.add(extractBookFromResultSet(rs));
@@ -52,8 +52,8 @@ public class NotificationDAO {
         List<Notification> list = new ArrayList<>();
         String sql = "SELECT * FROM notifications WHERE status = 'PENDING'";
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 list.add(mapRow(rs));
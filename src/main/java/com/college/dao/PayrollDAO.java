@@ -86,9 +86,9 @@ public class PayrollDAO {
     public List<PayrollEntry> getAllPayrollEntries() {
         List<PayrollEntry> list = new ArrayList<>();
         String sql = "SELECT * FROM payroll_entries ORDER BY year DESC, month DESC, employee_id";
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 PayrollEntry p = mapResultSetToPayrollEntry(rs);
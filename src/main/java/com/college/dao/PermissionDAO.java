@@ -17,9 +17,9 @@ public class PermissionDAO {
         List<Permission> permissions = new ArrayList<>();
         String sql = "SELECT * FROM permissions ORDER BY category, name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 permissions.add(extractPermissionFromResultSet(rs));
@@ -97,9 +97,9 @@ public class PermissionDAO {
         List<String> categories = new ArrayList<>();
         String sql = "SELECT DISTINCT category FROM permissions ORDER BY category";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 categories.add(rs.getString("category"));
@@ -17,7 +17,7 @@ public class PlacementDAO {
     public List<PlacementCompany> getAllCompanies() {
         List<PlacementCompany> list = new ArrayList<>();
         String sql = "SELECT * FROM placement_companies ORDER BY name";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
@@ -61,7 +61,7 @@ public class PlacementDAO {
     public List<PlacementDrive> getAllDrives() {
         List<PlacementDrive> list = new ArrayList<>();
         String sql = "SELECT d.*, c.name as company_name FROM placement_drives d JOIN placement_companies c ON d.company_id = c.id ORDER BY d.drive_date";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
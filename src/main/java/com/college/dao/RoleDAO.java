@@ -4,6 +4,8 @@ import com.college.models.Permission;
 import com.college.models.Role;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.PermissionCache;
+import com.college.utils.SqlCatalog;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -14,6 +16,13 @@ import java.util.List;
  */
 public class RoleDAO {
 
+    private static final SqlCatalog.Query ROLE_FOR_USER = SqlCatalog.define("RoleDAO.getRoleForUser",
+            "SELECT r.* FROM roles r INNER JOIN users u ON u.role_id = r.id WHERE u.id = ?");
+
+    private static final SqlCatalog.Query PERMISSIONS_FOR_ROLE = SqlCatalog.define("RoleDAO.loadPermissionsForRole",
+            "SELECT p.* FROM permissions p INNER JOIN role_permissions rp ON rp.permission_id = p.id "
+                    + "WHERE rp.role_id = ?");
+
     public List<Role> getAllRoles() {
         List<Role> roles = new ArrayList<>();
 
@@ -25,9 +34,9 @@ public class RoleDAO {
                 "LEFT JOIN permissions p ON p.id = rp.permission_id " +
                 "ORDER BY r.name, p.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             Role currentRole = null;
             int currentRoleId = -1;
@@ -114,12 +123,8 @@ public class RoleDAO {
     }
 
     public Role getRoleForUser(int userId) {
-        String sql = "SELECT r.* FROM roles r " +
-                "INNER JOIN users u ON u.role_id = r.id " +
-                "WHERE u.id = ?";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql)) {
+                PreparedStatement stmt = ROLE_FOR_USER.prepare(conn)) {
 
             stmt.setInt(1, userId);
             ResultSet rs = stmt.executeQuery();
@@ -173,7 +178,9 @@ public class RoleDAO {
             stmt.setString(4, role.getPortalType());
             stmt.setInt(5, role.getId());
 
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            PermissionCache.getInstance().invalidateRole(role.getId());
+            return updated;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
@@ -188,7 +195,9 @@ public class RoleDAO {
 
             stmt.setInt(1, roleId);
             stmt.setInt(2, permissionId);
-            return stmt.executeUpdate() > 0;
+            boolean assigned = stmt.executeUpdate() > 0;
+            PermissionCache.getInstance().invalidateRole(roleId);
+            return assigned;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
@@ -203,7 +212,9 @@ public class RoleDAO {
 
             stmt.setInt(1, roleId);
             stmt.setInt(2, permissionId);
-            return stmt.executeUpdate() > 0;
+            boolean removed = stmt.executeUpdate() > 0;
+            PermissionCache.getInstance().invalidateRole(roleId);
+            return removed;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
@@ -234,6 +245,7 @@ public class RoleDAO {
             }
 
             conn.commit();
+            PermissionCache.getInstance().invalidateRole(roleId);
             return true;
         } catch (SQLException e) {
             Logger.error("Failed to set role permissions", e);
@@ -279,7 +291,9 @@ public class RoleDAO {
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, roleId);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            PermissionCache.getInstance().invalidateAll();
+            return deleted;
         } catch (SQLException e) {
             Logger.error("Failed to delete role", e);
             return false;
@@ -294,7 +308,9 @@ public class RoleDAO {
 
             stmt.setInt(1, roleId);
             stmt.setInt(2, userId);
-            return stmt.executeUpdate() > 0;
+            boolean assigned = stmt.executeUpdate() > 0;
+            PermissionCache.getInstance().invalidateUser(userId);
+            return assigned;
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
         }
@@ -302,11 +318,7 @@ public class RoleDAO {
     }
 
     private void loadPermissionsForRole(Connection conn, Role role) {
-        String sql = "SELECT p.* FROM permissions p " +
-                "INNER JOIN role_permissions rp ON rp.permission_id = p.id " +
-                "WHERE rp.role_id = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = PERMISSIONS_FOR_ROLE.prepare(conn)) {
             stmt.setInt(1, role.getId());
 
             try (ResultSet rs = stmt.executeQuery()) {
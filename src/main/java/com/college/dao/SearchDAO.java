@@ -0,0 +1,155 @@
+package com.college.dao;
+
+import com.college.models.SearchResult;
+import com.college.utils.DatabaseConnection;
+import com.college.utils.Logger;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Access Object for the global search.
+ * Matches use ILIKE on columns with pg_trgm GIN indexes (V52) and are
+ * ranked by trigram similarity to the query.
+ */
+public class SearchDAO {
+
+    public static final String STUDENT = "STUDENT";
+    public static final String FACULTY = "FACULTY";
+    public static final String BOOK = "BOOK";
+    public static final String USER = "USER";
+
+    // Per entity type: the select list (every ? is the query, for scoring) and
+    // the FROM/WHERE clause (every ? is the ILIKE pattern)
+    private static final Map<String, String[]> SOURCES = new LinkedHashMap<>();
+
+    static {
+        SOURCES.put(STUDENT, new String[] {
+                "s.id AS entity_id, s.name AS title, COALESCE(u.username, s.email) AS subtitle, "
+                        + "GREATEST(similarity(s.name, ?), similarity(s.email, ?), "
+                        + "similarity(COALESCE(u.username, ''), ?)) AS score",
+                // Match each table separately so both sides can use their trigram indexes
+                "FROM students s LEFT JOIN users u ON u.id = s.user_id "
+                        + "WHERE s.id IN (SELECT id FROM students WHERE name ILIKE ? OR email ILIKE ? "
+                        + "UNION SELECT st.id FROM students st JOIN users us ON us.id = st.user_id "
+                        + "WHERE us.username ILIKE ?)" });
+        SOURCES.put(FACULTY, new String[] {
+                "f.id AS entity_id, f.name AS title, COALESCE(f.department, f.email) AS subtitle, "
+                        + "GREATEST(similarity(f.name, ?), similarity(f.email, ?)) AS score",
+                "FROM faculty f WHERE f.name ILIKE ? OR f.email ILIKE ?" });
+        SOURCES.put(BOOK, new String[] {
+                "b.id AS entity_id, b.title AS title, b.author AS subtitle, "
+                        + "GREATEST(similarity(b.title, ?), similarity(b.author, ?), "
+                        + "similarity(COALESCE(b.isbn, ''), ?)) AS score",
+                "FROM books b WHERE b.title ILIKE ? OR b.author ILIKE ? OR b.isbn ILIKE ?" });
+        SOURCES.put(USER, new String[] {
+                "u.id AS entity_id, u.username AS title, COALESCE(r.name, u.role) AS subtitle, "
+                        + "similarity(u.username, ?) AS score",
+                "FROM users u LEFT JOIN roles r ON r.id = u.role_id WHERE u.username ILIKE ?" });
+    }
+
+    /**
+     * Searchable entity types, in display order
+     */
+    public static List<String> getEntityTypes() {
+        return List.copyOf(SOURCES.keySet());
+    }
+
+    /**
+     * One page of hits across the given entity types, best first
+     *
+     * @param query   the user's text, for similarity ranking
+     * @param pattern ILIKE pattern built from the query
+     */
+    public List<SearchResult> search(String query, String pattern, List<String> types, int limit, int offset) {
+        List<SearchResult> results = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM (");
+        List<String> params = new ArrayList<>();
+        for (String type : types) {
+            String[] source = SOURCES.get(type);
+            if (source == null)
+                continue;
+            if (!params.isEmpty())
+                sql.append(" UNION ALL ");
+            sql.append("SELECT '").append(type).append("' AS entity_type, ").append(source[0]).append(' ')
+                    .append(source[1]);
+            params.addAll(Collections.nCopies(countParams(source[0]), query));
+            params.addAll(Collections.nCopies(countParams(source[1]), pattern));
+        }
+        if (params.isEmpty()) {
+            return results;
+        }
+        sql.append(") hits ORDER BY score DESC, title, entity_type, entity_id LIMIT ? OFFSET ?");
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int i = 1;
+            for (String param : params) {
+                pstmt.setString(i++, param);
+            }
+            pstmt.setInt(i++, limit);
+            pstmt.setInt(i, offset);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(new SearchResult(rs.getString("entity_type"), rs.getInt("entity_id"),
+                            rs.getString("title"), rs.getString("subtitle"), rs.getDouble("score")));
+                }
+            }
+
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return results;
+    }
+
+    /**
+     * Number of hits per entity type (types without hits are left out)
+     */
+    public Map<String, Integer> countByType(String pattern) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder();
+        int paramCount = 0;
+        for (Map.Entry<String, String[]> source : SOURCES.entrySet()) {
+            if (sql.length() > 0)
+                sql.append(" UNION ALL ");
+            sql.append("SELECT '").append(source.getKey()).append("' AS entity_type, COUNT(*) AS hits ")
+                    .append(source.getValue()[1]);
+            paramCount += countParams(source.getValue()[1]);
+        }
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 1; i <= paramCount; i++) {
+                pstmt.setString(i, pattern);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int hits = rs.getInt("hits");
+                    if (hits > 0) {
+                        counts.put(rs.getString("entity_type"), hits);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return counts;
+    }
+
+    private static int countParams(String sql) {
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?')
+                count++;
+        }
+        return count;
+    }
+}
@@ -63,7 +63,7 @@ public class StaffLeaveDAO {
                 "LEFT JOIN faculty f ON u.id = f.user_id " +
                 "WHERE sl.status = 'PENDING' ORDER BY sl.created_at ASC";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             ResultSet rs = pstmt.executeQuery();
@@ -2,12 +2,19 @@ package com.college.dao;
 
 import com.college.models.Course;
 import com.college.models.Student;
+import com.college.services.DashboardStatsService;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.SqlCatalog;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Access Object for Student entity
@@ -15,6 +22,35 @@ import java.util.List;
  */
 public class StudentDAO {
 
+    private static final SqlCatalog.Query STUDENT_BY_ID = SqlCatalog.define("StudentDAO.getStudentById",
+            "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.id = ?");
+
+    private static final SqlCatalog.Query STUDENT_BY_USER_ID = SqlCatalog.define("StudentDAO.getStudentByUserId",
+            "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.user_id = ?");
+
+    /**
+     * Columns available for field projection, keyed by the Student property
+     * name used in JSON output.
+     */
+    private static final Map<String, String> PROJECTABLE_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        PROJECTABLE_COLUMNS.put("id", "s.id");
+        PROJECTABLE_COLUMNS.put("name", "s.name");
+        PROJECTABLE_COLUMNS.put("email", "s.email");
+        PROJECTABLE_COLUMNS.put("phone", "s.phone");
+        PROJECTABLE_COLUMNS.put("course", "s.course");
+        PROJECTABLE_COLUMNS.put("batch", "s.batch");
+        PROJECTABLE_COLUMNS.put("department", "s.department");
+        PROJECTABLE_COLUMNS.put("semester", "s.semester");
+        PROJECTABLE_COLUMNS.put("enrollmentDate", "s.enrollment_date");
+        PROJECTABLE_COLUMNS.put("isHostelite", "s.is_hostelite");
+        PROJECTABLE_COLUMNS.put("userId", "s.user_id");
+        PROJECTABLE_COLUMNS.put("gender", "s.gender");
+        PROJECTABLE_COLUMNS.put("category", "s.category");
+        PROJECTABLE_COLUMNS.put("username", "u.username");
+    }
+
     /**
      * Add a new student to the database
      * 
@@ -23,7 +59,11 @@ public class StudentDAO {
      */
     public int addStudent(Student student, int userId) {
         try (Connection conn = DatabaseConnection.getConnection()) {
-            return addStudent(conn, student, userId);
+            int id = addStudent(conn, student, userId);
+            if (id > 0) {
+                DashboardStatsService.getInstance().invalidate();
+            }
+            return id;
         } catch (SQLException e) {
             Logger.error("Failed to add student: " + student.getName(), e);
             return -1;
@@ -150,6 +190,9 @@ public class StudentDAO {
 
             pstmt.setInt(1, studentId);
             int rowsAffected = pstmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DashboardStatsService.getInstance().invalidate();
+            }
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -165,10 +208,8 @@ public class StudentDAO {
      * @return Student object or null if not found
      */
     public Student getStudentById(int studentId) {
-        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.id=?";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                PreparedStatement pstmt = STUDENT_BY_ID.prepare(conn)) {
 
             pstmt.setInt(1, studentId);
             ResultSet rs = pstmt.executeQuery();
@@ -192,9 +233,9 @@ public class StudentDAO {
         List<Student> students = new ArrayList<>();
         String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id ORDER BY s.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 students.add(extractStudentFromResultSet(rs));
@@ -214,8 +255,8 @@ public class StudentDAO {
         String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.is_hostelite = true ORDER BY s.name";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 students.add(extractStudentFromResultSet(rs));
@@ -235,9 +276,13 @@ public class StudentDAO {
      */
     public List<Student> searchStudents(String keyword) {
         List<Student> students = new ArrayList<>();
-        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.name ILIKE ? OR s.email ILIKE ? OR u.username ILIKE ? ORDER BY s.name";
+        // Each table is matched on its own so the trigram indexes (V52) can be used
+        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id "
+                + "WHERE s.id IN (SELECT id FROM students WHERE name ILIKE ? OR email ILIKE ? "
+                + "UNION SELECT st.id FROM students st JOIN users us ON us.id = st.user_id WHERE us.username ILIKE ?) "
+                + "ORDER BY s.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             String searchPattern = "%" + keyword + "%";
@@ -261,9 +306,12 @@ public class StudentDAO {
      */
     public List<Student> searchHostelStudents(String keyword) {
         List<Student> students = new ArrayList<>();
-        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.is_hostelite = true AND (s.name ILIKE ? OR s.email ILIKE ? OR u.username ILIKE ?) ORDER BY s.name";
+        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id "
+                + "WHERE s.is_hostelite = true AND s.id IN (SELECT id FROM students WHERE name ILIKE ? OR email ILIKE ? "
+                + "UNION SELECT st.id FROM students st JOIN users us ON us.id = st.user_id WHERE us.username ILIKE ?) "
+                + "ORDER BY s.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             String searchPattern = "%" + keyword + "%";
@@ -282,13 +330,122 @@ public class StudentDAO {
         return students;
     }
 
+    /**
+     * Field names accepted by {@link #getStudentPageProjection}
+     */
+    public static Set<String> getProjectableFields() {
+        return Collections.unmodifiableSet(PROJECTABLE_COLUMNS.keySet());
+    }
+
+    /**
+     * Get one page of students ordered by (name, id), starting after the given
+     * keyset cursor. Uses idx_students_name_id so every page costs the same
+     * regardless of how deep into the table it is.
+     *
+     * @param afterName name of the last student on the previous page, or null for the first page
+     * @param afterId   id of the last student on the previous page
+     * @param limit     maximum number of rows
+     * @return List of students
+     */
+    public List<Student> getStudentsPage(String afterName, int afterId, int limit) {
+        List<Student> students = new ArrayList<>();
+        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id "
+                + (afterName != null ? "WHERE (s.name, s.id) > (?, ?) " : "")
+                + "ORDER BY s.name, s.id LIMIT ?";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int idx = 1;
+            if (afterName != null) {
+                pstmt.setString(idx++, afterName);
+                pstmt.setInt(idx++, afterId);
+            }
+            pstmt.setInt(idx, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    students.add(extractStudentFromResultSet(rs));
+                }
+            }
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return students;
+    }
+
+    /**
+     * Get one page of students selecting only the requested columns.
+     * id and name are always selected because they form the keyset cursor.
+     *
+     * @param afterName name of the last student on the previous page, or null for the first page
+     * @param afterId   id of the last student on the previous page
+     * @param limit     maximum number of rows
+     * @param fields    property names from {@link #getProjectableFields()}; unknown names are ignored
+     * @return rows keyed by property name
+     */
+    public List<Map<String, Object>> getStudentPageProjection(String afterName, int afterId, int limit,
+            Collection<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        List<String> selected = new ArrayList<>();
+        selected.add("id");
+        selected.add("name");
+        for (String field : fields) {
+            if (PROJECTABLE_COLUMNS.containsKey(field) && !selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < selected.size(); i++) {
+            if (i > 0)
+                sql.append(", ");
+            sql.append(PROJECTABLE_COLUMNS.get(selected.get(i)));
+        }
+        sql.append(" FROM students s");
+        if (selected.contains("username")) {
+            sql.append(" LEFT JOIN users u ON s.user_id = u.id");
+        }
+        if (afterName != null) {
+            sql.append(" WHERE (s.name, s.id) > (?, ?)");
+        }
+        sql.append(" ORDER BY s.name, s.id LIMIT ?");
+
+        try (Connection conn = DatabaseConnection.getConnection();
+                PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int idx = 1;
+            if (afterName != null) {
+                pstmt.setString(idx++, afterName);
+                pstmt.setInt(idx++, afterId);
+            }
+            pstmt.setInt(idx, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < selected.size(); i++) {
+                        row.put(selected.get(i), rs.getObject(i + 1));
+                    }
+                    rows.add(row);
+                }
+            }
+        } catch (SQLException e) {
+            Logger.error("Database operation failed", e);
+        }
+        return rows;
+    }
+
     /**
      * Helper method to extract Student object from ResultSet
      * 
+     * Package-private so the row mapping can be benchmarked in isolation.
+     *
      * @param rs ResultSet from query
      * @return Student object
      */
-    private Student extractStudentFromResultSet(ResultSet rs) throws SQLException {
+    Student extractStudentFromResultSet(ResultSet rs) throws SQLException {
         Student student = new Student();
         student.setId(rs.getInt("id"));
         student.setName(rs.getString("name"));
@@ -343,10 +500,8 @@ public class StudentDAO {
      * Get student by user ID
      */
     public Student getStudentByUserId(int userId) {
-        String sql = "SELECT s.*, u.username FROM students s LEFT JOIN users u ON s.user_id = u.id WHERE s.user_id = ?";
-
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                PreparedStatement pstmt = STUDENT_BY_USER_ID.prepare(conn)) {
 
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
@@ -0,0 +1,173 @@
+package com.college.dao;
+
+import com.college.models.Student;
+import com.college.utils.CsvParser;
+import com.college.utils.DatabaseConnection;
+import com.college.utils.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based loading of validated student rows.
+ *
+ * Rows are streamed into a temporary staging table with COPY, rows that clash
+ * with existing students (email) or users (enrollment number) are removed and
+ * reported, and the rest are merged into users and students with one
+ * INSERT ... SELECT per table. Each call runs in a single transaction.
+ */
+public class StudentImportDAO {
+
+    private static final String STAGE_TABLE = "CREATE TEMP TABLE student_import_stage (" +
+            "line_no INTEGER, name TEXT, email TEXT, phone TEXT, department TEXT, course TEXT, " +
+            "semester INTEGER, batch TEXT, address TEXT, enrollment_date DATE, " +
+            "username TEXT, password_hash TEXT) ON COMMIT DROP";
+
+    private static final String COPY_SQL = "COPY student_import_stage (line_no, name, email, phone, department, " +
+            "course, semester, batch, address, enrollment_date, username, password_hash) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String REJECT_EMAILS = "DELETE FROM student_import_stage s USING students st " +
+            "WHERE st.email = s.email RETURNING s.line_no, s.email";
+
+    private static final String REJECT_USERNAMES = "DELETE FROM student_import_stage s USING users u " +
+            "WHERE u.username = s.username RETURNING s.line_no, s.username";
+
+    private static final String MERGE = "WITH new_users AS ( " +
+            "  INSERT INTO users (username, password, role) " +
+            "  SELECT username, password_hash, 'STUDENT' FROM student_import_stage ORDER BY line_no " +
+            "  RETURNING id, username " +
+            ") " +
+            "INSERT INTO students (name, email, phone, course, batch, enrollment_date, address, department, " +
+            "  semester, is_hostelite, user_id, enrollment_id) " +
+            "SELECT s.name, s.email, s.phone, s.course, s.batch, s.enrollment_date, s.address, " +
+            "  COALESCE(s.department, 'General'), COALESCE(NULLIF(s.semester, 0), 1), FALSE, nu.id, s.username " +
+            "FROM student_import_stage s JOIN new_users nu ON nu.username = s.username " +
+            "ORDER BY s.line_no";
+
+    /**
+     * A validated row ready to load. The student's username holds the
+     * reserved enrollment number.
+     */
+    public static class ImportRow {
+        private final int lineNumber;
+        private final Student student;
+        private final String passwordHash;
+
+        public ImportRow(int lineNumber, Student student, String passwordHash) {
+            this.lineNumber = lineNumber;
+            this.student = student;
+            this.passwordHash = passwordHash;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public Student getStudent() {
+            return student;
+        }
+
+        public String getPasswordHash() {
+            return passwordHash;
+        }
+    }
+
+    /**
+     * Load rows in one transaction.
+     *
+     * @param rows     validated rows
+     * @param rejected receives line number -> reason for rows skipped because
+     *                 they clash with existing data
+     * @return number of students inserted
+     * @throws SQLException if the load failed; nothing is inserted in that case
+     */
+    public int importStudents(List<ImportRow> rows, Map<Integer, String> rejected) throws SQLException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(STAGE_TABLE);
+            }
+
+            CopyManager copy = conn.unwrap(PGConnection.class).getCopyAPI();
+            copy.copyIn(COPY_SQL, new StringReader(toCsv(rows)));
+
+            Map<Integer, String> clashes = new LinkedHashMap<>();
+            try (Statement stmt = conn.createStatement()) {
+                try (ResultSet rs = stmt.executeQuery(REJECT_EMAILS)) {
+                    while (rs.next()) {
+                        clashes.put(rs.getInt("line_no"), "Email already exists - " + rs.getString("email"));
+                    }
+                }
+                try (ResultSet rs = stmt.executeQuery(REJECT_USERNAMES)) {
+                    while (rs.next()) {
+                        clashes.put(rs.getInt("line_no"),
+                                "Enrollment number already taken - " + rs.getString("username"));
+                    }
+                }
+            }
+
+            int inserted;
+            try (Statement stmt = conn.createStatement()) {
+                inserted = stmt.executeUpdate(MERGE);
+            }
+
+            conn.commit();
+            rejected.putAll(clashes);
+            return inserted;
+
+        } catch (SQLException | IOException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    Logger.error("Rollback failed", ex);
+                }
+            }
+            if (e instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("COPY failed: " + e.getMessage(), e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    Logger.error("Connection close failed", e);
+                }
+            }
+        }
+    }
+
+    private static String toCsv(List<ImportRow> rows) {
+        StringBuilder sb = new StringBuilder(rows.size() * 200);
+        for (ImportRow row : rows) {
+            Student s = row.getStudent();
+            java.sql.Date enrollmentDate = s.getEnrollmentDate() != null
+                    ? new java.sql.Date(s.getEnrollmentDate().getTime())
+                    : null;
+            sb.append(CsvParser.toLine(row.getLineNumber(), s.getName(), s.getEmail(), s.getPhone(),
+                    s.getDepartment(), s.getCourse(), s.getSemester(), s.getBatch(), s.getAddress(),
+                    enrollmentDate, s.getUsername(), row.getPasswordHash()))
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+}
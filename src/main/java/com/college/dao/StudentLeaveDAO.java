@@ -53,8 +53,8 @@ public class StudentLeaveDAO {
                 "WHERE sl.status = 'PENDING' ORDER BY sl.created_at ASC";
 
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 StudentLeave leave = mapResultSetToLeave(rs);
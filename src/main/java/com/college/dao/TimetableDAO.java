@@ -3,10 +3,13 @@ package com.college.dao;
 import com.college.models.Timetable;
 import com.college.utils.DatabaseConnection;
 import com.college.utils.Logger;
+import com.college.utils.TimetableIndex;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data Access Object for Timetable
@@ -57,7 +60,8 @@ public class TimetableDAO {
                 "ON CONFLICT (department, semester, day_of_week, time_slot) DO UPDATE SET " +
                 "subject = EXCLUDED.subject, " +
                 "faculty_name = EXCLUDED.faculty_name, " +
-                "room_number = EXCLUDED.room_number";
+                "room_number = EXCLUDED.room_number " +
+                "RETURNING id";
 
         try (Connection conn = DatabaseConnection.getConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -71,7 +75,14 @@ public class TimetableDAO {
             pstmt.setString(7, entry.getRoomNumber());
             // Params 8-10 removed because EXCLUDED accesses VALUES(?,...) automatically
 
-            return pstmt.executeUpdate() > 0;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+                entry.setId(rs.getInt("id"));
+            }
+            TimetableIndex.getInstance().onSaved(entry);
+            return true;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -89,7 +100,9 @@ public class TimetableDAO {
                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            TimetableIndex.getInstance().onDeleted(id);
+            return deleted;
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -104,9 +117,9 @@ public class TimetableDAO {
         List<String> departments = new ArrayList<>();
         String sql = "SELECT DISTINCT department FROM students WHERE department IS NOT NULL ORDER BY department";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 departments.add(rs.getString("department"));
@@ -138,7 +151,9 @@ public class TimetableDAO {
 
             pstmt.setString(1, department);
             pstmt.setInt(2, semester);
-            return pstmt.executeUpdate() >= 0; // Returns true even if 0 rows deleted
+            pstmt.executeUpdate();
+            TimetableIndex.getInstance().onCleared(department, semester);
+            return true; // Even if 0 rows deleted
 
         } catch (SQLException e) {
             Logger.error("Database operation failed", e);
@@ -147,46 +162,97 @@ public class TimetableDAO {
     }
 
     /**
-     * Get all unique rooms
+     * Replace the timetables of the department/semester groups in entries
+     * with entries, in one transaction (used by TimetableGenerator)
      */
-    public List<String> getAllRooms() {
-        List<String> rooms = new ArrayList<>();
-        String sql = "SELECT DISTINCT room_number FROM timetable WHERE room_number IS NOT NULL AND room_number != '' ORDER BY room_number";
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                rooms.add(rs.getString("room_number"));
+    public boolean replaceTimetables(List<Timetable> entries) {
+        String deleteSql = "DELETE FROM timetable WHERE department = ? AND semester = ?";
+        String insertSql = "INSERT INTO timetable (department, semester, day_of_week, time_slot, subject, faculty_name, room_number) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        Set<String> cleared = new HashSet<>();
+        Connection conn = null;
+        try {
+            conn = DatabaseConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                for (Timetable entry : entries) {
+                    if (cleared.add(entry.getDepartment() + "|" + entry.getSemester())) {
+                        deleteStmt.setString(1, entry.getDepartment());
+                        deleteStmt.setInt(2, entry.getSemester());
+                        deleteStmt.addBatch();
+                    }
+                }
+                deleteStmt.executeBatch();
             }
+
+            try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+                for (Timetable entry : entries) {
+                    insertStmt.setString(1, entry.getDepartment());
+                    insertStmt.setInt(2, entry.getSemester());
+                    insertStmt.setString(3, entry.getDayOfWeek());
+                    insertStmt.setString(4, entry.getTimeSlot());
+                    insertStmt.setString(5, entry.getSubject());
+                    insertStmt.setString(6, entry.getFacultyName());
+                    insertStmt.setString(7, entry.getRoomNumber());
+                    insertStmt.addBatch();
+                }
+                insertStmt.executeBatch();
+            }
+
+            conn.commit();
+            // Batch inserts return no ids, so reload the index rather than patching it
+            TimetableIndex.getInstance().invalidate();
+            return true;
         } catch (SQLException e) {
-            Logger.error("Error fetching rooms: " + e.getMessage());
+            Logger.error("Failed to replace timetables", e);
+            try {
+                if (conn != null)
+                    conn.rollback();
+            } catch (Exception ex) {
+            }
+            return false;
+        } finally {
+            try {
+                if (conn != null) {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                }
+            } catch (Exception ex) {
+            }
         }
-        return rooms;
     }
 
     /**
      * Extract Timetable object from ResultSet
      */
     /**
-     * Check for room conflict
+     * Check for room conflict (answered from {@link TimetableIndex})
      */
     public boolean checkConflict(String roomNumber, String day, String timeSlot, int semester, int excludeId) {
-        String sql = "SELECT COUNT(*) FROM timetable WHERE room_number = ? AND day_of_week = ? AND time_slot = ? AND semester = ? AND id != ?";
+        return TimetableIndex.getInstance().isRoomBooked(roomNumber, day, timeSlot, semester, excludeId);
+    }
+
+    /**
+     * Get every timetable entry, for {@link TimetableIndex}
+     *
+     * @return entries, or null if they could not be loaded
+     */
+    public List<Timetable> getAllEntries() {
+        List<Timetable> timetable = new ArrayList<>();
+        String sql = "SELECT * FROM timetable";
         try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, roomNumber);
-            pstmt.setString(2, day);
-            pstmt.setString(3, timeSlot);
-            pstmt.setInt(4, semester);
-            pstmt.setInt(5, excludeId);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt(1) > 0;
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                timetable.add(extractTimetableFromResultSet(rs));
             }
         } catch (SQLException e) {
-            Logger.error("Error checking conflict: " + e.getMessage());
+            Logger.error("Database operation failed", e);
+            return null;
         }
-        return false;
+        return timetable;
     }
 
     private Timetable extractTimetableFromResultSet(ResultSet rs) throws SQLException {
@@ -202,26 +268,6 @@ public class TimetableDAO {
         return timetable;
     }
 
-    /**
-     * Get occupied rooms for a specific day and time slot
-     */
-    public List<String> getOccupiedRooms(String day, String timeSlot) {
-        List<String> occupied = new ArrayList<>();
-        String sql = "SELECT DISTINCT room_number FROM timetable WHERE day_of_week = ? AND time_slot = ? AND room_number IS NOT NULL AND room_number != ''";
-        try (Connection conn = DatabaseConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, day);
-            pstmt.setString(2, timeSlot);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                occupied.add(rs.getString("room_number"));
-            }
-        } catch (SQLException e) {
-            Logger.error("Error fetching occupied rooms: " + e.getMessage());
-        }
-        return occupied;
-    }
-
     /**
      * Get timetable by faculty name
      */
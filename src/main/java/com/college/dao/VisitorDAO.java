@@ -97,8 +97,8 @@ public class VisitorDAO {
     private List<VisitorLog> getLogs(String sql) {
         List<VisitorLog> logs = new ArrayList<>();
         try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 logs.add(mapVisitorLog(rs));
             }
@@ -112,9 +112,9 @@ public class WardenDAO {
                 "LEFT JOIN users u ON w.user_id = u.id " +
                 "ORDER BY w.name";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
                 wardens.add(extractWardenFromResultSet(rs));
@@ -1,6 +1,7 @@
 package com.college.fx.components;
 
 import com.college.services.GeminiService;
+import com.college.utils.ViewTaskExecutor;
 import javafx.animation.TranslateTransition;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -37,6 +38,7 @@ public class ChatBotOverlay extends VBox {
     private GeminiService geminiService;
     private Supplier<String> contextProvider;
     private HBox typingIndicator;
+    private int sentMessages;
 
     public ChatBotOverlay() {
         this.geminiService = new GeminiService();
@@ -202,15 +204,18 @@ public class ChatBotOverlay extends VBox {
         }
         final String currentContext = context;
 
-        // Call Gemini Service
-        new Thread(() -> {
-            String response = geminiService.sendMessage(text, currentContext);
-
-            Platform.runLater(() -> {
-                removeTypingIndicator();
-                addMessage(response, false);
-            });
-        }).start();
+        // Call Gemini Service; one key per message so none is coalesced away
+        javafx.concurrent.Task<String> task = ViewTaskExecutor
+                .task(() -> geminiService.sendMessage(text, currentContext));
+        task.setOnSucceeded(e -> {
+            removeTypingIndicator();
+            addMessage(task.getValue(), false);
+        });
+        task.setOnFailed(e -> {
+            removeTypingIndicator();
+            addMessage("Sorry, something went wrong. Please try again.", false);
+        });
+        ViewTaskExecutor.getInstance().submit(this, "message-" + (++sentMessages), task);
     }
 
     private void addMessage(String text, boolean isUser) {
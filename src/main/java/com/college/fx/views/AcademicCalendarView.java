@@ -2,6 +2,7 @@ package com.college.fx.views;
 
 import com.college.dao.EventDAO;
 import com.college.models.Event;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -82,6 +83,36 @@ public class AcademicCalendarView {
         calendarGrid.getChildren().clear();
         calendarTitle.setText(currentYearMonth.getMonth().toString() + " " + currentYearMonth.getYear());
 
+        // Load events for this month
+        YearMonth month = currentYearMonth;
+        javafx.concurrent.Task<Map<LocalDate, List<Event>>> task = ViewTaskExecutor.task(() -> {
+            List<Event> allEvents = eventDAO.getAllEvents();
+
+            // Fetch and merge Google Holidays
+            List<com.college.models.CalendarEvent> holidays = googleService.getHolidays(month.getYear(),
+                    month.getMonthValue());
+            for (com.college.models.CalendarEvent holiday : holidays) {
+                Event e = new Event();
+                e.setName(holiday.getTitle());
+                e.setEventType("HOLIDAY");
+                e.setStartTime(java.sql.Date.valueOf(holiday.getEventDate()));
+                allEvents.add(e);
+            }
+
+            return allEvents.stream()
+                    .filter(e -> e.getStartTime() != null)
+                    .collect(Collectors.groupingBy(e -> {
+                        if (e.getStartTime() instanceof java.sql.Date) {
+                            return ((java.sql.Date) e.getStartTime()).toLocalDate();
+                        }
+                        return e.getStartTime().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
+                    }));
+        });
+        task.setOnSucceeded(e -> showMonth(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "calendar", task);
+    }
+
+    private void showMonth(Map<LocalDate, List<Event>> eventsByDate) {
         // Days of week header
         String[] days = { "Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun" };
         for (int i = 0; i < 7; i++) {
@@ -95,29 +126,6 @@ public class AcademicCalendarView {
         LocalDate calendarDate = LocalDate.of(currentYearMonth.getYear(), currentYearMonth.getMonth(), 1);
         int dayOfWeek = calendarDate.getDayOfWeek().getValue(); // 1 = Mon, 7 = Sun
 
-        // Load events for this month
-        List<Event> allEvents = eventDAO.getAllEvents();
-
-        // Fetch and merge Google Holidays
-        List<com.college.models.CalendarEvent> holidays = googleService.getHolidays(currentYearMonth.getYear(),
-                currentYearMonth.getMonthValue());
-        for (com.college.models.CalendarEvent holiday : holidays) {
-            Event e = new Event();
-            e.setName(holiday.getTitle());
-            e.setEventType("HOLIDAY");
-            e.setStartTime(java.sql.Date.valueOf(holiday.getEventDate()));
-            allEvents.add(e);
-        }
-
-        Map<LocalDate, List<Event>> eventsByDate = allEvents.stream()
-                .filter(e -> e.getStartTime() != null)
-                .collect(Collectors.groupingBy(e -> {
-                    if (e.getStartTime() instanceof java.sql.Date) {
-                        return ((java.sql.Date) e.getStartTime()).toLocalDate();
-                    }
-                    return e.getStartTime().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-                }));
-
         int row = 1;
         int col = dayOfWeek - 1; // 0-indexed column
 
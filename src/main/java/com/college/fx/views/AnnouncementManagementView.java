@@ -3,6 +3,7 @@ package com.college.fx.views;
 import com.college.dao.AnnouncementDAO;
 import com.college.models.Announcement;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -165,8 +166,16 @@ public class AnnouncementManagementView {
     }
 
     private void loadAnnouncements() {
-        allAnnouncements.setAll(announcementDAO.getAllAnnouncements());
-        filterAnnouncements();
+        javafx.concurrent.Task<List<Announcement>> task = ViewTaskExecutor
+                .task(announcementDAO::getAllAnnouncements);
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading announcements...", "No announcements found.");
+
+        task.setOnSucceeded(e -> {
+            allAnnouncements.setAll(task.getValue());
+            filterAnnouncements();
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "announcements", task);
     }
 
     private void filterAnnouncements() {
@@ -6,6 +6,7 @@ import com.college.models.Assignment;
 import com.college.models.Student;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -589,21 +590,22 @@ public class AssignmentsView {
     }
 
     private void loadAssignments() {
-        assignmentData.clear();
-
-        if (role.equals("STUDENT")) {
-            Student student = studentDAO.getStudentByUserId(userId);
-            if (student != null) {
+        javafx.concurrent.Task<List<Assignment>> task = ViewTaskExecutor.task(() -> {
+            if (role.equals("STUDENT")) {
+                Student student = studentDAO.getStudentByUserId(userId);
                 // Assuming students see assignments for their semester
-                List<Assignment> assignments = assignmentDAO.getAssignmentsBySemester(student.getSemester());
-                assignmentData.addAll(assignments);
+                return student != null ? assignmentDAO.getAssignmentsBySemester(student.getSemester())
+                        : List.<Assignment>of();
             }
-        } else {
             // Faculty see assignments they created or by semester
             // Basic implementation: get by semester 1 for now or all if possible
-            List<Assignment> assignments = assignmentDAO.getAssignmentsBySemester(1);
-            assignmentData.addAll(assignments);
-        }
+            return assignmentDAO.getAssignmentsBySemester(1);
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading assignments...", "No assignments found.");
+
+        task.setOnSucceeded(e -> assignmentData.setAll(task.getValue()));
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "assignments", task);
     }
 
     private void showAlert(String title, String message) {
@@ -9,6 +9,7 @@ import com.college.models.Student;
 import com.college.utils.SearchableStudentComboBox;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -172,22 +173,26 @@ public class AttendanceView {
     }
 
     private void loadAttendance() {
-        attendanceData.clear();
-
-        if (role.equals("STUDENT")) {
-            Student student = studentDAO.getStudentByUserId(userId);
-            if (student != null) {
-                List<Attendance> records = attendanceDAO.getAttendanceByStudent(student.getId());
-                attendanceData.addAll(records);
-            }
-        } else {
-            // Admin/Faculty: load all students' attendance
-            List<Student> allStudents = studentDAO.getAllStudents();
-            for (Student s : allStudents) {
-                List<Attendance> records = attendanceDAO.getAttendanceByStudent(s.getId());
-                attendanceData.addAll(records);
+        javafx.concurrent.Task<List<Attendance>> task = ViewTaskExecutor.task(() -> {
+            List<Attendance> records = new java.util.ArrayList<>();
+            if (role.equals("STUDENT")) {
+                Student student = studentDAO.getStudentByUserId(userId);
+                if (student != null) {
+                    records.addAll(attendanceDAO.getAttendanceByStudent(student.getId()));
+                }
+            } else {
+                // Admin/Faculty: load all students' attendance
+                for (Student s : studentDAO.getAllStudents()) {
+                    records.addAll(attendanceDAO.getAttendanceByStudent(s.getId()));
+                }
             }
-        }
+            return records;
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading attendance...", "No attendance records found.");
+
+        task.setOnSucceeded(e -> attendanceData.setAll(task.getValue()));
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "attendance", task);
     }
 
     private void showMarkAttendanceDialog() {
@@ -231,6 +236,7 @@ public class AttendanceView {
                     a.setDate(Date.from(datePicker.getValue().atStartOfDay(ZoneId.systemDefault()).toInstant()));
                 }
                 a.setStatus(statusCombo.getValue());
+                a.setMarkedBy(SessionManager.getInstance().getUserId());
 
                 if (attendanceDAO.markAttendance(a)) {
                     return a;
@@ -365,18 +371,26 @@ public class AttendanceView {
 
         dialog.setResultConverter(btn -> {
             if (btn == saveBtn && courseCombo.getValue() != null && datePicker.getValue() != null) {
-                int saved = 0;
                 Date attendanceDate = Date.from(datePicker.getValue().atStartOfDay(ZoneId.systemDefault()).toInstant());
+                int markedBy = SessionManager.getInstance().getUserId();
+                List<Attendance> marks = new java.util.ArrayList<>(records.size());
                 for (BulkAttendanceRecord r : records) {
                     Attendance a = new Attendance();
                     a.setStudentId(r.studentId);
                     a.setCourseId(courseCombo.getValue().getId());
                     a.setDate(attendanceDate);
                     a.setStatus(r.status);
-                    if (attendanceDAO.markAttendance(a))
-                        saved++;
+                    a.setMarkedBy(markedBy);
+                    marks.add(a);
+                }
+                AttendanceDAO.BulkMarkResult result = attendanceDAO.markBulkAttendanceChunked(marks);
+                if (result.getFailedCount() == 0) {
+                    showAlert("Success", result.getMarked() + " attendance records saved!");
+                } else {
+                    showAlert("Partially Saved", result.getMarked() + " attendance records saved, "
+                            + result.getFailedCount() + " failed.\nFirst error: "
+                            + result.getFailures().values().iterator().next());
                 }
-                showAlert("Success", saved + " attendance records saved!");
                 loadAttendance();
                 return true;
             }
@@ -8,6 +8,7 @@ import com.college.models.ClubMembership;
 import com.college.models.Student;
 import com.college.models.Faculty;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -206,8 +207,15 @@ public class ClubManagementView {
     }
 
     private void loadClubs() {
-        allClubs.setAll(clubDAO.getAllClubs());
-        filterClubs();
+        javafx.concurrent.Task<List<Club>> task = ViewTaskExecutor.task(clubDAO::getAllClubs);
+        ViewTaskExecutor.bindPlaceholder(clubsTable, task, "Loading clubs...", "No clubs found.");
+
+        task.setOnSucceeded(e -> {
+            allClubs.setAll(task.getValue());
+            filterClubs();
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "clubs", task);
     }
 
     private void filterClubs() {
@@ -621,10 +629,15 @@ public class ClubManagementView {
     }
 
     private void loadAnnouncements(Club club, VBox container) {
-        container.getChildren().clear();
         com.college.dao.ClubAnnouncementDAO dao = new com.college.dao.ClubAnnouncementDAO();
-        List<com.college.models.ClubAnnouncement> list = dao.getAnnouncementsByClub(club.getId());
+        javafx.concurrent.Task<List<com.college.models.ClubAnnouncement>> task = ViewTaskExecutor
+                .task(() -> dao.getAnnouncementsByClub(club.getId()));
+        task.setOnSucceeded(e -> showAnnouncements(task.getValue(), container));
+        ViewTaskExecutor.getInstance().submitLatest(this, "announcements", task);
+    }
 
+    private void showAnnouncements(List<com.college.models.ClubAnnouncement> list, VBox container) {
+        container.getChildren().clear();
         if (list.isEmpty()) {
             Label placeholder = new Label("No announcements yet.");
             // placeholder.setTextFill(Color.GRAY);
@@ -6,6 +6,7 @@ import com.college.models.Club;
 import com.college.models.ClubMembership;
 import com.college.models.Student;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,6 +27,7 @@ public class ClubsView {
     private VBox root;
     private ClubDAO clubDAO;
     private StudentDAO studentDAO;
+    private final int userId;
     private Student currentStudent;
 
     private ObservableList<Club> allClubsData;
@@ -39,7 +41,7 @@ public class ClubsView {
     public ClubsView(int userId) {
         this.clubDAO = new ClubDAO();
         this.studentDAO = new StudentDAO();
-        this.currentStudent = studentDAO.getStudentByUserId(userId);
+        this.userId = userId;
         this.allClubsData = FXCollections.observableArrayList();
         this.myClubsData = FXCollections.observableArrayList();
         this.myApplicationsData = FXCollections.observableArrayList();
@@ -219,12 +221,12 @@ public class ClubsView {
                         boolean isMember = false;
                         boolean isPending = false;
 
-                        if (currentStudent != null) {
-                            isMember = clubDAO.isStudentMember(club.getId(), currentStudent.getId());
-                            // Check if status is pending by querying pending memberships
-                            List<ClubMembership> pending = clubDAO.getPendingMemberships(club.getId());
-                            int finalStudentId = currentStudent.getId();
-                            isPending = pending.stream().anyMatch(m -> m.getStudentId() == finalStudentId);
+                        // Status comes from the memberships loaded with the table
+                        for (ClubMembership m : myApplicationsData) {
+                            if (m.getClubId() == club.getId()) {
+                                isPending = isPending || "PENDING".equals(m.getStatus());
+                                isMember = isMember || isPending || "APPROVED".equals(m.getStatus());
+                            }
                         }
 
                         if (isPending) {
@@ -350,48 +352,39 @@ public class ClubsView {
     }
 
     private void loadData() {
-        javafx.concurrent.Task<Void> task = new javafx.concurrent.Task<>() {
-            @Override
-            protected Void call() throws Exception {
-                // Fetch data in background thread
-                List<Club> allClubs = clubDAO.getAllClubs();
-
-                List<Club> myClubs = java.util.Collections.emptyList();
-                List<ClubMembership> myApps = java.util.Collections.emptyList();
+        javafx.concurrent.Task<ClubData> task = ViewTaskExecutor.task(() -> {
+            Student student = studentDAO.getStudentByUserId(userId);
+            List<Club> allClubs = clubDAO.getAllClubs();
+            List<Club> myClubs = java.util.Collections.emptyList();
+            List<ClubMembership> myApps = java.util.Collections.emptyList();
+            if (student != null) {
+                myClubs = clubDAO.getStudentClubs(student.getId());
+                myApps = clubDAO.getMyMemberships(student.getId());
+            }
+            return new ClubData(student, allClubs, myClubs, myApps);
+        });
 
-                if (currentStudent != null) {
-                    myClubs = clubDAO.getStudentClubs(currentStudent.getId());
-                    myApps = clubDAO.getMyMemberships(currentStudent.getId());
-                }
+        task.setOnSucceeded(e -> {
+            ClubData data = task.getValue();
+            currentStudent = data.student();
+            if (currentStudent != null) {
+                myClubsData.setAll(data.myClubs());
+                myClubsTable.setItems(myClubsData);
+                myApplicationsData.setAll(data.myApplications());
+            }
 
-                final List<Club> finalAllClubs = allClubs;
-                final List<Club> finalMyClubs = myClubs;
-                final List<ClubMembership> finalApps = myApps;
+            allClubsData.setAll(data.allClubs());
+            allClubsTable.setItems(allClubsData);
+            allClubsTable.refresh();
+        });
 
-                // Update UI on JavaFX Application Thread
-                javafx.application.Platform.runLater(() -> {
-                    allClubsData.setAll(finalAllClubs);
-                    allClubsTable.setItems(allClubsData);
+        task.setOnFailed(e -> showAlert(Alert.AlertType.ERROR, "Error", "Failed to load club data."));
 
-                    if (currentStudent != null) {
-                        myClubsData.setAll(finalMyClubs);
-                        myClubsTable.setItems(myClubsData);
-                        myApplicationsData.setAll(finalApps);
-                    }
-                });
-                return null;
-            }
-        };
-
-        task.setOnFailed(e -> {
-            Throwable ex = task.getException();
-            if (ex != null)
-                ex.printStackTrace();
-            javafx.application.Platform
-                    .runLater(() -> showAlert(Alert.AlertType.ERROR, "Error", "Failed to load club data."));
-        });
+        ViewTaskExecutor.getInstance().submit(this, "clubs", task);
+    }
 
-        new Thread(task).start();
+    private record ClubData(Student student, List<Club> allClubs, List<Club> myClubs,
+            List<ClubMembership> myApplications) {
     }
 
     private void applySearchAndFilter(String searchText, String categoryFilter) {
@@ -3,6 +3,7 @@ package com.college.fx.views;
 import com.college.dao.SystemSettingsDAO;
 import com.college.services.DropboxStorageService;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -173,56 +174,66 @@ public class CollegeSettingsView extends VBox {
     }
 
     private void loadSettings() {
-        String name = systemSettingsDAO.getSetting("COLLEGE_NAME");
-        if (name != null) {
-            collegeNameField.setText(name);
-        }
+        javafx.concurrent.Task<Settings> task = ViewTaskExecutor.task(() -> {
+            String name = systemSettingsDAO.getSetting("COLLEGE_NAME");
+            String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
+            String logoUrl = logoPath != null && !logoPath.isEmpty() ? storageService.getTemporaryLink(logoPath)
+                    : null;
+            return new Settings(name, logoUrl);
+        });
+
+        task.setOnSucceeded(e -> {
+            Settings settings = task.getValue();
+            if (settings.name() != null) {
+                collegeNameField.setText(settings.name());
+            }
+            if (settings.logoUrl() != null) {
+                logoPreview.setImage(new Image(settings.logoUrl(), true));
+            }
+        });
+
+        ViewTaskExecutor.getInstance().submit(this, "settings", task);
+    }
 
-        String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
-        if (logoPath != null && !logoPath.isEmpty()) {
-            // Load asynchronously
-            new Thread(() -> {
-                String url = storageService.getTemporaryLink(logoPath);
-                if (url != null) {
-                    javafx.application.Platform.runLater(() -> {
-                        logoPreview.setImage(new Image(url, true));
-                    });
-                }
-            }).start();
-        }
+    private record Settings(String name, String logoUrl) {
     }
 
     private void saveSettings() {
         String newName = collegeNameField.getText();
-        if (newName != null && !newName.isEmpty()) {
-            systemSettingsDAO.updateSetting("COLLEGE_NAME", newName);
-        }
+        File logoFile = selectedLogoFile;
+        // Upload to Dropbox
+        String fileName = "college_logo_" + System.currentTimeMillis() + ".png";
+
+        javafx.concurrent.Task<Boolean> task = ViewTaskExecutor.task(() -> {
+            if (newName != null && !newName.isEmpty()) {
+                systemSettingsDAO.updateSetting("COLLEGE_NAME", newName);
+            }
+            if (logoFile == null) {
+                return true; // Just name saved
+            }
+            String result = storageService.saveImage(logoFile, fileName);
+            if (result == null) {
+                return false;
+            }
+            systemSettingsDAO.updateSetting("COLLEGE_LOGO_PATH", result);
+            return true;
+        });
+
+        task.setOnSucceeded(e -> {
+            boolean saved = task.getValue();
+            Alert alert = saved
+                    ? new Alert(Alert.AlertType.INFORMATION, "Settings saved successfully!")
+                    : new Alert(Alert.AlertType.ERROR, "Failed to upload logo.");
+            DialogUtils.styleDialog(alert);
+            alert.showAndWait();
+        });
 
-        if (selectedLogoFile != null) {
-            // Upload to Dropbox
-            String fileName = "college_logo_" + System.currentTimeMillis() + ".png";
-            new Thread(() -> {
-                String result = storageService.saveImage(selectedLogoFile, fileName);
-                if (result != null) {
-                    javafx.application.Platform.runLater(() -> {
-                        systemSettingsDAO.updateSetting("COLLEGE_LOGO_PATH", result);
-                        Alert alert = new Alert(Alert.AlertType.INFORMATION, "Settings saved successfully!");
-                        DialogUtils.styleDialog(alert);
-                        alert.showAndWait();
-                    });
-                } else {
-                    javafx.application.Platform.runLater(() -> {
-                        Alert alert = new Alert(Alert.AlertType.ERROR, "Failed to upload logo.");
-                        DialogUtils.styleDialog(alert);
-                        alert.showAndWait();
-                    });
-                }
-            }).start();
-        } else {
-            // Just name saved
-            Alert alert = new Alert(Alert.AlertType.INFORMATION, "Settings saved successfully!");
+        task.setOnFailed(e -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR, "Failed to save settings.");
             DialogUtils.styleDialog(alert);
             alert.showAndWait();
-        }
+        });
+
+        ViewTaskExecutor.getInstance().submitWithSpinner(this, "save", task, "Saving settings...");
     }
 }
@@ -6,6 +6,7 @@ import com.college.models.Course;
 import com.college.models.Student;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +22,7 @@ import com.college.models.Faculty;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javafx.scene.control.ButtonBar.ButtonData;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -259,56 +261,66 @@ public class CourseManagementView {
     }
 
     private void loadStudentMyCourses(ObservableList<Course> data) {
-        data.clear();
-        Student s = studentDAO.getStudentByUserId(userId);
-        if (s == null)
-            return;
-
-        List<Course> all = courseDAO.getAllCourses();
-        List<Integer> registeredIds = registrationDAO.getRegisteredCourseIds(s.getId());
-
-        for (Course c : all) {
-            // Core courses of same dept/sem are auto-included
-            boolean isCore = "CORE".equalsIgnoreCase(c.getCourseType())
-                    && c.getDepartment() != null
-                    && s.getDepartment() != null
-                    && c.getDepartment().equalsIgnoreCase(s.getDepartment())
-                    && c.getSemester() == s.getSemester();
-
-            // Electives must be registered
-            boolean isRegistered = registeredIds.contains(c.getId());
-
-            if (isCore || isRegistered) {
-                data.add(c);
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(() -> {
+            Student s = studentDAO.getStudentByUserId(userId);
+            if (s == null)
+                return List.of();
+
+            List<Course> all = courseDAO.getAllCourses();
+            List<Course> courses = new ArrayList<>();
+            List<Integer> registeredIds = registrationDAO.getRegisteredCourseIds(s.getId());
+
+            for (Course c : all) {
+                // Core courses of same dept/sem are auto-included
+                boolean isCore = "CORE".equalsIgnoreCase(c.getCourseType())
+                        && c.getDepartment() != null
+                        && s.getDepartment() != null
+                        && c.getDepartment().equalsIgnoreCase(s.getDepartment())
+                        && c.getSemester() == s.getSemester();
+
+                // Electives must be registered
+                boolean isRegistered = registeredIds.contains(c.getId());
+
+                if (isCore || isRegistered) {
+                    courses.add(c);
+                }
             }
-        }
+            return courses;
+        });
+        task.setOnSucceeded(e -> data.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "my-courses", task);
     }
 
     private void loadStudentElectives(ObservableList<Course> data) {
-        data.clear();
-        Student s = studentDAO.getStudentByUserId(userId);
-        if (s == null)
-            return;
-
-        List<Course> all = courseDAO.getAllCourses();
-        List<Integer> registeredIds = registrationDAO.getRegisteredCourseIds(s.getId());
-        List<Integer> pendingIds = registrationDAO.getPendingCourseIds(s.getId());
-
-        for (Course c : all) {
-            // Show electives that are NOT registered (or show them as Pending)
-            if ("ELECTIVE".equalsIgnoreCase(c.getCourseType())
-                    && c.getSemester() == s.getSemester()
-                    && !registeredIds.contains(c.getId())) {
-
-                // If pending, visually mark it?
-                // For now, list it. The "Request" button should fail if Pending.
-                // Or better: Mark status in UI.
-                if (pendingIds.contains(c.getId())) {
-                    c.setName(c.getName() + " (PENDING)"); // Hack for visibility
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(() -> {
+            Student s = studentDAO.getStudentByUserId(userId);
+            if (s == null)
+                return List.of();
+
+            List<Course> all = courseDAO.getAllCourses();
+            List<Course> courses = new ArrayList<>();
+            List<Integer> registeredIds = registrationDAO.getRegisteredCourseIds(s.getId());
+            List<Integer> pendingIds = registrationDAO.getPendingCourseIds(s.getId());
+
+            for (Course c : all) {
+                // Show electives that are NOT registered (or show them as Pending)
+                if ("ELECTIVE".equalsIgnoreCase(c.getCourseType())
+                        && c.getSemester() == s.getSemester()
+                        && !registeredIds.contains(c.getId())) {
+
+                    // If pending, visually mark it?
+                    // For now, list it. The "Request" button should fail if Pending.
+                    // Or better: Mark status in UI.
+                    if (pendingIds.contains(c.getId())) {
+                        c.setName(c.getName() + " (PENDING)"); // Hack for visibility
+                    }
+                    courses.add(c);
                 }
-                data.add(c);
             }
-        }
+            return courses;
+        });
+        task.setOnSucceeded(e -> data.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "electives", task);
     }
 
     // Helper to create table columns
@@ -482,33 +494,19 @@ public class CourseManagementView {
     }
 
     private void loadCourses() {
-        tableView.setPlaceholder(new Label("Loading courses..."));
-
-        javafx.concurrent.Task<List<Course>> task = new javafx.concurrent.Task<>() {
-            @Override
-            protected List<Course> call() throws Exception {
-                return courseDAO.getAllCourses();
-            }
-        };
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(courseDAO::getAllCourses);
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading courses...", "No courses found.");
 
         task.setOnSucceeded(e -> {
             allCourses.clear();
             allCourses.addAll(task.getValue());
             filterCourses();
             updateStats();
-            tableView.setPlaceholder(new Label("No courses found."));
         });
 
-        task.setOnFailed(e -> {
-            Throwable ex = task.getException();
-            ex.printStackTrace();
-            showAlert("Error", "Failed to load courses.");
-            tableView.setPlaceholder(new Label("Error loading courses."));
-        });
+        task.setOnFailed(e -> showAlert("Error", "Failed to load courses."));
 
-        Thread thread = new Thread(task);
-        thread.setDaemon(true);
-        thread.start();
+        ViewTaskExecutor.getInstance().submit(this, "courses", task);
     }
 
     private void filterCourses() {
@@ -4,6 +4,7 @@ import com.college.dao.CommunityDAO;
 import com.college.models.Campaign;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -69,10 +70,14 @@ public class CrowdfundingView {
     private void refreshCampaigns() {
         if (centerStack == null)
             return;
-        centerStack.getChildren().clear();
 
-        List<Campaign> campaigns = communityDAO.getAllCampaigns();
+        javafx.concurrent.Task<List<Campaign>> task = ViewTaskExecutor.task(communityDAO::getAllCampaigns);
+        task.setOnSucceeded(e -> showCampaigns(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "campaigns", task);
+    }
 
+    private void showCampaigns(List<Campaign> campaigns) {
+        centerStack.getChildren().clear();
         if (campaigns.isEmpty()) {
             centerStack.getChildren().add(createEmptyState());
         } else {
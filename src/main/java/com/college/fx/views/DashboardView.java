@@ -4,6 +4,7 @@ import com.college.MainFX;
 import com.college.fx.components.ChatBotOverlay;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import com.college.utils.UserDisplayNameUtil;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -97,14 +98,15 @@ public class DashboardView {
         // Async Load Logo
         if (logoPath != null && !logoPath.isEmpty()) {
             final String fLogoPath = logoPath;
-            new Thread(() -> {
-                String tempLink = storageService.getTemporaryLink(fLogoPath);
+            javafx.concurrent.Task<String> logoTask = ViewTaskExecutor
+                    .task(() -> storageService.getTemporaryLink(fLogoPath));
+            logoTask.setOnSucceeded(e -> {
+                String tempLink = logoTask.getValue();
                 if (tempLink != null) {
-                    javafx.application.Platform.runLater(() -> {
-                        logoView.setImage(new Image(tempLink, true));
-                    });
+                    logoView.setImage(new Image(tempLink, true));
                 }
-            }).start();
+            });
+            ViewTaskExecutor.getInstance().submit(this, "logo", logoTask);
         } else {
             // Optional: Set default logo or hide
         }
@@ -536,6 +538,7 @@ public class DashboardView {
 
     private void navigateTo(String viewName) {
         updateActiveState(viewName);
+        ViewTaskExecutor.getInstance().cancelAll(currentController);
         contentArea.getChildren().clear();
 
         try {
@@ -14,6 +14,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -192,9 +193,16 @@ public class EmployeeManagementView extends VBox {
     }
 
     private void refreshTable() {
-        allEmployees = FXCollections.observableArrayList(employeeDAO.getAllEmployees());
-        filterEmployees();
-        updateStats();
+        javafx.concurrent.Task<List<Employee>> task = ViewTaskExecutor.task(employeeDAO::getAllEmployees);
+        ViewTaskExecutor.bindPlaceholder(table, task, "Loading employees...", "No employees found.");
+
+        task.setOnSucceeded(e -> {
+            allEmployees = FXCollections.observableArrayList(task.getValue());
+            filterEmployees();
+            updateStats();
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "employees", task);
     }
 
     private void filterEmployees() {
@@ -6,6 +6,7 @@ import com.college.models.EventBudget;
 import com.college.models.EventPoll;
 import com.college.models.EventRegistration;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -198,9 +199,18 @@ public class EventManagementView {
     }
 
     private void loadEvents() {
-        eventDAO.updateEventStatuses();
-        allEvents.setAll(eventDAO.getAllEvents());
-        filterEvents();
+        javafx.concurrent.Task<List<Event>> task = ViewTaskExecutor.task(() -> {
+            eventDAO.updateEventStatuses();
+            return eventDAO.getAllEvents();
+        });
+        ViewTaskExecutor.bindPlaceholder(eventsTable, task, "Loading events...", "No events found.");
+
+        task.setOnSucceeded(e -> {
+            allEvents.setAll(task.getValue());
+            filterEvents();
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "events", task);
     }
 
     private void filterEvents() {
@@ -5,6 +5,7 @@ import com.college.dao.StudentDAO;
 import com.college.models.Event;
 import com.college.models.Student;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,7 +19,9 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
 import java.text.SimpleDateFormat;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Student-facing view for browsing and registering for college events
@@ -28,7 +31,11 @@ public class EventsView {
     private EventDAO eventDAO;
     private com.college.dao.EventDetailsDAO eventDetailsDAO;
     private StudentDAO studentDAO;
+    private final int userId;
     private Student currentStudent;
+    // Events the student registered / volunteered for, as of the last load
+    private Set<Integer> registeredEventIds = Set.of();
+    private Set<Integer> volunteerEventIds = Set.of();
 
     private ObservableList<Event> allEventsData;
     private ObservableList<Event> myEventsData;
@@ -40,7 +47,7 @@ public class EventsView {
         this.eventDAO = new EventDAO();
         this.eventDetailsDAO = new com.college.dao.EventDetailsDAO();
         this.studentDAO = new StudentDAO();
-        this.currentStudent = studentDAO.getStudentByUserId(userId);
+        this.userId = userId;
         this.allEventsData = FXCollections.observableArrayList();
         this.myEventsData = FXCollections.observableArrayList();
 
@@ -222,8 +229,7 @@ public class EventsView {
                         Event event = getTableView().getItems().get(getIndex());
 
                         // Register Button Logic
-                        if (currentStudent != null
-                                && eventDAO.isStudentRegistered(event.getId(), currentStudent.getId())) {
+                        if (registeredEventIds.contains(event.getId())) {
                             registerBtn.setText("Registered");
                             registerBtn.setDisable(true);
                             registerBtn.setStyle("-fx-background-color: #94a3b8; -fx-text-fill: white;");
@@ -236,7 +242,7 @@ public class EventsView {
 
                         // Volunteer Button Logic
                         if (currentStudent != null) {
-                            if (eventDetailsDAO.isVolunteer(event.getId(), currentStudent.getId())) {
+                            if (volunteerEventIds.contains(event.getId())) {
                                 volunteerBtn.setText("Volunteered");
                                 volunteerBtn.setDisable(true);
                                 volunteerBtn.setStyle("-fx-background-color: #94a3b8; -fx-text-fill: white;");
@@ -261,15 +267,47 @@ public class EventsView {
     }
 
     private void loadData() {
-        List<Event> allEvents = eventDAO.getUpcomingEvents();
-        allEventsData.setAll(allEvents);
-        allEventsTable.setItems(allEventsData);
-
-        if (currentStudent != null) {
-            List<Event> myEvents = eventDAO.getStudentRegisteredEvents(currentStudent.getId());
-            myEventsData.setAll(myEvents);
-            myEventsTable.setItems(myEventsData);
-        }
+        javafx.concurrent.Task<EventData> task = ViewTaskExecutor.task(() -> {
+            Student student = studentDAO.getStudentByUserId(userId);
+            List<Event> allEvents = eventDAO.getUpcomingEvents();
+            List<Event> myEvents = List.of();
+            Set<Integer> volunteering = new HashSet<>();
+            if (student != null) {
+                myEvents = eventDAO.getStudentRegisteredEvents(student.getId());
+                for (com.college.models.EventVolunteer v : eventDetailsDAO.getVolunteersByStudent(student.getId())) {
+                    volunteering.add(v.getEventId());
+                }
+            }
+            return new EventData(student, allEvents, myEvents, volunteering);
+        });
+        ViewTaskExecutor.bindPlaceholder(allEventsTable, task, "Loading events...", "No upcoming events.");
+
+        task.setOnSucceeded(e -> {
+            EventData data = task.getValue();
+            currentStudent = data.student();
+            Set<Integer> registered = new HashSet<>();
+            for (Event event : data.myEvents()) {
+                registered.add(event.getId());
+            }
+            registeredEventIds = registered;
+            volunteerEventIds = data.volunteerEventIds();
+
+            allEventsData.setAll(data.allEvents());
+            allEventsTable.setItems(allEventsData);
+            allEventsTable.refresh();
+            if (currentStudent != null) {
+                myEventsData.setAll(data.myEvents());
+                myEventsTable.setItems(myEventsData);
+            }
+        });
+
+        task.setOnFailed(e -> showAlert(Alert.AlertType.ERROR, "Error", "Failed to load events."));
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "events", task);
+    }
+
+    private record EventData(Student student, List<Event> allEvents, List<Event> myEvents,
+            Set<Integer> volunteerEventIds) {
     }
 
     private void applySearchAndFilter(String searchText, String typeFilter) {
@@ -5,6 +5,7 @@ import com.college.models.Faculty;
 import com.college.utils.SessionManager;
 import com.college.utils.EnrollmentGenerator;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -207,11 +208,16 @@ public class FacultyManagementView {
     }
 
     private void loadFaculty() {
-        allFaculty.clear();
-        List<Faculty> faculty = facultyDAO.getAllFaculty();
-        allFaculty.addAll(faculty);
-        filterFaculty();
-        updateStats();
+        javafx.concurrent.Task<List<Faculty>> task = ViewTaskExecutor.task(facultyDAO::getAllFaculty);
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading faculty...", "No faculty found.");
+
+        task.setOnSucceeded(e -> {
+            allFaculty.setAll(task.getValue());
+            filterFaculty();
+            updateStats();
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "faculty", task);
     }
 
     private void filterFaculty() {
@@ -492,6 +498,10 @@ public class FacultyManagementView {
 
                     // Auto-generate faculty ID
                     String facultyId = EnrollmentGenerator.generateFacultyId();
+                    if (facultyId == null) {
+                        showAlert("Error", "Could not generate a faculty ID. Please try again.");
+                        return null;
+                    }
                     String password = passwordField.getText().trim().isEmpty() ? "123" : passwordField.getText();
 
                     // Create user account with faculty ID as username
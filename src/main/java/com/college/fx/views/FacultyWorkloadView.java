@@ -2,12 +2,13 @@ package com.college.fx.views;
 
 import com.college.dao.CourseDAO;
 import com.college.dao.FacultyDAO;
-import com.college.dao.TimetableDAO;
 import com.college.models.Course;
 import com.college.models.Faculty;
 import com.college.models.Timetable;
 import com.college.utils.DialogUtils;
 import com.college.utils.NotificationService;
+import com.college.utils.TimetableIndex;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -31,13 +32,11 @@ public class FacultyWorkloadView {
 
     private PieChart chart;
     private NotificationService notificationService;
-    private TimetableDAO timetableDAO;
 
     public FacultyWorkloadView() {
         this.facultyDAO = new FacultyDAO();
         this.courseDAO = new CourseDAO();
         this.notificationService = new NotificationService();
-        this.timetableDAO = new TimetableDAO();
         this.data = FXCollections.observableArrayList();
         createView();
         loadData();
@@ -166,16 +165,32 @@ public class FacultyWorkloadView {
     }
 
     private void loadData() {
-        data.clear();
-        List<Faculty> facultyList = facultyDAO.getAllFaculty();
         String selectedDept = departmentFilter.getValue();
+        javafx.concurrent.Task<WorkloadData> task = ViewTaskExecutor.task(() -> new WorkloadData(
+                facultyDAO.getAllFaculty(),
+                // The chart covers every department, so load all workloads in one query
+                courseDAO.getWorkloadForAllFaculty()));
+        ViewTaskExecutor.bindPlaceholder(table, task, "Loading workload...", "No faculty found.");
+
+        task.setOnSucceeded(e -> showWorkload(task.getValue(), selectedDept));
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "workload", task);
+    }
+
+    private record WorkloadData(List<Faculty> faculty, Map<Integer, CourseDAO.WorkloadStats> workloads) {
+    }
+
+    private void showWorkload(WorkloadData loaded, String selectedDept) {
+        List<Faculty> facultyList = loaded.faculty();
+        Map<Integer, CourseDAO.WorkloadStats> workloads = loaded.workloads();
+        data.clear();
 
         // For Chart
         Map<String, Double> deptCredits = new java.util.HashMap<>();
         Map<String, Integer> deptFacultyCount = new java.util.HashMap<>();
 
         for (Faculty f : facultyList) {
-            CourseDAO.WorkloadStats stats = courseDAO.getFacultyWorkload(f.getId());
+            CourseDAO.WorkloadStats stats = workloads.getOrDefault(f.getId(), new CourseDAO.WorkloadStats());
 
             // Populate table data (filtered)
             if (selectedDept == null || selectedDept.equals("All Departments")
@@ -310,27 +325,19 @@ public class FacultyWorkloadView {
                     }
                 }
 
-                // 2. Check for Time Conflict
-                // Get faculty schedule
-                List<Timetable> facultySchedule = timetableDAO.getTimetableByFaculty(faculty.getName());
-                // Get course schedule (assuming subject name matches)
-                List<Timetable> courseSchedule = timetableDAO.getTimetableBySubject(c.getName());
-
-                for (Timetable fEntry : facultySchedule) {
-                    for (Timetable cEntry : courseSchedule) {
-                        if (fEntry.getDayOfWeek().equals(cEntry.getDayOfWeek()) &&
-                                fEntry.getTimeSlot().equals(cEntry.getTimeSlot())) {
-
-                            Alert conflictAlert = new Alert(Alert.AlertType.ERROR);
-                            DialogUtils.styleDialog(conflictAlert);
-                            conflictAlert.setTitle("Time Conflict");
-                            conflictAlert.setHeaderText("Schedule Conflict Detected");
-                            conflictAlert.setContentText("Faculty is already busy on " + fEntry.getDayOfWeek() +
-                                    " at " + fEntry.getTimeSlot() + " (" + fEntry.getSubject() + ").");
-                            conflictAlert.showAndWait();
-                            return; // Block assignment
-                        }
-                    }
+                // 2. Check for Time Conflict between the faculty's schedule and the
+                // course's (assuming subject name matches)
+                Timetable fEntry = TimetableIndex.getInstance().findFacultySubjectClash(faculty.getName(),
+                        c.getName());
+                if (fEntry != null) {
+                    Alert conflictAlert = new Alert(Alert.AlertType.ERROR);
+                    DialogUtils.styleDialog(conflictAlert);
+                    conflictAlert.setTitle("Time Conflict");
+                    conflictAlert.setHeaderText("Schedule Conflict Detected");
+                    conflictAlert.setContentText("Faculty is already busy on " + fEntry.getDayOfWeek() +
+                            " at " + fEntry.getTimeSlot() + " (" + fEntry.getSubject() + ").");
+                    conflictAlert.showAndWait();
+                    return; // Block assignment
                 }
 
                 // 3. Assign
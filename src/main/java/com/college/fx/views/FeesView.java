@@ -7,6 +7,7 @@ import com.college.models.Student;
 import com.college.models.FeePayment;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import com.college.dao.SystemSettingsDAO; // Added
 import com.college.services.DropboxStorageService; // Added
 import javafx.beans.property.SimpleStringProperty;
@@ -220,21 +221,27 @@ public class FeesView {
     }
 
     private void loadFees() {
-        feeData.clear();
-        allFeeData.clear();
-
-        if (role.equals("STUDENT")) {
-            Student student = studentDAO.getStudentByUserId(userId);
-            if (student != null) {
-                List<StudentFee> fees = feeDAO.getStudentFees(student.getId());
-                feeData.addAll(fees);
+        javafx.concurrent.Task<List<StudentFee>> task = ViewTaskExecutor.task(() -> {
+            if (role.equals("STUDENT")) {
+                Student student = studentDAO.getStudentByUserId(userId);
+                return student != null ? feeDAO.getStudentFees(student.getId()) : List.<StudentFee>of();
             }
-        } else {
             // For admin/faculty
-            List<StudentFee> fees = feeDAO.getAllFees();
-            allFeeData.addAll(fees);
-            feeData.addAll(fees);
-        }
+            return feeDAO.getAllFees();
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading fees...", "No fee records found.");
+
+        task.setOnSucceeded(e -> {
+            List<StudentFee> fees = task.getValue();
+            if (role.equals("STUDENT")) {
+                allFeeData.clear();
+            } else {
+                allFeeData.setAll(fees);
+            }
+            feeData.setAll(fees);
+        });
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "fees", task);
     }
 
     private void filterFees(String keyword) {
@@ -450,10 +457,25 @@ public class FeesView {
             return;
         }
 
-        showReceiptDialog(selected);
+        javafx.concurrent.Task<ReceiptData> task = ViewTaskExecutor.task(() -> {
+            List<FeePayment> payments = feeDAO.getPaymentHistory(selected.getId());
+            String collegeName = systemSettingsDAO.getSetting("COLLEGE_NAME");
+            String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
+            String logoUrl = logoPath != null && !logoPath.isEmpty() ? storageService.getTemporaryLink(logoPath)
+                    : null;
+            return new ReceiptData(payments, collegeName, logoUrl);
+        });
+
+        task.setOnSucceeded(e -> showReceiptDialog(selected, task.getValue()));
+        task.setOnFailed(e -> showAlert("Error", "Failed to load the receipt."));
+
+        ViewTaskExecutor.getInstance().submitWithSpinner(this, "receipt", task, "Preparing receipt...");
     }
 
-    private void showReceiptDialog(StudentFee fee) {
+    private record ReceiptData(List<FeePayment> payments, String collegeName, String logoUrl) {
+    }
+
+    private void showReceiptDialog(StudentFee fee, ReceiptData data) {
         Dialog<ButtonType> dialog = new Dialog<>();
         DialogUtils.styleDialog(dialog);
         dialog.setTitle("Fee Receipt");
@@ -462,8 +484,7 @@ public class FeesView {
         ButtonType printBtn = new ButtonType("Print", ButtonBar.ButtonData.OK_DONE);
         dialog.getDialogPane().getButtonTypes().addAll(printBtn, ButtonType.CLOSE);
 
-        // Fetch payment details
-        List<FeePayment> payments = feeDAO.getPaymentHistory(fee.getId());
+        List<FeePayment> payments = data.payments();
 
         // --- Receipt Container ---
         VBox receiptContainer = new VBox();
@@ -478,8 +499,7 @@ public class FeesView {
 
         // --- Header Section ---
 
-        // Fetch Settings
-        String collegeNameStr = systemSettingsDAO.getSetting("COLLEGE_NAME");
+        String collegeNameStr = data.collegeName();
         if (collegeNameStr == null || collegeNameStr.isEmpty())
             collegeNameStr = "College Management System";
 
@@ -487,21 +507,11 @@ public class FeesView {
         headerBox.setAlignment(Pos.CENTER);
 
         // Logo
-        String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
-        if (logoPath != null && !logoPath.isEmpty()) {
-            ImageView logoView = new ImageView();
+        if (data.logoUrl() != null) {
+            ImageView logoView = new ImageView(new Image(data.logoUrl(), true));
             logoView.setFitHeight(70);
             logoView.setFitWidth(70);
             logoView.setPreserveRatio(true);
-
-            // Async load
-            final ImageView fLogo = logoView;
-            new Thread(() -> {
-                String url = storageService.getTemporaryLink(logoPath);
-                if (url != null) {
-                    javafx.application.Platform.runLater(() -> fLogo.setImage(new Image(url, true)));
-                }
-            }).start();
             headerBox.getChildren().add(logoView);
         }
 
@@ -6,6 +6,7 @@ import com.college.models.GatePass;
 import com.college.models.Student;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -192,21 +193,18 @@ public class GatePassView {
     }
 
     private void loadGatePasses() {
-        gatePassData.clear();
-        List<GatePass> passes;
-
-        if (role.equals("STUDENT")) {
-            Student student = studentDAO.getStudentByUserId(userId);
-            if (student != null) {
-                passes = GatePassDAO.getStudentPasses(student.getId());
-            } else {
-                return;
+        javafx.concurrent.Task<List<GatePass>> task = ViewTaskExecutor.task(() -> {
+            if (role.equals("STUDENT")) {
+                Student student = studentDAO.getStudentByUserId(userId);
+                return student != null ? GatePassDAO.getStudentPasses(student.getId()) : List.<GatePass>of();
             }
-        } else {
-            passes = GatePassDAO.getAllPasses();
-        }
+            return GatePassDAO.getAllPasses();
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading gate passes...", "No gate passes found.");
+
+        task.setOnSucceeded(e -> gatePassData.setAll(task.getValue()));
 
-        gatePassData.addAll(passes);
+        ViewTaskExecutor.getInstance().submitLatest(this, "gatePasses", task);
     }
 
     private void requestGatePass() {
@@ -7,6 +7,7 @@ import com.college.models.Student;
 import com.college.utils.SearchableStudentComboBox;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -198,19 +199,20 @@ public class GradesView {
     }
 
     private void loadGrades() {
-        gradeData.clear();
-
-        if (role.equals("STUDENT")) {
-            Student student = studentDAO.getStudentByUserId(userId);
-            if (student != null) {
-                List<Grade> grades = gradeDAO.getGradesByStudent(student.getId());
-                gradeData.addAll(grades);
+        javafx.concurrent.Task<List<Grade>> task = ViewTaskExecutor.task(() -> {
+            if (role.equals("STUDENT")) {
+                Student student = studentDAO.getStudentByUserId(userId);
+                return student != null ? gradeDAO.getGradesByStudent(student.getId()) : List.<Grade>of();
+            } else if ("FACULTY".equals(role)) {
+                return gradeDAO.getGradesByFaculty(userId);
             }
-        } else if ("FACULTY".equals(role)) {
-            gradeData.addAll(gradeDAO.getGradesByFaculty(userId));
-        } else {
-            gradeData.addAll(gradeDAO.getAllGrades());
-        }
+            return gradeDAO.getAllGrades();
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading grades...", "No grades found.");
+
+        task.setOnSucceeded(e -> gradeData.setAll(task.getValue()));
+
+        ViewTaskExecutor.getInstance().submitLatest(this, "grades", task);
     }
 
     private void showAddGradeDialog() {
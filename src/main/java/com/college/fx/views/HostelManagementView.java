@@ -14,6 +14,7 @@ import com.college.models.HostelAttendance;
 import com.college.utils.SearchableStudentComboBox;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -402,60 +403,75 @@ public class HostelManagementView {
 
     // ==================== ACTIONS ====================
 
+    private record HostelData(List<HostelAllocation> allocations, List<Hostel> hostels, List<Room> rooms,
+            List<Warden> wardens) {
+    }
+
     private void loadData() {
         if (role.equals("STUDENT")) {
             // Students don't need to load list data
             return;
-        } else if (role.equals("WARDEN")) {
+        }
+        javafx.concurrent.Task<HostelData> task = ViewTaskExecutor.task(() -> {
+            if (!role.equals("WARDEN")) {
+                // Admin/Faculty see all data
+                return new HostelData(hostelDAO.getAllActiveAllocations(), hostelDAO.getAllHostels(),
+                        hostelDAO.getAllRooms(), wardenDAO.getAllWardens());
+            }
             // Wardens see only their assigned hostel
             Warden warden = wardenDAO.getWardenByUserId(userId);
-            if (warden != null && warden.getHostelId() > 0) {
-                // Filter allocations by hostel
-                List<HostelAllocation> allAllocs = hostelDAO.getAllActiveAllocations();
-                List<Room> allRooms = hostelDAO.getAllRooms();
-                allocationData.clear();
-                for (HostelAllocation alloc : allAllocs) {
-                    for (Room r : allRooms) {
-                        if (r.getId() == alloc.getRoomId() && r.getHostelId() == warden.getHostelId()) {
-                            allocationData.add(alloc);
-                            break;
-                        }
-                    }
+            if (warden == null || warden.getHostelId() <= 0) {
+                return null;
+            }
+            List<Room> allRooms = hostelDAO.getAllRooms();
+            List<Room> rooms = new ArrayList<>();
+            for (Room r : allRooms) {
+                if (r.getHostelId() == warden.getHostelId()) {
+                    rooms.add(r);
                 }
+            }
 
-                hostelData.clear();
-                // Load only their hostel
-                List<Hostel> allHostels = hostelDAO.getAllHostels();
-                for (Hostel h : allHostels) {
-                    if (h.getId() == warden.getHostelId()) {
-                        hostelData.add(h);
+            // Filter allocations by hostel
+            List<HostelAllocation> allocations = new ArrayList<>();
+            for (HostelAllocation alloc : hostelDAO.getAllActiveAllocations()) {
+                for (Room r : rooms) {
+                    if (r.getId() == alloc.getRoomId()) {
+                        allocations.add(alloc);
                         break;
                     }
                 }
+            }
 
-                // Filter rooms by hostel
-                roomData.clear();
-                for (Room r : allRooms) {
-                    if (r.getHostelId() == warden.getHostelId()) {
-                        roomData.add(r);
-                    }
+            // Load only their hostel
+            List<Hostel> hostels = new ArrayList<>();
+            for (Hostel h : hostelDAO.getAllHostels()) {
+                if (h.getId() == warden.getHostelId()) {
+                    hostels.add(h);
+                    break;
                 }
             }
-        } else {
-            // Admin/Faculty see all data
-            allAllocations.clear();
-            allAllocations.addAll(hostelDAO.getAllActiveAllocations());
-            filterAllocations();
-
-            hostelData.clear();
-            hostelData.addAll(hostelDAO.getAllHostels());
-
-            roomData.clear();
-            roomData.addAll(hostelDAO.getAllRooms());
-
-            wardenData.clear();
-            wardenData.addAll(wardenDAO.getAllWardens());
+            return new HostelData(allocations, hostels, rooms, null);
+        });
+        if (allocationTable != null) {
+            ViewTaskExecutor.bindPlaceholder(allocationTable, task, "Loading allocations...",
+                    "No allocations found.");
         }
+        task.setOnSucceeded(e -> {
+            HostelData data = task.getValue();
+            if (data == null) {
+                return;
+            }
+            if (data.wardens() == null) {
+                allocationData.setAll(data.allocations());
+            } else {
+                allAllocations.setAll(data.allocations());
+                filterAllocations();
+                wardenData.setAll(data.wardens());
+            }
+            hostelData.setAll(data.hostels());
+            roomData.setAll(data.rooms());
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "hostel", task);
     }
 
     private void showAllocationDialog() {
@@ -656,7 +672,8 @@ public class HostelManagementView {
 
         dialog.setResultConverter(btn -> {
             if (btn == saveBtn && !nameField.getText().trim().isEmpty()) {
-                Hostel h = hostel != null ? hostel : new Hostel();
+                // Edit a copy, so the row is unchanged if the update fails
+                Hostel h = hostel != null ? new Hostel(hostel) : new Hostel();
                 h.setName(nameField.getText());
                 h.setType(typeCombo.getValue());
 
@@ -979,8 +996,9 @@ public class HostelManagementView {
     }
 
     private void loadWardens() {
-        wardenData.clear();
-        wardenData.addAll(wardenDAO.getAllWardens());
+        javafx.concurrent.Task<List<Warden>> task = ViewTaskExecutor.task(wardenDAO::getAllWardens);
+        task.setOnSucceeded(e -> wardenData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "wardens", task);
     }
 
     private VBox createWardenAttendanceTab() {
@@ -1144,15 +1162,19 @@ public class HostelManagementView {
         if (hostelAttendanceTable == null)
             return;
 
-        // This runs on FX thread
         // Fetch current attendance statuses
-        List<HostelAttendance> todayAtt = attendanceDAO.getAttendanceByDate(new java.util.Date());
-        java.util.Map<Integer, String> attMap = new java.util.HashMap<>();
-        for (HostelAttendance ha : todayAtt) {
-            attMap.put(ha.getStudentId(), ha.getStatus());
-        }
-        hostelAttendanceTable.getProperties().put("statusMap", attMap);
-        hostelAttendanceTable.refresh();
+        javafx.concurrent.Task<java.util.Map<Integer, String>> task = ViewTaskExecutor.task(() -> {
+            java.util.Map<Integer, String> attMap = new java.util.HashMap<>();
+            for (HostelAttendance ha : attendanceDAO.getAttendanceByDate(new java.util.Date())) {
+                attMap.put(ha.getStudentId(), ha.getStatus());
+            }
+            return attMap;
+        });
+        task.setOnSucceeded(e -> {
+            hostelAttendanceTable.getProperties().put("statusMap", task.getValue());
+            hostelAttendanceTable.refresh();
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "hostel-attendance", task);
     }
 
     private void showMarkHostelAttendanceDialog() {
@@ -6,6 +6,7 @@ import com.college.dao.RoleDAO;
 import com.college.dao.UserDAO; // Added
 import com.college.dao.AuditLogDAO;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import com.college.models.Department;
 import com.college.models.Permission;
 import com.college.models.Role;
@@ -204,8 +205,10 @@ public class InstituteManagementView {
     }
 
     private void loadDepartments() {
-        deptData.clear();
-        deptData.addAll(departmentDAO.getAllDepartments());
+        javafx.concurrent.Task<List<Department>> task = ViewTaskExecutor.task(departmentDAO::getAllDepartments);
+        ViewTaskExecutor.bindPlaceholder(deptTable, task, "Loading departments...", "No departments found.");
+        task.setOnSucceeded(e -> deptData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "departments", task);
     }
 
     private void showDepartmentDialog(Department dept) {
@@ -417,8 +420,13 @@ public class InstituteManagementView {
     }
 
     private void loadRoles() {
-        allRoles.setAll(roleDAO.getAllRoles());
-        filterRoles();
+        javafx.concurrent.Task<List<Role>> task = ViewTaskExecutor.task(roleDAO::getAllRoles);
+        ViewTaskExecutor.bindPlaceholder(roleTable, task, "Loading roles...", "No roles found.");
+        task.setOnSucceeded(e -> {
+            allRoles.setAll(task.getValue());
+            filterRoles();
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "roles", task);
     }
 
     private void filterRoles() {
@@ -454,10 +462,16 @@ public class InstituteManagementView {
             // Need to fetch full role object with permissions if not already loaded
             // But assume role object from getAllRoles() might not have deep permissions
             // So let's re-fetch to be safe, or check mapping
-            Role fullRole = roleDAO.getRoleById(selectedRole.getId());
-            if (fullRole != null) {
-                permissionData.addAll(fullRole.getPermissions());
-            }
+            int roleId = selectedRole.getId();
+            javafx.concurrent.Task<Role> task = ViewTaskExecutor.task(() -> roleDAO.getRoleById(roleId));
+            task.setOnSucceeded(e -> {
+                if (task.getValue() != null) {
+                    permissionData.setAll(task.getValue().getPermissions());
+                }
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "role-permissions", task);
+        } else {
+            ViewTaskExecutor.getInstance().cancel(this, "role-permissions");
         }
     }
 
@@ -854,8 +868,10 @@ public class InstituteManagementView {
     }
 
     private void loadAuditLogs() {
-        auditData.clear();
-        auditData.addAll(AuditLogDAO.getAllLogs());
+        javafx.concurrent.Task<List<AuditLog>> task = ViewTaskExecutor.task(AuditLogDAO::getAllLogs);
+        ViewTaskExecutor.bindPlaceholder(auditTable, task, "Loading audit logs...", "No audit logs found.");
+        task.setOnSucceeded(e -> auditData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "audit", task);
     }
 
     // ==================== SPECIAL USERS TAB ====================
@@ -927,8 +943,10 @@ public class InstituteManagementView {
     }
 
     private void loadUsers() {
-        userData.clear();
-        userData.addAll(userDAO.getSpecialUsers());
+        javafx.concurrent.Task<List<User>> task = ViewTaskExecutor.task(userDAO::getSpecialUsers);
+        ViewTaskExecutor.bindPlaceholder(userTable, task, "Loading users...", "No users found.");
+        task.setOnSucceeded(e -> userData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "users", task);
     }
 
     private void showAddUserDialog() {
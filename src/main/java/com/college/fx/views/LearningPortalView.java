@@ -10,6 +10,7 @@ import com.college.models.Syllabus;
 
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -27,20 +28,16 @@ public class LearningPortalView {
     private final LearningResourceDAO resourceDAO;
 
     private final StudentDAO studentDAO;
-    private Student currentStudent;
-
     private TabPane tabPane;
+    private ComboBox<Course> courseFilter;
+    private TableView<LearningResource> resourceTable;
+    private List<LearningResource> visibleResources = new ArrayList<>();
 
     public LearningPortalView() {
         this.syllabusDAO = new SyllabusDAO();
         this.resourceDAO = new LearningResourceDAO();
 
         this.studentDAO = new StudentDAO();
-
-        SessionManager session = SessionManager.getInstance();
-        if (session.isStudent()) {
-            this.currentStudent = studentDAO.getStudentByUserId(session.getUserId());
-        }
     }
 
     public BorderPane getView() {
@@ -62,26 +59,62 @@ public class LearningPortalView {
         tabPane.getTabs().add(createResourcesTab());
 
         root.setCenter(tabPane);
+        loadData();
 
         return root;
     }
 
+    private record PortalData(List<Course> courses, List<LearningResource> resources) {
+    }
+
+    private void loadData() {
+        SessionManager session = SessionManager.getInstance();
+        boolean isStudent = session.isStudent();
+        int userId = session.getUserId();
+        javafx.concurrent.Task<PortalData> task = ViewTaskExecutor.task(() -> {
+            // Load student courses
+            List<Course> courses = new ArrayList<>();
+            if (isStudent) {
+                Student student = studentDAO.getStudentByUserId(userId);
+                if (student != null) {
+                    courses = studentDAO.getRegisteredCourses(student.getId());
+                }
+            }
+
+            List<Integer> enrolledCourseIds = new ArrayList<>();
+            courses.forEach(c -> enrolledCourseIds.add(c.getId()));
+            List<LearningResource> filtered = new ArrayList<>();
+            for (LearningResource r : resourceDAO.getAllResources()) {
+                if (r.isPublic() || enrolledCourseIds.contains(r.getCourseId())) {
+                    filtered.add(r);
+                }
+            }
+            return new PortalData(courses, filtered);
+        });
+        ViewTaskExecutor.bindPlaceholder(resourceTable, task, "Loading resources...", "No resources available.");
+        task.setOnSucceeded(e -> {
+            PortalData data = task.getValue();
+            courseFilter.setItems(FXCollections.observableArrayList(data.courses()));
+            // Auto select first course
+            if (!data.courses().isEmpty()) {
+                courseFilter.getSelectionModel().selectFirst();
+                courseFilter.fireEvent(new javafx.event.ActionEvent());
+            }
+            visibleResources = data.resources();
+            resourceTable.setItems(FXCollections.observableArrayList(visibleResources));
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "portal", task);
+    }
+
     private Tab createSyllabusTab() {
         Tab tab = new Tab("Course Syllabi");
 
         VBox content = new VBox(10);
         content.setPadding(new Insets(15));
 
-        ComboBox<Course> courseFilter = new ComboBox<>();
+        courseFilter = new ComboBox<>();
         courseFilter.setPromptText("Select Course");
 
-        // Load student courses
-        List<Course> courses = new ArrayList<>();
-        if (currentStudent != null) {
-            courses = studentDAO.getRegisteredCourses(currentStudent.getId());
-        }
-        courseFilter.setItems(FXCollections.observableArrayList(courses));
-
         TableView<Syllabus> table = new TableView<>();
         table.getStyleClass().add("glass-table");
 
@@ -155,16 +188,14 @@ public class LearningPortalView {
         courseFilter.setOnAction(e -> {
             Course c = courseFilter.getValue();
             if (c != null) {
-                table.setItems(FXCollections.observableArrayList(syllabusDAO.getSyllabiByCourse(c.getId())));
+                javafx.concurrent.Task<List<Syllabus>> task = ViewTaskExecutor
+                        .task(() -> syllabusDAO.getSyllabiByCourse(c.getId()));
+                ViewTaskExecutor.bindPlaceholder(table, task, "Loading syllabi...", "No syllabus uploaded yet.");
+                task.setOnSucceeded(ev -> table.setItems(FXCollections.observableArrayList(task.getValue())));
+                ViewTaskExecutor.getInstance().submitLatest(this, "syllabi", task);
             }
         });
 
-        // Auto select first course
-        if (!courses.isEmpty()) {
-            courseFilter.getSelectionModel().selectFirst();
-            courseFilter.fireEvent(new javafx.event.ActionEvent());
-        }
-
         Label filterLabel = new Label("Filter by Course:");
         filterLabel.setStyle("-fx-text-fill: white;");
         content.getChildren().addAll(filterLabel, courseFilter, table);
@@ -187,6 +218,7 @@ public class LearningPortalView {
         searchField.getStyleClass().add("search-field"); // Use styled search field
 
         TableView<LearningResource> table = new TableView<>();
+        resourceTable = table;
         table.getStyleClass().add("glass-table");
 
         TableColumn<LearningResource, String> titleCol = new TableColumn<>("Title");
@@ -257,29 +289,14 @@ public class LearningPortalView {
 
         table.getColumns().addAll(java.util.Arrays.asList(titleCol, catCol, courseCol, sizeCol, actionCol));
 
-        List<LearningResource> allResources = resourceDAO.getAllResources();
-        List<LearningResource> filtered = new ArrayList<>();
-        List<Integer> enrolledCourseIds = new ArrayList<>();
-        if (currentStudent != null) {
-            studentDAO.getRegisteredCourses(currentStudent.getId()).forEach(c -> enrolledCourseIds.add(c.getId()));
-        }
-
-        for (LearningResource r : allResources) {
-            if (r.isPublic() || enrolledCourseIds.contains(r.getCourseId())) {
-                filtered.add(r);
-            }
-        }
-
-        table.setItems(FXCollections.observableArrayList(filtered));
-
         // Add listener for search
         searchField.textProperty().addListener((obs, oldVal, newVal) -> {
             if (newVal == null || newVal.trim().isEmpty()) {
-                table.setItems(FXCollections.observableArrayList(filtered));
+                table.setItems(FXCollections.observableArrayList(visibleResources));
             } else {
                 String lower = newVal.toLowerCase();
                 List<LearningResource> searchResults = new ArrayList<>();
-                for (LearningResource r : filtered) {
+                for (LearningResource r : visibleResources) {
                     if (r.getTitle().toLowerCase().contains(lower) ||
                             (r.getCourseName() != null && r.getCourseName().toLowerCase().contains(lower))) {
                         searchResults.add(r);
@@ -6,11 +6,14 @@ import com.college.models.StudentLeave;
 import com.college.models.StaffLeave;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import java.util.List;
+
 public class LeaveApprovalView {
 
     private final StudentLeaveDAO studentLeaveDAO = new StudentLeaveDAO();
@@ -166,11 +169,17 @@ public class LeaveApprovalView {
     }
 
     private void refreshStudentTable() {
-        studentTable.getItems().setAll(studentLeaveDAO.getPendingLeaves());
+        javafx.concurrent.Task<List<StudentLeave>> task = ViewTaskExecutor.task(studentLeaveDAO::getPendingLeaves);
+        ViewTaskExecutor.bindPlaceholder(studentTable, task, "Loading leave requests...", "No pending leave requests.");
+        task.setOnSucceeded(e -> studentTable.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "student-leaves", task);
     }
 
     private void refreshStaffTable() {
-        staffTable.getItems().setAll(staffLeaveDAO.getAllPendingLeaves());
+        javafx.concurrent.Task<List<StaffLeave>> task = ViewTaskExecutor.task(staffLeaveDAO::getAllPendingLeaves);
+        ViewTaskExecutor.bindPlaceholder(staffTable, task, "Loading leave requests...", "No pending leave requests.");
+        task.setOnSucceeded(e -> staffTable.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "staff-leaves", task);
     }
 
     private void showAlert(Alert.AlertType type, String title, String content) {
@@ -4,6 +4,7 @@ import com.college.dao.LibraryDAO;
 import com.college.models.Book;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -421,9 +422,13 @@ public class LibraryManagementView {
     // --- Data Loaders ---
 
     private void loadBooks() {
-        allBooks.clear();
-        allBooks.addAll(libraryDAO.getAllBooks());
-        filterBooks();
+        javafx.concurrent.Task<List<Book>> task = ViewTaskExecutor.task(libraryDAO::getAllBooks);
+        ViewTaskExecutor.bindPlaceholder(catalogTable, task, "Loading books...", "No books found.");
+        task.setOnSucceeded(e -> {
+            allBooks.setAll(task.getValue());
+            filterBooks();
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "books", task);
     }
 
     private void filterBooks() {
@@ -464,34 +469,55 @@ public class LibraryManagementView {
     private void loadIssuedBooks() {
         if (!"STUDENT".equals(role))
             return;
-        Student s = studentDAO.getStudentByUserId(userId);
-        if (s != null) {
+        javafx.concurrent.Task<IssuedBooks> task = ViewTaskExecutor.task(() -> {
+            Student s = studentDAO.getStudentByUserId(userId);
+            if (s == null) {
+                return null;
+            }
             bookIssueDAO.updateFinesForStudent(s.getId()); // Update fines first
-            issuedData.clear();
-            issuedData.addAll(bookIssueDAO.getIssuedBooksByStudent(s.getId()));
-
-            double totalFine = bookIssueDAO.getPendingFines(s.getId());
+            return new IssuedBooks(bookIssueDAO.getIssuedBooksByStudent(s.getId()),
+                    bookIssueDAO.getPendingFines(s.getId()));
+        });
+        ViewTaskExecutor.bindPlaceholder(issuedTable, task, "Loading issued books...", "No issued books.");
+        task.setOnSucceeded(e -> {
+            IssuedBooks issued = task.getValue();
+            if (issued == null) {
+                return;
+            }
+            issuedData.setAll(issued.issues());
             if (totalFineLabel != null) {
-                totalFineLabel.setText(String.format("Total Pending Fine: Rs. %.2f", totalFine));
+                totalFineLabel.setText(String.format("Total Pending Fine: Rs. %.2f", issued.totalFine()));
             }
-        }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "issued", task);
+    }
+
+    private record IssuedBooks(List<BookIssue> issues, double totalFine) {
     }
 
     private void loadRequests() {
         if (!"STUDENT".equals(role))
             return;
-        Student s = studentDAO.getStudentByUserId(userId);
-        if (s != null) {
-            requestData.clear();
-            requestData.addAll(bookRequestDAO.getRequestsByStudent(s.getId()));
-        }
+        javafx.concurrent.Task<List<BookRequest>> task = ViewTaskExecutor.task(() -> {
+            Student s = studentDAO.getStudentByUserId(userId);
+            return s == null ? null : bookRequestDAO.getRequestsByStudent(s.getId());
+        });
+        ViewTaskExecutor.bindPlaceholder(requestTable, task, "Loading requests...", "No book requests.");
+        task.setOnSucceeded(e -> {
+            if (task.getValue() != null) {
+                requestData.setAll(task.getValue());
+            }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "requests", task);
     }
 
     private void loadPendingRequests() {
         if (!SessionManager.getInstance().hasPermission("MANAGE_LIBRARY"))
             return;
-        reviewData.clear();
-        reviewData.addAll(bookRequestDAO.getPendingRequests());
+        javafx.concurrent.Task<List<BookRequest>> task = ViewTaskExecutor.task(bookRequestDAO::getPendingRequests);
+        ViewTaskExecutor.bindPlaceholder(reviewTable, task, "Loading requests...", "No pending requests.");
+        task.setOnSucceeded(e -> reviewData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "pending-requests", task);
     }
 
 
@@ -4,6 +4,7 @@ import com.college.dao.SystemSettingsDAO; // Added
 import com.college.services.DropboxStorageService; // Added
 import com.college.utils.DatabaseConnection;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -68,33 +69,8 @@ public class LoginView {
 
         logoContainer.getChildren().add(defaultIcon);
 
-        // Fetch Custom Logo
-        String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
-        if (logoPath != null && !logoPath.isEmpty()) {
-            ImageView customLogo = new ImageView();
-            customLogo.setFitHeight(60);
-            customLogo.setFitWidth(60);
-            customLogo.setPreserveRatio(true);
-
-            // Async loading
-            new Thread(() -> {
-                String url = storageService.getTemporaryLink(logoPath);
-                if (url != null) {
-                    javafx.application.Platform.runLater(() -> {
-                        customLogo.setImage(new Image(url, true));
-                        logoContainer.getChildren().clear(); // Remove default
-                        logoContainer.getChildren().add(customLogo);
-                    });
-                }
-            }).start();
-        }
-
-        // Fetch Custom Name
-        String collegeName = systemSettingsDAO.getSetting("COLLEGE_NAME");
-        if (collegeName == null || collegeName.isEmpty())
-            collegeName = "College Management";
-
-        Label title = new Label(collegeName);
+        // Custom name and logo replace the defaults once loaded
+        Label title = new Label("College Management");
         title.getStyleClass().add("login-title");
         title.setWrapText(true);
         title.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
@@ -103,6 +79,7 @@ public class LoginView {
         subtitle.getStyleClass().add("login-subtitle");
 
         VBox header = new VBox(10, logoContainer, title, subtitle);
+        loadBranding(logoContainer, title);
         header.setAlignment(Pos.CENTER);
         header.setPadding(new Insets(0, 0, 20, 0));
 
@@ -191,10 +168,42 @@ public class LoginView {
         usernameField.setOnAction(e -> passwordField.requestFocus());
     }
 
+    /**
+     * Fetch the college name and logo in the background
+     */
+    private void loadBranding(StackPane logoContainer, Label title) {
+        javafx.concurrent.Task<Branding> task = ViewTaskExecutor.task(() -> {
+            String name = systemSettingsDAO.getSetting("COLLEGE_NAME");
+            String logoPath = systemSettingsDAO.getSetting("COLLEGE_LOGO_PATH");
+            String logoUrl = logoPath != null && !logoPath.isEmpty() ? storageService.getTemporaryLink(logoPath)
+                    : null;
+            return new Branding(name, logoUrl);
+        });
+
+        task.setOnSucceeded(e -> {
+            Branding branding = task.getValue();
+            if (branding.name() != null && !branding.name().isEmpty()) {
+                title.setText(branding.name());
+            }
+            if (branding.logoUrl() != null) {
+                ImageView customLogo = new ImageView(new Image(branding.logoUrl(), true));
+                customLogo.setFitHeight(60);
+                customLogo.setFitWidth(60);
+                customLogo.setPreserveRatio(true);
+                logoContainer.getChildren().setAll(customLogo); // Replace default icon
+            }
+        });
+
+        ViewTaskExecutor.getInstance().submit(this, "branding", task);
+    }
+
+    private record Branding(String name, String logoUrl) {
+    }
+
     private void handleLogin() {
         String username = usernameField.getText().trim();
         String password = passwordField.getText();
-        // String roleSelection = roleComboBox.getValue();
+        String selectedRole = roleComboBox.getValue();
 
         if (username.isEmpty() || password.isEmpty()) {
             messageLabel.setText("Please enter username and password.");
@@ -211,59 +220,86 @@ public class LoginView {
         // However, standard flow implies selecting it.
         // PROCEED with standard auth logic.
 
+        // Password hashing and the session's role lookups run off the FX thread;
+        // a second Sign In while this runs is ignored
+        messageLabel.setText("Signing in...");
+        javafx.concurrent.Task<LoginResult> task = ViewTaskExecutor
+                .task(() -> signIn(username, password, selectedRole));
+
+        task.setOnSucceeded(e -> {
+            LoginResult result = task.getValue();
+            if (result.error() != null) {
+                messageLabel.setText(result.error());
+                if (result.userId() <= 0) {
+                    passwordField.clear();
+                }
+                return;
+            }
+            messageLabel.setText("");
+
+            // Switch to dashboard using Portal Type
+            DashboardView dashboardView = new DashboardView(username, result.portalType(), result.userId());
+            com.college.MainFX.getPrimaryStage().getScene().setRoot(dashboardView.getView());
+            com.college.MainFX.getPrimaryStage().setMaximized(true);
+        });
+
+        task.setOnFailed(e -> messageLabel.setText("Login failed. Please try again."));
+
+        ViewTaskExecutor.getInstance().submit(this, "login", task);
+    }
+
+    /**
+     * Authenticate and set up the session
+     *
+     * @return the portal to open, or an error message for the user
+     */
+    private LoginResult signIn(String username, String password, String selectedRole) {
         int userId = authenticateUser(username, password);
+        if (userId <= 0) {
+            return new LoginResult(0, null, "Invalid credentials.");
+        }
 
-        if (userId > 0) {
-            // Retrieve full user details including legacy role
-            com.college.dao.UserDAO userDAO = new com.college.dao.UserDAO();
-            com.college.models.User user = userDAO.getUserById(userId);
+        // Retrieve full user details including legacy role
+        com.college.dao.UserDAO userDAO = new com.college.dao.UserDAO();
+        com.college.models.User user = userDAO.getUserById(userId);
 
-            // ... (Rest of login logic remains same) ...
+        // Initialize session with legacy role string
+        SessionManager.getInstance().initSession(userId, username,
+                (user != null && user.getRole() != null) ? user.getRole() : "");
 
-            // Initialize session with legacy role string
-            SessionManager.getInstance().initSession(userId, username,
-                    (user != null && user.getRole() != null) ? user.getRole() : "");
+        // Get the actual Role object from session to determine Portal
+        com.college.models.Role userRole = SessionManager.getInstance().getUserRole();
 
-            // Get the actual Role object from session to determine Portal
-            com.college.models.Role userRole = SessionManager.getInstance().getUserRole();
+        if (userRole == null) {
+            com.college.utils.Logger.error("Login successful but no role assigned for user: " + username);
+            return new LoginResult(userId, null, "Login failed: Account configuration error.");
+        }
 
-            if (userRole == null) {
-                com.college.utils.Logger.error("Login successful but no role assigned for user: " + username);
-                messageLabel.setText("Login failed: Account configuration error.");
-                return;
+        // Validate selected role against actual user role
+        if (selectedRole != null && !"Select".equalsIgnoreCase(selectedRole)) {
+            // If user selected a specific role, ensure it matches their assigned role
+            // Check against Role Code (e.g., STUDENT, ADMIN)
+            if (!selectedRole.equalsIgnoreCase(userRole.getCode())) {
+                return new LoginResult(userId, null, "Access Denied: You are not authorized as " + selectedRole);
             }
+        }
 
-            // Validate selected role against actual user role
-            String selectedRole = roleComboBox.getValue();
-            if (selectedRole != null && !"Select".equalsIgnoreCase(selectedRole)) {
-                // If user selected a specific role, ensure it matches their assigned role
-                // Check against Role Code (e.g., STUDENT, ADMIN)
-                if (!selectedRole.equalsIgnoreCase(userRole.getCode())) {
-                    messageLabel.setText("Access Denied: You are not authorized as " + selectedRole);
-                    return;
-                }
-            }
+        String portalType = userRole.getPortalType();
+        if (portalType == null || portalType.isEmpty()) {
+            portalType = "STUDENT"; // Default fallback
+        }
 
-            String portalType = userRole.getPortalType();
-            if (portalType == null || portalType.isEmpty()) {
-                portalType = "STUDENT"; // Default fallback
-            }
+        // Re-initialize session with the resolved Portal Type
+        SessionManager.getInstance().initSession(userId, username, portalType);
 
-            // Re-initialize session with the resolved Portal Type
-            SessionManager.getInstance().initSession(userId, username, portalType);
+        // Log login
+        com.college.dao.AuditLogDAO.logAction(userId, username, "LOGIN", "USER", userId,
+                "User logged in. Portal: " + portalType);
 
-            // Log login
-            com.college.dao.AuditLogDAO.logAction(userId, username, "LOGIN", "USER", userId,
-                    "User logged in. Portal: " + portalType);
+        return new LoginResult(userId, portalType, null);
+    }
 
-            // Switch to dashboard using Portal Type
-            DashboardView dashboardView = new DashboardView(username, portalType, userId);
-            com.college.MainFX.getPrimaryStage().getScene().setRoot(dashboardView.getView());
-            com.college.MainFX.getPrimaryStage().setMaximized(true);
-        } else {
-            messageLabel.setText("Invalid credentials.");
-            passwordField.clear();
-        }
+    private record LoginResult(int userId, String portalType, String error) {
     }
 
     private int authenticateUser(String username, String password) {
@@ -4,6 +4,7 @@ import com.college.dao.NotificationDAO;
 import com.college.models.Notification;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 
 import javafx.scene.control.*;
@@ -63,7 +64,6 @@ public class NotificationView {
             }
         });
 
-        List<Notification> notifications = notificationDAO.getPendingNotifications();
         // Filter by user ID (DAO returns all pending, we should filter or DAO should
         // support filtering)
         // Checking NotificationDAO: getPendingNotifications returns ALL pending?
@@ -72,16 +72,18 @@ public class NotificationView {
         // It does NOT filter by user. This is a BUG in NotificationDAO as well unless
         // implied.
         // We will filter here for now, but should fix DAO.
-
-        listView.getItems().addAll(notifications.stream()
-                .filter(n -> n.getRecipientUserId() == userId)
-                .toList());
+        javafx.concurrent.Task<List<Notification>> task = ViewTaskExecutor
+                .task(() -> notificationDAO.getPendingNotifications().stream()
+                        .filter(n -> n.getRecipientUserId() == userId)
+                        .toList());
+        listView.setPlaceholder(new Label("Loading notifications..."));
+        task.setOnSucceeded(e -> {
+            listView.getItems().setAll(task.getValue());
+            listView.setPlaceholder(new Label("No new notifications"));
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "notifications", task);
 
         view.getChildren().addAll(title, listView);
-
-        if (listView.getItems().isEmpty()) {
-            listView.setPlaceholder(new Label("No new notifications"));
-        }
     }
 
     public VBox getView() {
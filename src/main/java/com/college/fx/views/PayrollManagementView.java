@@ -5,6 +5,7 @@ import com.college.dao.PayrollDAO;
 import com.college.models.Employee;
 import com.college.models.PayrollEntry;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -55,13 +56,12 @@ public class PayrollManagementView {
         root.getChildren().addAll(title, controls, payrollTable);
 
         // Initial Load
-        loadEmployees();
         refreshData();
     }
 
-    private void loadEmployees() {
+    private Map<Integer, Employee> loadEmployees() {
         List<Employee> employees = employeeDAO.getAllEmployees(); // Ensure this method exists
-        employeeMap = employees.stream().collect(Collectors.toMap(Employee::getId, e -> e));
+        return employees.stream().collect(Collectors.toMap(Employee::getId, e -> e));
     }
 
     private HBox createControls() {
@@ -157,7 +157,20 @@ public class PayrollManagementView {
     private void refreshData() {
         int month = monthCombo.getValue().getValue();
         int year = yearSpinner.getValue();
-        payrollData.setAll(payrollDAO.getPayrollEntriesByMonthYear(month, year));
+        Map<Integer, Employee> employees = employeeMap;
+        javafx.concurrent.Task<PayrollData> task = ViewTaskExecutor.task(() -> new PayrollData(
+                employees != null ? employees : loadEmployees(),
+                payrollDAO.getPayrollEntriesByMonthYear(month, year)));
+        ViewTaskExecutor.bindPlaceholder(payrollTable, task, "Loading payroll...",
+                "No payroll entries for this month.");
+        task.setOnSucceeded(e -> {
+            employeeMap = task.getValue().employees();
+            payrollData.setAll(task.getValue().entries());
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "payroll", task);
+    }
+
+    private record PayrollData(Map<Integer, Employee> employees, List<PayrollEntry> entries) {
     }
 
     private void generatePayroll() {
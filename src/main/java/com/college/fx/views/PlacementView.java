@@ -6,12 +6,16 @@ import com.college.models.PlacementCompany;
 import com.college.models.PlacementDrive;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class PlacementView {
 
@@ -22,6 +26,8 @@ public class PlacementView {
     private TextField searchField;
     private ComboBox<String> companyFilter;
     private Label statsLabel;
+    private List<PlacementCompany> allCompanies = new ArrayList<>();
+    private List<PlacementDrive> allDrives = new ArrayList<>();
 
     public PlacementView(String role, int userId) {
         this.userRole = role;
@@ -121,26 +127,37 @@ public class PlacementView {
         table.getStyleClass().add("glass-table");
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
 
-        searchField.textProperty().addListener((obs, old, newVal) -> {
-            String searchText = newVal.toLowerCase();
-            List<PlacementCompany> all = placementDAO.getAllCompanies();
-            table.getItems().setAll(all.stream()
+        Runnable filterCompanies = () -> {
+            String searchText = searchField.getText().toLowerCase();
+            table.getItems().setAll(allCompanies.stream()
                 .filter(c -> searchText.isEmpty() ||
                     c.getName().toLowerCase().contains(searchText) ||
                     c.getIndustry().toLowerCase().contains(searchText))
                 .collect(java.util.stream.Collectors.toList()));
             statsLabel.setText(String.format("Total Companies: %d", table.getItems().size()));
-        });
+        };
+
+        Runnable loadCompanies = () -> {
+            javafx.concurrent.Task<List<PlacementCompany>> task = ViewTaskExecutor.task(placementDAO::getAllCompanies);
+            ViewTaskExecutor.bindPlaceholder(table, task, "Loading companies...", "No companies found.");
+            task.setOnSucceeded(e -> {
+                allCompanies = new ArrayList<>(task.getValue());
+                filterCompanies.run();
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "companies", task);
+        };
+
+        searchField.textProperty().addListener((obs, old, newVal) -> filterCompanies.run());
 
         addBtn.setOnAction(e -> {
             showAddCompanyDialog();
-            table.getItems().setAll(placementDAO.getAllCompanies());
             searchField.clear();
+            loadCompanies.run();
         });
 
         refreshBtn.setOnAction(e -> {
-            table.getItems().setAll(placementDAO.getAllCompanies());
             searchField.clear();
+            loadCompanies.run();
         });
 
         TableColumn<PlacementCompany, String> nameCol = new TableColumn<>("Name");
@@ -177,6 +194,7 @@ public class PlacementView {
                     alert.showAndWait().ifPresent(response -> {
                         if (response == ButtonType.OK) {
                             placementDAO.deleteCompany(comp.getId());
+                            allCompanies.remove(comp);
                             getTableView().getItems().remove(comp);
                             DialogUtils.showSuccess("Deleted", "Company deleted.");
                         }
@@ -200,8 +218,7 @@ public class PlacementView {
         table.getColumns().add(emailCol);
         table.getColumns().add(phoneCol);
         table.getColumns().add(actionCol);
-        table.getItems().addAll(placementDAO.getAllCompanies());
-        statsLabel.setText(String.format("Total Companies: %d", table.getItems().size()));
+        loadCompanies.run();
 
         vbox.getChildren().addAll(header, table);
         VBox.setVgrow(table, Priority.ALWAYS);
@@ -266,10 +283,13 @@ public class PlacementView {
 
         companyFilter = new ComboBox<>();
         companyFilter.getItems().add("All Companies");
-        companyFilter.getItems().addAll(placementDAO.getAllCompanies().stream()
+        companyFilter.setValue("All Companies");
+        javafx.concurrent.Task<List<String>> namesTask = ViewTaskExecutor.task(() -> placementDAO.getAllCompanies()
+            .stream()
             .map(PlacementCompany::getName)
             .collect(java.util.stream.Collectors.toList()));
-        companyFilter.setValue("All Companies");
+        namesTask.setOnSucceeded(e -> companyFilter.getItems().addAll(namesTask.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "company-names", namesTask);
 
         Label driveStats = new Label("Total Drives: 0");
         driveStats.setStyle("-fx-font-weight: bold; -fx-text-fill: #e2e8f0;");
@@ -292,8 +312,7 @@ public class PlacementView {
         Runnable filterDrives = () -> {
             String searchText = driveSearch.getText().toLowerCase();
             String company = companyFilter.getValue();
-            List<PlacementDrive> all = placementDAO.getAllDrives();
-            table.getItems().setAll(all.stream()
+            table.getItems().setAll(allDrives.stream()
                 .filter(d -> {
                     boolean matchesSearch = searchText.isEmpty() ||
                         d.getCompanyName().toLowerCase().contains(searchText) ||
@@ -305,15 +324,25 @@ public class PlacementView {
             driveStats.setText(String.format("Total Drives: %d", table.getItems().size()));
         };
 
+        Runnable loadDrives = () -> {
+            javafx.concurrent.Task<List<PlacementDrive>> task = ViewTaskExecutor.task(placementDAO::getAllDrives);
+            ViewTaskExecutor.bindPlaceholder(table, task, "Loading drives...", "No drives found.");
+            task.setOnSucceeded(e -> {
+                allDrives = new ArrayList<>(task.getValue());
+                filterDrives.run();
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "drives", task);
+        };
+
         driveSearch.textProperty().addListener((obs, old, newVal) -> filterDrives.run());
         companyFilter.setOnAction(e -> filterDrives.run());
 
         addBtn.setOnAction(e -> {
             showAddDriveDialog();
-            filterDrives.run();
+            loadDrives.run();
         });
 
-        refreshBtn.setOnAction(e -> filterDrives.run());
+        refreshBtn.setOnAction(e -> loadDrives.run());
 
         TableColumn<PlacementDrive, String> compCol = new TableColumn<>("Company");
         compCol.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getCompanyName()));
@@ -360,6 +389,7 @@ public class PlacementView {
                     alert.showAndWait().ifPresent(response -> {
                         if (response == ButtonType.OK) {
                             placementDAO.deleteDrive(drive.getId());
+                            allDrives.remove(drive);
                             getTableView().getItems().remove(drive);
                             DialogUtils.showSuccess("Deleted", "Drive deleted.");
                         }
@@ -384,8 +414,7 @@ public class PlacementView {
         table.getColumns().add(dateCol);
         table.getColumns().add(deadCol);
         table.getColumns().add(actionCol);
-        table.getItems().addAll(placementDAO.getAllDrives());
-        driveStats.setText(String.format("Total Drives: %d", table.getItems().size()));
+        loadDrives.run();
 
         vbox.getChildren().addAll(header, table);
         VBox.setVgrow(table, Priority.ALWAYS);
@@ -482,7 +511,11 @@ public class PlacementView {
         table.getColumns().add(dateCol);
         table.getColumns().add(statusCol);
         table.getColumns().add(updateCol);
-        table.getItems().addAll(placementDAO.getApplicationsForDrive(drive.getId()));
+        javafx.concurrent.Task<List<PlacementApplication>> task = ViewTaskExecutor
+                .task(() -> placementDAO.getApplicationsForDrive(drive.getId()));
+        ViewTaskExecutor.bindPlaceholder(table, task, "Loading applicants...", "No applicants yet.");
+        task.setOnSucceeded(e -> table.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "applicants", task);
 
         VBox content = new VBox(10, table);
         content.setPadding(new Insets(10));
@@ -583,16 +616,29 @@ public class PlacementView {
         flow.setVgap(20);
         flow.setPadding(new Insets(10, 0, 0, 0));
 
-        List<PlacementDrive> drives = placementDAO.getUpcomingDrives();
-        for (PlacementDrive d : drives) {
-            flow.getChildren().add(createDriveCard(d));
-        }
+        javafx.concurrent.Task<StudentDrives> task = ViewTaskExecutor.task(() -> {
+            List<PlacementDrive> drives = placementDAO.getUpcomingDrives();
+            Set<Integer> appliedDriveIds = new HashSet<>();
+            for (PlacementDrive d : drives) {
+                if (placementDAO.hasApplied(d.getId(), userId)) {
+                    appliedDriveIds.add(d.getId());
+                }
+            }
+            return new StudentDrives(drives, appliedDriveIds);
+        });
+        task.setOnSucceeded(e -> {
+            StudentDrives data = task.getValue();
+            for (PlacementDrive d : data.drives()) {
+                flow.getChildren().add(createDriveCard(d, data.appliedDriveIds().contains(d.getId())));
+            }
 
-        if (drives.isEmpty()) {
-            Label empty = new Label("No upcoming drives at the moment.");
-            empty.setStyle("-fx-text-fill: #94a3b8; -fx-font-size: 14px;");
-            flow.getChildren().add(empty);
-        }
+            if (data.drives().isEmpty()) {
+                Label empty = new Label("No upcoming drives at the moment.");
+                empty.setStyle("-fx-text-fill: #94a3b8; -fx-font-size: 14px;");
+                flow.getChildren().add(empty);
+            }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "upcoming-drives", task);
 
         ScrollPane scroll = new ScrollPane(flow);
         scroll.setFitToWidth(true);
@@ -604,7 +650,10 @@ public class PlacementView {
         return vbox;
     }
 
-    private VBox createDriveCard(PlacementDrive d) {
+    private record StudentDrives(List<PlacementDrive> drives, Set<Integer> appliedDriveIds) {
+    }
+
+    private VBox createDriveCard(PlacementDrive d, boolean applied) {
         VBox card = new VBox(10);
         card.setStyle(
                 "-fx-background-color: rgba(30, 41, 59, 0.8); -fx-background-radius: 12; -fx-padding: 20; -fx-border-color: rgba(255,255,255,0.15); -fx-border-radius: 12; -fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.3), 10, 0, 0, 5);");
@@ -632,7 +681,7 @@ public class PlacementView {
         applyBtn.setStyle(
                 "-fx-background-color: #3b82f6; -fx-text-fill: white; -fx-font-weight: bold; -fx-cursor: hand;");
 
-        if (placementDAO.hasApplied(d.getId(), userId)) {
+        if (applied) {
             applyBtn.setText("Applied");
             applyBtn.setDisable(true);
             applyBtn.setStyle("-fx-background-color: #475569; -fx-opacity: 0.7;");
@@ -649,7 +698,7 @@ public class PlacementView {
                     .filter(node -> node.getParent() != null && node.getParent().getParent() instanceof VBox)
                     .findFirst().orElse(null);
                 if (appTable != null) {
-                    appTable.getItems().setAll(placementDAO.getApplicationsForStudent(userId));
+                    loadApplications(appTable);
                 }
             });
         }
@@ -687,9 +736,7 @@ public class PlacementView {
         table.getStyleClass().add("glass-table");
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
 
-        refreshBtn.setOnAction(e -> {
-            table.getItems().setAll(placementDAO.getApplicationsForStudent(userId));
-        });
+        refreshBtn.setOnAction(e -> loadApplications(table));
 
         TableColumn<PlacementApplication, String> compCol = new TableColumn<>("Company");
         compCol.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getCompanyName()));
@@ -780,13 +827,21 @@ public class PlacementView {
         table.getColumns().add(statusCol);
         table.getColumns().add(dateCol);
         table.getColumns().add(actionCol);
-        table.getItems().addAll(placementDAO.getApplicationsForStudent(userId));
+        loadApplications(table);
 
         vbox.getChildren().addAll(header, table);
         VBox.setVgrow(table, Priority.ALWAYS);
         return vbox;
     }
 
+    private void loadApplications(TableView<PlacementApplication> table) {
+        javafx.concurrent.Task<List<PlacementApplication>> task = ViewTaskExecutor
+                .task(() -> placementDAO.getApplicationsForStudent(userId));
+        ViewTaskExecutor.bindPlaceholder(table, task, "Loading applications...", "No applications yet.");
+        task.setOnSucceeded(e -> table.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "applications", task);
+    }
+
     public VBox getView() {
         return root;
     }
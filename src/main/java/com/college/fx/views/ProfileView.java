@@ -6,6 +6,7 @@ import com.college.models.Student;
 import com.college.models.Faculty;
 
 import com.college.utils.UserDisplayNameUtil;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -94,27 +95,38 @@ public class ProfileView {
     }
 
     private void loadProfileDetails(GridPane details) {
-        int row = 0;
-
         if (role.equals("STUDENT")) {
-            Student student = new StudentDAO().getStudentByUserId(userId);
-            if (student != null) {
-                addDetailRow(details, "Email", student.getEmail(), row++);
-                addDetailRow(details, "Phone", student.getPhone(), row++);
-                addDetailRow(details, "Department", student.getDepartment(), row++);
-                addDetailRow(details, "Semester", String.valueOf(student.getSemester()), row++);
-                addDetailRow(details, "Batch", student.getBatch(), row++);
-                addDetailRow(details, "Hostelite", student.isHostelite() ? "Yes" : "No", row++);
-            }
+            javafx.concurrent.Task<Student> task = ViewTaskExecutor
+                    .task(() -> new StudentDAO().getStudentByUserId(userId));
+            task.setOnSucceeded(e -> {
+                Student student = task.getValue();
+                if (student != null) {
+                    int row = 0;
+                    addDetailRow(details, "Email", student.getEmail(), row++);
+                    addDetailRow(details, "Phone", student.getPhone(), row++);
+                    addDetailRow(details, "Department", student.getDepartment(), row++);
+                    addDetailRow(details, "Semester", String.valueOf(student.getSemester()), row++);
+                    addDetailRow(details, "Batch", student.getBatch(), row++);
+                    addDetailRow(details, "Hostelite", student.isHostelite() ? "Yes" : "No", row++);
+                }
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "profile", task);
         } else if (role.equals("FACULTY")) {
-            Faculty faculty = new FacultyDAO().getFacultyByUserId(userId);
-            if (faculty != null) {
-                addDetailRow(details, "Email", faculty.getEmail(), row++);
-                addDetailRow(details, "Phone", faculty.getPhone(), row++);
-                addDetailRow(details, "Department", faculty.getDepartment(), row++);
-                addDetailRow(details, "Qualification", faculty.getQualification(), row++);
-            }
+            javafx.concurrent.Task<Faculty> task = ViewTaskExecutor
+                    .task(() -> new FacultyDAO().getFacultyByUserId(userId));
+            task.setOnSucceeded(e -> {
+                Faculty faculty = task.getValue();
+                if (faculty != null) {
+                    int row = 0;
+                    addDetailRow(details, "Email", faculty.getEmail(), row++);
+                    addDetailRow(details, "Phone", faculty.getPhone(), row++);
+                    addDetailRow(details, "Department", faculty.getDepartment(), row++);
+                    addDetailRow(details, "Qualification", faculty.getQualification(), row++);
+                }
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "profile", task);
         } else {
+            int row = 0;
             addDetailRow(details, "Username", username, row++);
             addDetailRow(details, "Role", role, row++);
         }
@@ -3,10 +3,12 @@ package com.college.fx.views;
 import com.college.fx.views.reports.AttendanceReportTab;
 import com.college.fx.views.reports.FeesReportTab;
 import com.college.fx.views.reports.GradesReportTab;
+import com.college.models.VisitorLog;
 import com.college.services.ExcelReportGenerator;
 import com.college.services.PdfReportGenerator;
 import com.college.services.ReportDataService;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.scene.Parent;
 import javafx.scene.control.*;
@@ -16,6 +18,7 @@ import javafx.stage.FileChooser;
 
 import java.io.File;
 import java.time.LocalDate;
+import java.util.List;
 
 public class ReportsView {
 
@@ -138,7 +141,13 @@ public class ReportsView {
             return;
         }
 
-        var logs = reportService.getVisitorLogs(start, end);
+        javafx.concurrent.Task<List<VisitorLog>> task = ViewTaskExecutor.task(
+                () -> reportService.getVisitorLogs(start, end));
+        task.setOnSucceeded(e -> saveVisitorReport(task.getValue(), start, end, type));
+        ViewTaskExecutor.getInstance().submitWithSpinner(this, "visitor-report", task, "Loading visitor logs...");
+    }
+
+    private void saveVisitorReport(List<VisitorLog> logs, LocalDate start, LocalDate end, String type) {
         if (logs.isEmpty()) {
             DialogUtils.showInfo("No Data", "No visitor logs found for the selected range.");
             return;
@@ -8,6 +8,7 @@ import com.college.models.ResourceCategory;
 import com.college.services.FileUploadService;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -148,14 +149,13 @@ public class ResourceManagementView {
     }
 
     private void loadCourses() {
-        List<Course> courses;
         SessionManager session = SessionManager.getInstance();
-        if (session.isAdmin()) {
-            courses = courseDAO.getAllCourses();
-        } else {
-            courses = courseDAO.getCoursesByFaculty(session.getUserId());
-        }
-        courseComboBox.setItems(FXCollections.observableArrayList(courses));
+        boolean admin = session.isAdmin();
+        int userId = session.getUserId();
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(
+                () -> admin ? courseDAO.getAllCourses() : courseDAO.getCoursesByFaculty(userId));
+        task.setOnSucceeded(e -> courseComboBox.setItems(FXCollections.observableArrayList(task.getValue())));
+        ViewTaskExecutor.getInstance().submitLatest(this, "courses", task);
     }
 
     private void setupTable() {
@@ -248,21 +248,25 @@ public class ResourceManagementView {
 
     private void loadResources(String searchQuery) {
         Course selected = courseComboBox.getValue();
-        List<LearningResource> list;
-        if (selected != null) {
-            list = resourceDAO.getResourcesByCourse(selected.getId());
-        } else {
-            list = resourceDAO.getAllResources();
-        }
-
-        // Filter by search query
-        if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-            final String query = searchQuery.toLowerCase();
-            list.removeIf(r -> !r.getTitle().toLowerCase().contains(query) &&
-                    !(r.getDescription() != null && r.getDescription().toLowerCase().contains(query)));
-        }
+        javafx.concurrent.Task<List<LearningResource>> task = ViewTaskExecutor.task(() -> {
+            List<LearningResource> list;
+            if (selected != null) {
+                list = resourceDAO.getResourcesByCourse(selected.getId());
+            } else {
+                list = resourceDAO.getAllResources();
+            }
 
-        resourceTable.setItems(FXCollections.observableArrayList(list));
+            // Filter by search query
+            if (searchQuery != null && !searchQuery.trim().isEmpty()) {
+                final String query = searchQuery.toLowerCase();
+                list.removeIf(r -> !r.getTitle().toLowerCase().contains(query) &&
+                        !(r.getDescription() != null && r.getDescription().toLowerCase().contains(query)));
+            }
+            return list;
+        });
+        ViewTaskExecutor.bindPlaceholder(resourceTable, task, "Loading resources...", "No resources found.");
+        task.setOnSucceeded(e -> resourceTable.setItems(FXCollections.observableArrayList(task.getValue())));
+        ViewTaskExecutor.getInstance().submitLatest(this, "resources", task);
     }
 
     private void showUploadDialog() {
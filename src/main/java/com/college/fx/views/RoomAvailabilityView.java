@@ -1,8 +1,9 @@
 package com.college.fx.views;
 
-import com.college.dao.TimetableDAO;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.TimetableIndex;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -12,13 +13,16 @@ import javafx.scene.text.FontWeight;
 
 import java.time.LocalDate;
 import java.time.format.TextStyle;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class RoomAvailabilityView {
 
-    private final TimetableDAO timetableDAO = new TimetableDAO();
+    // Bitset index of the timetable: availability checks do not hit the database
+    private final TimetableIndex timetableIndex = TimetableIndex.getInstance();
     private VBox resultBox;
     private Label statsLabel;
     private TextField searchField;
@@ -136,13 +140,38 @@ public class RoomAvailabilityView {
         return view;
     }
 
+    /**
+     * Rooms of the timetable and those booked in each requested slot
+     */
+    private record RoomStatus(List<String> allRooms, Map<String, List<String>> occupiedBySlot) {
+    }
+
+    /**
+     * Read the timetable index off the FX thread: a lookup after the index
+     * TTL expires reloads the whole timetable. Replaces any pending lookup.
+     */
+    private void loadRoomStatus(String dayOfWeek, List<String> timeSlots,
+            java.util.function.Consumer<RoomStatus> onLoaded) {
+        javafx.concurrent.Task<RoomStatus> task = ViewTaskExecutor.task(() -> {
+            Map<String, List<String>> occupiedBySlot = new LinkedHashMap<>();
+            for (String timeSlot : timeSlots) {
+                occupiedBySlot.put(timeSlot, timetableIndex.getOccupiedRooms(dayOfWeek, timeSlot));
+            }
+            return new RoomStatus(timetableIndex.getRooms(), occupiedBySlot);
+        });
+        task.setOnSucceeded(e -> onLoaded.accept(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "result", task);
+    }
+
     private void checkAvailability(LocalDate date, String timeSlot) {
-        resultBox.getChildren().clear();
         String dayOfWeek = date.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        loadRoomStatus(dayOfWeek, List.of(timeSlot), status -> showAvailability(dayOfWeek, timeSlot,
+                status.allRooms(), status.occupiedBySlot().get(timeSlot)));
+    }
 
-        List<String> allRooms = timetableDAO.getAllRooms();
-        List<String> occupiedRooms = timetableDAO.getOccupiedRooms(dayOfWeek, timeSlot);
-
+    private void showAvailability(String dayOfWeek, String timeSlot, List<String> allRooms,
+            List<String> occupiedRooms) {
+        resultBox.getChildren().clear();
         String searchText = searchField.getText().toLowerCase();
         String filter = filterCombo.getValue();
 
@@ -235,9 +264,13 @@ public class RoomAvailabilityView {
     }
 
     private void showTodaySchedule() {
-        resultBox.getChildren().clear();
         LocalDate today = LocalDate.now();
         String dayOfWeek = today.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        loadRoomStatus(dayOfWeek, List.of(TIME_SLOTS), status -> showSchedule(today, dayOfWeek, status));
+    }
+
+    private void showSchedule(LocalDate today, String dayOfWeek, RoomStatus status) {
+        resultBox.getChildren().clear();
 
         VBox content = new VBox(20);
         content.setPadding(new Insets(15));
@@ -248,9 +281,8 @@ public class RoomAvailabilityView {
         content.getChildren().add(header);
 
         for (String timeSlot : TIME_SLOTS) {
-            List<String> allRooms = timetableDAO.getAllRooms();
-            List<String> occupiedRooms = timetableDAO.getOccupiedRooms(dayOfWeek, timeSlot);
-            int available = allRooms.size() - occupiedRooms.size();
+            List<String> occupiedRooms = status.occupiedBySlot().get(timeSlot);
+            int available = status.allRooms().size() - occupiedRooms.size();
 
             HBox slotBox = new HBox(20);
             slotBox.setAlignment(Pos.CENTER_LEFT);
@@ -280,6 +312,7 @@ public class RoomAvailabilityView {
     }
 
     private void refreshAllRoomsOverview() {
+        ViewTaskExecutor.getInstance().cancel(this, "result");
         resultBox.getChildren().clear();
         VBox content = new VBox(15);
         content.setPadding(new Insets(15));
@@ -294,8 +327,10 @@ public class RoomAvailabilityView {
         content.getChildren().addAll(info, tip);
         resultBox.getChildren().add(content);
 
-        List<String> allRooms = timetableDAO.getAllRooms();
-        statsLabel.setText("Total Rooms: " + allRooms.size());
+        // The first lookup loads the timetable index, keep it off the FX thread
+        javafx.concurrent.Task<List<String>> task = ViewTaskExecutor.task(timetableIndex::getRooms);
+        task.setOnSucceeded(e -> statsLabel.setText("Total Rooms: " + task.getValue().size()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "rooms", task);
     }
 
     private void showManageRoomsDialog() {
@@ -385,7 +420,6 @@ public class RoomAvailabilityView {
         actionCol.setPrefWidth(150);
 
         roomTable.getColumns().addAll(roomCol, nameCol, actionCol);
-        roomTable.getItems().addAll(timetableDAO.getAllRooms());
         VBox.setVgrow(roomTable, Priority.ALWAYS);
 
         addBtn.setOnAction(e -> {
@@ -410,6 +444,14 @@ public class RoomAvailabilityView {
         Label statsLbl = new Label("Total Rooms: " + roomTable.getItems().size());
         statsLbl.setStyle("-fx-font-weight: bold; -fx-text-fill: #e2e8f0;");
 
+        javafx.concurrent.Task<List<String>> roomsTask = ViewTaskExecutor.task(timetableIndex::getRooms);
+        ViewTaskExecutor.bindPlaceholder(roomTable, roomsTask, "Loading rooms...", "No rooms in the timetable.");
+        roomsTask.setOnSucceeded(e -> {
+            roomTable.getItems().addAll(0, roomsTask.getValue());
+            statsLbl.setText("Total Rooms: " + roomTable.getItems().size());
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "manage-rooms", roomsTask);
+
         content.getChildren().addAll(new Label("Add New Room"), addBox, new Separator(), statsLbl, roomTable);
         dialog.getDialogPane().setContent(content);
         dialog.showAndWait();
@@ -6,6 +6,7 @@ import com.college.models.Scholarship;
 import com.college.models.ScholarshipApplication;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -77,8 +78,15 @@ public class ScholarshipView {
     }
 
     private void refreshContent() {
-        scholarships = communityDAO.getAllScholarships();
+        javafx.concurrent.Task<List<Scholarship>> task = ViewTaskExecutor.task(communityDAO::getAllScholarships);
+        task.setOnSucceeded(e -> {
+            scholarships = task.getValue();
+            showContent();
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "scholarships", task);
+    }
 
+    private void showContent() {
         centerStack.getChildren().clear();
         mainLayout.setCenter(centerStack);
         mainLayout.setBottom(null);
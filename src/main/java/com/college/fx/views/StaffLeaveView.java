@@ -4,6 +4,7 @@ import com.college.dao.StaffLeaveDAO;
 import com.college.models.StaffLeave;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,6 +16,8 @@ import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
+import java.util.List;
+
 public class StaffLeaveView {
 
     private VBox root;
@@ -144,7 +147,12 @@ public class StaffLeaveView {
     private void refreshTable() {
         SessionManager session = SessionManager.getInstance();
         if (session.isLoggedIn()) {
-            leaveData.setAll(leaveDAO.getLeavesByUser(session.getUserId()));
+            int userId = session.getUserId();
+            javafx.concurrent.Task<List<StaffLeave>> task = ViewTaskExecutor
+                    .task(() -> leaveDAO.getLeavesByUser(userId));
+            ViewTaskExecutor.bindPlaceholder(leaveTable, task, "Loading leave history...", "No leave applications.");
+            task.setOnSucceeded(e -> leaveData.setAll(task.getValue()));
+            ViewTaskExecutor.getInstance().submitLatest(this, "leaves", task);
         }
     }
 
@@ -4,6 +4,7 @@ import com.college.dao.StudentLeaveDAO;
 import com.college.models.StudentLeave;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
@@ -12,6 +13,7 @@ import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import java.sql.Date;
+import java.util.List;
 
 public class StudentLeaveView {
 
@@ -165,7 +167,12 @@ public class StudentLeaveView {
     private void refreshTable() {
         SessionManager session = SessionManager.getInstance();
         if (session.isLoggedIn()) {
-            leaveTable.getItems().setAll(leaveDAO.getLeavesByStudent(session.getUserId()));
+            int userId = session.getUserId();
+            javafx.concurrent.Task<List<StudentLeave>> task = ViewTaskExecutor
+                    .task(() -> leaveDAO.getLeavesByStudent(userId));
+            ViewTaskExecutor.bindPlaceholder(leaveTable, task, "Loading leave history...", "No leave applications.");
+            task.setOnSucceeded(e -> leaveTable.getItems().setAll(task.getValue()));
+            ViewTaskExecutor.getInstance().submitLatest(this, "leaves", task);
         }
     }
 
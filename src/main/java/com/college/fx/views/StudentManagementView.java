@@ -4,6 +4,7 @@ import com.college.dao.StudentDAO;
 import com.college.models.Student;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import com.college.utils.CSVImporter;
 import javafx.stage.FileChooser;
@@ -114,7 +115,7 @@ public class StudentManagementView implements com.college.fx.interfaces.ContextA
 
         Button refreshBtn = new Button("Refresh");
         refreshBtn.getStyleClass().add("icon-button");
-        refreshBtn.setOnAction(e -> loadStudents());
+        refreshBtn.setOnAction(e -> ViewTaskExecutor.getInstance().submit(this, "students", createLoadTask()));
 
         header.getChildren().addAll(title, spacer, statsLabel, searchField, filterLabel, deptFilter, refreshBtn);
         return header;
@@ -220,16 +221,22 @@ public class StudentManagementView implements com.college.fx.interfaces.ContextA
     }
 
     private void loadStudents() {
-        allStudents.clear();
-        List<Student> students;
-        if ("WARDEN".equals(role)) {
-            students = studentDAO.getHostelStudents();
-        } else {
-            students = studentDAO.getAllStudents();
-        }
-        allStudents.addAll(students);
-        filterStudents();
-        updateStats();
+        // Reload after an edit: drop any load that started before the change
+        ViewTaskExecutor.getInstance().submitLatest(this, "students", createLoadTask());
+    }
+
+    private javafx.concurrent.Task<List<Student>> createLoadTask() {
+        javafx.concurrent.Task<List<Student>> task = ViewTaskExecutor.task(() -> "WARDEN".equals(role)
+                ? studentDAO.getHostelStudents()
+                : studentDAO.getAllStudents());
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading students...", "No students found.");
+
+        task.setOnSucceeded(e -> {
+            allStudents.setAll(task.getValue());
+            filterStudents();
+            updateStats();
+        });
+        return task;
     }
 
     private void filterStudents() {
@@ -599,39 +606,32 @@ public class StudentManagementView implements com.college.fx.interfaces.ContextA
         File file = fileChooser.showOpenDialog(tableView.getScene().getWindow());
 
         if (file != null) {
-            // Show progress
-            Alert progressAlert = new Alert(Alert.AlertType.INFORMATION);
-            DialogUtils.styleDialog(progressAlert);
-            progressAlert.setTitle("Importing");
-            progressAlert.setHeaderText("Importing students from CSV...");
-            progressAlert.setContentText("Please wait...");
-            progressAlert.show();
-
-            // Import in background
-            new Thread(() -> {
-                CSVImporter.ImportResult result = CSVImporter.importStudents(file);
-
-                // Update UI on JavaFX thread
-                Platform.runLater(() -> {
-                    progressAlert.close();
-                    loadStudents(); // Refresh table
-
-                    Alert resultAlert = new Alert(Alert.AlertType.INFORMATION);
-                    DialogUtils.styleDialog(resultAlert);
-                    resultAlert.setTitle("Import Complete");
-                    resultAlert.setHeaderText(null);
-                    resultAlert.setContentText(result.getSummary());
-
-                    TextArea detailsArea = new TextArea(result.getSummary());
-                    detailsArea.setEditable(false);
-                    detailsArea.setWrapText(true);
-                    detailsArea.setMaxWidth(Double.MAX_VALUE);
-                    detailsArea.setMaxHeight(Double.MAX_VALUE);
-
-                    resultAlert.getDialogPane().setExpandableContent(detailsArea);
-                    resultAlert.showAndWait();
-                });
-            }).start();
+            javafx.concurrent.Task<CSVImporter.ImportResult> task = ViewTaskExecutor
+                    .task(() -> CSVImporter.importStudents(file));
+
+            task.setOnSucceeded(e -> {
+                CSVImporter.ImportResult result = task.getValue();
+                loadStudents(); // Refresh table
+
+                Alert resultAlert = new Alert(Alert.AlertType.INFORMATION);
+                DialogUtils.styleDialog(resultAlert);
+                resultAlert.setTitle("Import Complete");
+                resultAlert.setHeaderText(null);
+                resultAlert.setContentText(result.getSummary());
+
+                TextArea detailsArea = new TextArea(result.getSummary());
+                detailsArea.setEditable(false);
+                detailsArea.setWrapText(true);
+                detailsArea.setMaxWidth(Double.MAX_VALUE);
+                detailsArea.setMaxHeight(Double.MAX_VALUE);
+
+                resultAlert.getDialogPane().setExpandableContent(detailsArea);
+                resultAlert.showAndWait();
+            });
+
+            task.setOnFailed(e -> showAlert("Error", "Failed to import students from CSV."));
+
+            ViewTaskExecutor.getInstance().submitWithSpinner(this, "import", task, "Importing students from CSV...");
         }
     }
 
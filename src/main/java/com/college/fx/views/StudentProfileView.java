@@ -8,6 +8,7 @@ import com.college.models.StudentFeedback;
 import com.college.dao.StudentFeedbackDAO;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -23,6 +24,7 @@ import javafx.stage.FileChooser;
 import java.io.File;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -320,37 +322,43 @@ public class StudentProfileView {
 
         VBox feedbackList = new VBox(10);
         Runnable refreshList = () -> {
-            feedbackList.getChildren().clear();
-            for (StudentFeedback sf : feedbackDAO.getFeedbackByStudent(student.getId())) {
-                if (sf.isPrivate() && !canAdd)
-                    continue; // Skip private if not faculty/admin
-
-                VBox card = new VBox(5);
-                card.setPadding(new Insets(10));
-                card.setStyle(
-                        "-fx-background-color: rgba(255, 255, 255, 0.05); -fx-background-radius: 8; -fx-border-color: rgba(255, 255, 255, 0.1); -fx-border-radius: 8;");
-
-                Label catLbl = new Label(sf.getCategory());
-                catLbl.setStyle("-fx-font-weight: bold; -fx-text-fill: #e2e8f0; -fx-font-size: 10px;");
-
-                Label textLbl = new Label(sf.getFeedbackText());
-                textLbl.setWrapText(true);
-
-                Label metaLbl = new Label("By " + sf.getFacultyName() + " on " + sf.getCreatedAt());
-                metaLbl.setStyle("-fx-font-size: 10px; -fx-text-fill: #94a3b8;");
+            int studentId = student.getId();
+            javafx.concurrent.Task<List<StudentFeedback>> task = ViewTaskExecutor
+                    .task(() -> feedbackDAO.getFeedbackByStudent(studentId));
+            task.setOnSucceeded(e -> {
+                feedbackList.getChildren().clear();
+                for (StudentFeedback sf : task.getValue()) {
+                    if (sf.isPrivate() && !canAdd)
+                        continue; // Skip private if not faculty/admin
+
+                    VBox card = new VBox(5);
+                    card.setPadding(new Insets(10));
+                    card.setStyle(
+                            "-fx-background-color: rgba(255, 255, 255, 0.05); -fx-background-radius: 8; -fx-border-color: rgba(255, 255, 255, 0.1); -fx-border-radius: 8;");
+
+                    Label catLbl = new Label(sf.getCategory());
+                    catLbl.setStyle("-fx-font-weight: bold; -fx-text-fill: #e2e8f0; -fx-font-size: 10px;");
+
+                    Label textLbl = new Label(sf.getFeedbackText());
+                    textLbl.setWrapText(true);
+
+                    Label metaLbl = new Label("By " + sf.getFacultyName() + " on " + sf.getCreatedAt());
+                    metaLbl.setStyle("-fx-font-size: 10px; -fx-text-fill: #94a3b8;");
+
+                    if (sf.isPrivate()) {
+                        Label pvtLbl = new Label("PRIVATE");
+                        pvtLbl.setStyle("-fx-text-fill: #dc2626; -fx-font-weight: bold; -fx-font-size: 10px;");
+                        card.getChildren().add(pvtLbl);
+                    }
 
-                if (sf.isPrivate()) {
-                    Label pvtLbl = new Label("PRIVATE");
-                    pvtLbl.setStyle("-fx-text-fill: #dc2626; -fx-font-weight: bold; -fx-font-size: 10px;");
-                    card.getChildren().add(pvtLbl);
+                    card.getChildren().addAll(catLbl, textLbl, metaLbl);
+                    feedbackList.getChildren().add(card);
                 }
-
-                card.getChildren().addAll(catLbl, textLbl, metaLbl);
-                feedbackList.getChildren().add(card);
-            }
-            if (feedbackList.getChildren().isEmpty()) {
-                feedbackList.getChildren().add(new Label("No feedback records found."));
-            }
+                if (feedbackList.getChildren().isEmpty()) {
+                    feedbackList.getChildren().add(new Label("No feedback records found."));
+                }
+            });
+            ViewTaskExecutor.getInstance().submitLatest(this, "feedback", task);
         };
 
         if (canAdd) {
@@ -7,6 +7,7 @@ import com.college.models.Syllabus;
 import com.college.services.FileUploadService;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -129,14 +130,13 @@ public class SyllabusManagementView {
     }
 
     private void loadCourses() {
-        List<Course> courses;
         SessionManager session = SessionManager.getInstance();
-        if (session.isAdmin()) {
-            courses = courseDAO.getAllCourses();
-        } else {
-            courses = courseDAO.getCoursesByFaculty(session.getUserId());
-        }
-        courseComboBox.setItems(FXCollections.observableArrayList(courses));
+        boolean admin = session.isAdmin();
+        int userId = session.getUserId();
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(
+                () -> admin ? courseDAO.getAllCourses() : courseDAO.getCoursesByFaculty(userId));
+        task.setOnSucceeded(e -> courseComboBox.setItems(FXCollections.observableArrayList(task.getValue())));
+        ViewTaskExecutor.getInstance().submitLatest(this, "courses", task);
     }
 
     private void setupTable() {
@@ -235,9 +235,13 @@ public class SyllabusManagementView {
     private void loadSyllabi() {
         Course selected = courseComboBox.getValue();
         if (selected != null) {
-            List<Syllabus> list = syllabusDAO.getSyllabiByCourse(selected.getId());
-            syllabusTable.setItems(FXCollections.observableArrayList(list));
+            javafx.concurrent.Task<List<Syllabus>> task = ViewTaskExecutor
+                    .task(() -> syllabusDAO.getSyllabiByCourse(selected.getId()));
+            ViewTaskExecutor.bindPlaceholder(syllabusTable, task, "Loading syllabi...", "No syllabus uploaded yet.");
+            task.setOnSucceeded(e -> syllabusTable.setItems(FXCollections.observableArrayList(task.getValue())));
+            ViewTaskExecutor.getInstance().submitLatest(this, "syllabi", task);
         } else {
+            ViewTaskExecutor.getInstance().cancel(this, "syllabi");
             syllabusTable.getItems().clear();
         }
     }
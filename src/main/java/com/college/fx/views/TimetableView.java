@@ -4,8 +4,12 @@ import com.college.dao.TimetableDAO;
 import com.college.dao.StudentDAO;
 import com.college.models.Timetable;
 import com.college.models.Student;
+import com.college.services.TimetableGenerator;
+import com.college.services.TimetableSolver;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.TimetableIndex;
+import com.college.utils.ViewTaskExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -121,8 +125,10 @@ public class TimetableView {
         if (session.hasPermission("MANAGE_SYSTEM") || session.hasPermission("MANAGE_TIMETABLE")) {
             Button editBtn = createButton("Edit", "#22c55e");
             editBtn.setOnAction(e -> showEditTimetableDialog());
+            Button generateBtn = createButton("Generate", "#8b5cf6");
+            generateBtn.setOnAction(e -> generateTimetable());
             header.getChildren().addAll(title, spacer, deptLabel, departmentCombo, semLabel, semesterCombo, loadBtn,
-                    editBtn);
+                    editBtn, generateBtn);
         } else {
             header.getChildren().addAll(title, spacer, deptLabel, departmentCombo, semLabel, semesterCombo, loadBtn);
         }
@@ -188,6 +194,9 @@ public class TimetableView {
                 entry.setFacultyName(facultyField.getText());
                 entry.setRoomNumber(roomField.getText());
 
+                if (!confirmConflicts(entry)) {
+                    return null; // Cancelled, keep the timetable unchanged
+                }
                 return timetableDAO.saveTimetableEntry(entry);
             }
             return false;
@@ -292,30 +301,113 @@ public class TimetableView {
         }
 
         // Load and populate entries
-        try {
-            List<Timetable> entries = timetableDAO.getTimetableByDepartmentAndSemester(department, semester);
+        javafx.concurrent.Task<List<Timetable>> task = ViewTaskExecutor
+                .task(() -> timetableDAO.getTimetableByDepartmentAndSemester(department, semester));
+        task.setOnSucceeded(e -> showEntries(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "timetable", task);
+    }
 
-            for (Timetable entry : entries) {
-                int dayIndex = getDayIndex(entry.getDayOfWeek());
-                int timeIndex = getTimeIndex(entry.getTimeSlot());
+    private void showEntries(List<Timetable> entries) {
+        for (Timetable entry : entries) {
+            int dayIndex = getDayIndex(entry.getDayOfWeek());
+            int timeIndex = getTimeIndex(entry.getTimeSlot());
 
-                if (dayIndex >= 0 && timeIndex >= 0) {
-                    String subject = entry.getSubject();
-                    String room = entry.getRoomNumber() != null ? entry.getRoomNumber() : "";
+            if (dayIndex >= 0 && timeIndex >= 0) {
+                String subject = entry.getSubject();
+                String room = entry.getRoomNumber() != null ? entry.getRoomNumber() : "";
 
-                    Label cell = createFilledCell(subject, room);
+                Label cell = createFilledCell(subject, room);
 
-                    // Remove existing cell
-                    timetableGrid.getChildren().removeIf(node -> GridPane.getColumnIndex(node) != null &&
-                            GridPane.getRowIndex(node) != null &&
-                            GridPane.getColumnIndex(node) == dayIndex + 1 &&
-                            GridPane.getRowIndex(node) == timeIndex + 1);
-                    timetableGrid.add(cell, dayIndex + 1, timeIndex + 1);
-                }
+                // Remove existing cell
+                timetableGrid.getChildren().removeIf(node -> GridPane.getColumnIndex(node) != null &&
+                        GridPane.getRowIndex(node) != null &&
+                        GridPane.getColumnIndex(node) == dayIndex + 1 &&
+                        GridPane.getRowIndex(node) == timeIndex + 1);
+                timetableGrid.add(cell, dayIndex + 1, timeIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Build the selected department/semester's timetable automatically and
+     * save it after confirmation. Only a conflict-free result can be saved.
+     */
+    private void generateTimetable() {
+        String department = departmentCombo.getValue();
+        Integer semester = semesterCombo.getValue();
+        if (department == null || semester == null) {
+            return;
+        }
+
+        TimetableGenerator generator = new TimetableGenerator();
+        javafx.concurrent.Task<TimetableSolver.Result> task = ViewTaskExecutor.task(
+                () -> generator.generate(List.of(DAYS), List.of(TIME_SLOTS), department, semester));
+
+        task.setOnSucceeded(e -> {
+            TimetableSolver.Result result = task.getValue();
+            if (result.getEntries().isEmpty() && result.isConflictFree()) {
+                showAlert("Generate Timetable", "Nothing to schedule. Check that " + department + " semester "
+                        + semester + " has courses.");
+                return;
+            }
+            if (!result.isConflictFree()) {
+                showConflicts(result);
+                return;
+            }
+            Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+            DialogUtils.styleDialog(alert);
+            alert.setTitle("Generate Timetable");
+            alert.setHeaderText("Found a conflict-free timetable");
+            alert.setContentText(result.getEntries().size() + " sessions scheduled, "
+                    + result.getSoftPenalty() + " repeated on the same day.\n\n"
+                    + "Replace the current timetable of " + department + " semester " + semester + "?");
+            if (alert.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) {
+                return;
+            }
+            saveGenerated(generator, result);
+        });
+
+        task.setOnFailed(e -> showAlert("Error", "Failed to generate the timetable."));
+
+        ViewTaskExecutor.getInstance().submitWithSpinner(this, "generate", task, "Generating timetable...");
+    }
+
+    private void saveGenerated(TimetableGenerator generator, TimetableSolver.Result result) {
+        javafx.concurrent.Task<Boolean> task = ViewTaskExecutor.task(() -> generator.save(result));
+        task.setOnSucceeded(e -> {
+            if (task.getValue()) {
+                loadTimetable();
+            } else {
+                showAlert("Error", "Failed to save the generated timetable.");
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+        });
+        task.setOnFailed(e -> showAlert("Error", "Failed to save the generated timetable."));
+        ViewTaskExecutor.getInstance().submitWithSpinner(this, "save-generated", task, "Saving timetable...");
+    }
+
+    /**
+     * Explain why a generated timetable cannot be saved
+     */
+    private void showConflicts(TimetableSolver.Result result) {
+        StringBuilder message = new StringBuilder("The best timetable found still has ")
+                .append(result.getHardViolations()).append(" conflict(s), so it was not saved.\n");
+        int doubleBooked = result.getHardViolations() - result.getUnplaced();
+        if (doubleBooked > 0) {
+            message.append("\n- ").append(doubleBooked)
+                    .append(" double booking(s) of a class group or faculty member");
         }
+        if (result.getUnplaced() > 0) {
+            message.append("\n- ").append(result.getUnplaced())
+                    .append(" session(s) with no free room");
+        }
+        message.append("\n\nAdd rooms to TIMETABLE_ROOMS, reduce course credits or free up faculty, then generate again.");
+
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        DialogUtils.styleDialog(alert);
+        alert.setTitle("Generate Timetable");
+        alert.setHeaderText("No conflict-free timetable found");
+        alert.setContentText(message.toString());
+        alert.showAndWait();
     }
 
     private int getDayIndex(String day) {
@@ -350,6 +442,39 @@ public class TimetableView {
         return btn;
     }
 
+    /**
+     * Warn when the room or faculty member is already booked by another
+     * department/semester at that time
+     *
+     * @return true to save anyway
+     */
+    private boolean confirmConflicts(Timetable entry) {
+        TimetableIndex index = TimetableIndex.getInstance();
+        StringBuilder conflicts = new StringBuilder();
+        Timetable room = index.findRoomConflict(entry);
+        if (room != null) {
+            conflicts.append("Room ").append(room.getRoomNumber()).append(" is booked by ")
+                    .append(room.getDepartment()).append(" semester ").append(room.getSemester())
+                    .append(" (").append(room.getSubject()).append(").\n");
+        }
+        Timetable faculty = index.findFacultyConflict(entry);
+        if (faculty != null) {
+            conflicts.append(faculty.getFacultyName()).append(" teaches ").append(faculty.getDepartment())
+                    .append(" semester ").append(faculty.getSemester())
+                    .append(" (").append(faculty.getSubject()).append(").\n");
+        }
+        if (conflicts.length() == 0) {
+            return true;
+        }
+
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        DialogUtils.styleDialog(alert);
+        alert.setTitle("Time Conflict");
+        alert.setHeaderText(entry.getDayOfWeek() + " " + entry.getTimeSlot() + " is already taken");
+        alert.setContentText(conflicts + "\nSave anyway?");
+        return alert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK;
+    }
+
     private void showAlert(String title, String message) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         DialogUtils.styleDialog(alert);
@@ -360,12 +485,16 @@ public class TimetableView {
     }
 
     private void loadStudentTimetable() {
-        Student student = studentDAO.getStudentByUserId(userId);
-        if (student != null) {
-            departmentCombo.setValue(student.getDepartment());
-            semesterCombo.setValue(student.getSemester());
-            loadTimetable();
-        }
+        javafx.concurrent.Task<Student> task = ViewTaskExecutor.task(() -> studentDAO.getStudentByUserId(userId));
+        task.setOnSucceeded(e -> {
+            Student student = task.getValue();
+            if (student != null) {
+                departmentCombo.setValue(student.getDepartment());
+                semesterCombo.setValue(student.getSemester());
+                loadTimetable();
+            }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "student", task);
     }
 
     public VBox getView() {
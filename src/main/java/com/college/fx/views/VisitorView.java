@@ -5,6 +5,7 @@ import com.college.models.Visitor;
 import com.college.models.VisitorLog;
 import com.college.utils.DialogUtils;
 import com.college.utils.SessionManager;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -12,6 +13,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 public class VisitorView {
 
@@ -318,10 +320,16 @@ public class VisitorView {
     }
 
     private void refreshActiveTable() {
-        activeTable.getItems().setAll(visitorDAO.getActiveVisitors());
+        javafx.concurrent.Task<List<VisitorLog>> task = ViewTaskExecutor.task(visitorDAO::getActiveVisitors);
+        ViewTaskExecutor.bindPlaceholder(activeTable, task, "Loading visitors...", "No visitors on campus.");
+        task.setOnSucceeded(e -> activeTable.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "active", task);
     }
 
     private void refreshHistoryTable() {
-        historyTable.getItems().setAll(visitorDAO.getAllVisitorLogs());
+        javafx.concurrent.Task<List<VisitorLog>> task = ViewTaskExecutor.task(visitorDAO::getAllVisitorLogs);
+        ViewTaskExecutor.bindPlaceholder(historyTable, task, "Loading visitor history...", "No visitor records.");
+        task.setOnSucceeded(e -> historyTable.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "history", task);
     }
 }
@@ -8,6 +8,7 @@ import com.college.models.EventVolunteer;
 import com.college.models.Student;
 import com.college.utils.SessionManager;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
@@ -192,20 +193,27 @@ public class VolunteerTasksView {
 
     private void refreshMyTasks() {
         int userId = SessionManager.getInstance().getUserId();
-        Student student = studentDAO.getStudentByUserId(userId);
-
-        if (student != null) {
-            myTasksTable.getItems().setAll(eventDetailsDAO.getVolunteersByStudent(student.getId()));
-        }
+        javafx.concurrent.Task<List<EventVolunteer>> task = ViewTaskExecutor.task(() -> {
+            Student student = studentDAO.getStudentByUserId(userId);
+            return student == null ? null : eventDetailsDAO.getVolunteersByStudent(student.getId());
+        });
+        ViewTaskExecutor.bindPlaceholder(myTasksTable, task, "Loading tasks...", "No volunteer tasks yet.");
+        task.setOnSucceeded(e -> {
+            if (task.getValue() != null) {
+                myTasksTable.getItems().setAll(task.getValue());
+            }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "my-tasks", task);
     }
 
     private void refreshOpportunities() {
         // Fetch UPCOMING events
-        List<Event> allEvents = eventDAO.getAllEvents();
-        List<Event> upcomingEvents = allEvents.stream()
+        javafx.concurrent.Task<List<Event>> task = ViewTaskExecutor.task(() -> eventDAO.getAllEvents().stream()
                 .filter(e -> "UPCOMING".equalsIgnoreCase(e.getStatus()))
-                .collect(Collectors.toList());
-        opportunitiesTable.getItems().setAll(upcomingEvents);
+                .collect(Collectors.toList()));
+        ViewTaskExecutor.bindPlaceholder(opportunitiesTable, task, "Loading events...", "No upcoming events.");
+        task.setOnSucceeded(e -> opportunitiesTable.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "opportunities", task);
     }
 
     private void showVolunteerDialog(Event event) {
@@ -2,11 +2,10 @@ package com.college.fx.views.reports;
 
 import com.college.dao.AttendanceDAO;
 import com.college.dao.CourseDAO;
-import com.college.dao.StudentDAO;
 import com.college.models.Course;
-import com.college.models.Student;
 import com.college.utils.ReportGenerator;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -32,12 +31,10 @@ public class AttendanceReportTab {
     private javafx.collections.transformation.FilteredList<AttendanceStat> filteredData;
     private AttendanceDAO attendanceDAO;
     private CourseDAO courseDAO;
-    private StudentDAO studentDAO;
 
     public AttendanceReportTab() {
         this.attendanceDAO = new AttendanceDAO();
         this.courseDAO = new CourseDAO();
-        this.studentDAO = new StudentDAO();
         this.masterData = FXCollections.observableArrayList();
         this.filteredData = new javafx.collections.transformation.FilteredList<>(masterData, p -> true);
         createContent();
@@ -118,8 +115,9 @@ public class AttendanceReportTab {
     }
 
     private void loadCourses() {
-        List<Course> courses = courseDAO.getAllCourses();
-        courseComboBox.getItems().addAll(courses);
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(courseDAO::getAllCourses);
+        task.setOnSucceeded(e -> courseComboBox.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "courses", task);
     }
 
     private void loadReport() {
@@ -127,15 +125,16 @@ public class AttendanceReportTab {
         if (selected == null)
             return;
 
-        masterData.clear();
-        Map<Integer, Double> stats = attendanceDAO.getCourseAttendanceStats(selected.getId());
-
-        for (Map.Entry<Integer, Double> entry : stats.entrySet()) {
-            Student s = studentDAO.getStudentById(entry.getKey());
-            if (s != null) {
-                masterData.add(new AttendanceStat(s.getName(), entry.getValue()));
+        javafx.concurrent.Task<List<AttendanceStat>> task = ViewTaskExecutor.task(() -> {
+            List<AttendanceStat> stats = new ArrayList<>();
+            for (Map.Entry<String, Double> entry : attendanceDAO.getCourseAttendanceByStudentName(selected.getId())) {
+                stats.add(new AttendanceStat(entry.getKey(), entry.getValue()));
             }
-        }
+            return stats;
+        });
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading report...", "No attendance recorded.");
+        task.setOnSucceeded(e -> masterData.setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "report", task);
     }
 
     private void exportReport() {
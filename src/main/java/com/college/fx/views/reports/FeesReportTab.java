@@ -4,6 +4,7 @@ import com.college.dao.EnhancedFeeDAO;
 import com.college.models.StudentFee;
 import com.college.utils.ReportGenerator;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -128,7 +129,13 @@ public class FeesReportTab {
     }
 
     private void loadData() {
-        List<StudentFee> fees = feeDAO.getAllFees();
+        javafx.concurrent.Task<List<StudentFee>> task = ViewTaskExecutor.task(feeDAO::getAllFees);
+        ViewTaskExecutor.bindPlaceholder(tableView, task, "Loading fees...", "No fee records.");
+        task.setOnSucceeded(e -> showData(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "fees", task);
+    }
+
+    private void showData(List<StudentFee> fees) {
         tableData.setAll(fees);
 
         // Calculate Stats
@@ -5,6 +5,7 @@ import com.college.dao.GradeDAO;
 import com.college.models.Course;
 import com.college.utils.ReportGenerator;
 import com.college.utils.DialogUtils;
+import com.college.utils.ViewTaskExecutor;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -106,8 +107,9 @@ public class GradesReportTab {
     }
 
     private void loadCourses() {
-        List<Course> courses = courseDAO.getAllCourses();
-        courseComboBox.getItems().addAll(courses);
+        javafx.concurrent.Task<List<Course>> task = ViewTaskExecutor.task(courseDAO::getAllCourses);
+        task.setOnSucceeded(e -> courseComboBox.getItems().setAll(task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "courses", task);
     }
 
     private void loadReport() {
@@ -115,8 +117,20 @@ public class GradesReportTab {
         if (selected == null)
             return;
 
+        int courseId = selected.getId();
+        javafx.concurrent.Task<GradeReport> task = ViewTaskExecutor.task(() -> new GradeReport(
+                gradeDAO.getGradeDistribution(courseId), gradeDAO.getGradesByCourse(courseId)));
+        ViewTaskExecutor.bindPlaceholder(gradeTable, task, "Loading grades...", "No grades recorded.");
+        task.setOnSucceeded(e -> showReport(selected, task.getValue()));
+        ViewTaskExecutor.getInstance().submitLatest(this, "report", task);
+    }
+
+    private record GradeReport(Map<String, Integer> distribution, List<com.college.models.Grade> grades) {
+    }
+
+    private void showReport(Course selected, GradeReport report) {
         // Load Chart Data
-        currentDistribution = gradeDAO.getGradeDistribution(selected.getId());
+        currentDistribution = report.distribution();
         ObservableList<PieChart.Data> chartData = FXCollections.observableArrayList();
         for (Map.Entry<String, Integer> entry : currentDistribution.entrySet()) {
             if (entry.getValue() > 0) {
@@ -127,8 +141,7 @@ public class GradesReportTab {
         gradeChart.setTitle("Grade Distribution: " + selected.getName());
 
         // Load Table Data
-        List<com.college.models.Grade> grades = gradeDAO.getGradesByCourse(selected.getId());
-        gradeTable.setItems(FXCollections.observableArrayList(grades));
+        gradeTable.setItems(FXCollections.observableArrayList(report.grades()));
     }
 
     private void exportReport() {
@@ -14,6 +14,7 @@ public class Attendance {
     private Date date;
     private String status; // PRESENT, ABSENT, LATE
     private String remarks;
+    private int markedBy; // user id, 0 if unknown
 
     // For display purposes
     private String studentName;
@@ -78,6 +79,14 @@ public class Attendance {
         this.remarks = remarks;
     }
 
+    public int getMarkedBy() {
+        return markedBy;
+    }
+
+    public void setMarkedBy(int markedBy) {
+        this.markedBy = markedBy;
+    }
+
     public String getStudentName() {
         return studentName;
     }
@@ -35,6 +35,19 @@ public class Course {
         this.semester = semester;
     }
 
+    /** Copy constructor */
+    public Course(Course other) {
+        this(other.id, other.name, other.code, other.credits, other.department, other.semester);
+        this.departmentId = other.departmentId;
+        this.departmentName = other.departmentName;
+        this.courseType = other.courseType;
+        this.capacity = other.capacity;
+        this.enrolledCount = other.enrolledCount;
+        this.facultyId = other.facultyId;
+        this.facultyName = other.facultyName;
+        this.specialization = other.specialization;
+    }
+
     // Getters and Setters
     public int getId() {
         return id;
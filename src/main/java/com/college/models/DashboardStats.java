@@ -0,0 +1,110 @@
+package com.college.models;
+
+/**
+ * Aggregate counters shown on the home dashboard
+ */
+public class DashboardStats {
+    private int studentCount;
+    private int facultyCount;
+    private int userCount;
+    private int departmentCount;
+    private int courseCount;
+    private int bookCount;
+    private int hostelRoomCount;
+    private int pendingGatePassCount;
+    private int feeCategoryCount;
+    private double todaysCollection;
+    private double totalPendingFees;
+
+    public DashboardStats() {
+    }
+
+    // Getters and Setters
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public int getFacultyCount() {
+        return facultyCount;
+    }
+
+    public void setFacultyCount(int facultyCount) {
+        this.facultyCount = facultyCount;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public void setUserCount(int userCount) {
+        this.userCount = userCount;
+    }
+
+    public int getDepartmentCount() {
+        return departmentCount;
+    }
+
+    public void setDepartmentCount(int departmentCount) {
+        this.departmentCount = departmentCount;
+    }
+
+    public int getCourseCount() {
+        return courseCount;
+    }
+
+    public void setCourseCount(int courseCount) {
+        this.courseCount = courseCount;
+    }
+
+    public int getBookCount() {
+        return bookCount;
+    }
+
+    public void setBookCount(int bookCount) {
+        this.bookCount = bookCount;
+    }
+
+    public int getHostelRoomCount() {
+        return hostelRoomCount;
+    }
+
+    public void setHostelRoomCount(int hostelRoomCount) {
+        this.hostelRoomCount = hostelRoomCount;
+    }
+
+    public int getPendingGatePassCount() {
+        return pendingGatePassCount;
+    }
+
+    public void setPendingGatePassCount(int pendingGatePassCount) {
+        this.pendingGatePassCount = pendingGatePassCount;
+    }
+
+    public int getFeeCategoryCount() {
+        return feeCategoryCount;
+    }
+
+    public void setFeeCategoryCount(int feeCategoryCount) {
+        this.feeCategoryCount = feeCategoryCount;
+    }
+
+    public double getTodaysCollection() {
+        return todaysCollection;
+    }
+
+    public void setTodaysCollection(double todaysCollection) {
+        this.todaysCollection = todaysCollection;
+    }
+
+    public double getTotalPendingFees() {
+        return totalPendingFees;
+    }
+
+    public void setTotalPendingFees(double totalPendingFees) {
+        this.totalPendingFees = totalPendingFees;
+    }
+}
@@ -26,6 +26,15 @@ public class Department {
         this.code = code;
     }
 
+    /** Copy constructor */
+    public Department(Department other) {
+        this(other.id, other.name, other.code);
+        this.description = other.description;
+        this.headOfDepartment = other.headOfDepartment;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // Getters and Setters
     public int getId() {
         return id;
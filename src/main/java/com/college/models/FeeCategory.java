@@ -20,6 +20,14 @@ public class FeeCategory {
         this.baseAmount = baseAmount;
     }
 
+    /** Copy constructor */
+    public FeeCategory(FeeCategory other) {
+        this(other.categoryName, other.baseAmount);
+        this.id = other.id;
+        this.description = other.description;
+        this.isActive = other.isActive;
+    }
+
     // Getters and Setters
     public int getId() {
         return id;
@@ -21,6 +21,17 @@ public class Hostel {
         this.type = type;
     }
 
+    /** Copy constructor */
+    public Hostel(Hostel other) {
+        this(other.name, other.type);
+        this.id = other.id;
+        this.wardenName = other.wardenName;
+        this.wardenContact = other.wardenContact;
+        this.totalRooms = other.totalRooms;
+        this.totalCapacity = other.totalCapacity;
+        this.address = other.address;
+    }
+
     // Getters and Setters
     public int getId() {
         return id;
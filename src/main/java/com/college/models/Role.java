@@ -1,7 +1,9 @@
 package com.college.models;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Role Model for RBAC
@@ -14,6 +16,7 @@ public class Role {
     private boolean systemRole;
     private String portalType; // ADMIN, FACULTY, STUDENT, WARDEN, FINANCE
     private Set<Permission> permissions;
+    private transient volatile Set<String> permissionCodes; // Built lazily for O(1) lookups
 
     public Role() {
         this.permissions = new HashSet<>();
@@ -81,15 +84,27 @@ public class Role {
 
     public void setPermissions(Set<Permission> permissions) {
         this.permissions = permissions;
+        this.permissionCodes = null;
     }
 
     public void addPermission(Permission permission) {
         this.permissions.add(permission);
+        this.permissionCodes = null;
     }
 
     public boolean hasPermission(String permissionCode) {
-        return permissions.stream()
-                .anyMatch(p -> p.getCode().equals(permissionCode));
+        if (permissionCode == null) {
+            return false;
+        }
+        Set<String> codes = permissionCodes;
+        if (codes == null) {
+            codes = permissions.stream()
+                    .map(Permission::getCode)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toUnmodifiableSet());
+            permissionCodes = codes;
+        }
+        return codes.contains(permissionCode);
     }
 
     @Override
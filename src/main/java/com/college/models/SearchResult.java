@@ -0,0 +1,64 @@
+package com.college.models;
+
+/**
+ * One hit of the global search (see SearchService)
+ */
+public class SearchResult {
+    private String entityType;
+    private int entityId;
+    private String title;
+    private String subtitle;
+    private double score;
+
+    public SearchResult() {
+    }
+
+    public SearchResult(String entityType, int entityId, String title, String subtitle, double score) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(int entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    public void setSubtitle(String subtitle) {
+        this.subtitle = subtitle;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,107 @@
+package com.college.services;
+
+import com.college.dao.DashboardDAO;
+import com.college.models.DashboardStats;
+import com.college.utils.EnvConfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached dashboard counters.
+ *
+ * The first call loads synchronously. After that the last snapshot is
+ * returned immediately; once it is older than DASHBOARD_STATS_TTL_SECONDS
+ * (default 30) a single background refresh replaces it. Writers that
+ * change the counters call invalidate(), which marks the snapshot stale and
+ * starts that refresh right away.
+ */
+public class DashboardStatsService {
+
+    private static DashboardStatsService instance;
+
+    private final DashboardDAO dashboardDAO;
+    private final long ttlNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicLong generation = new AtomicLong();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "dashboard-stats-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile DashboardStats cached;
+    private volatile long loadedAt;
+    // Invalidation generation the cached snapshot was loaded under
+    private volatile long loadedGeneration;
+
+    private DashboardStatsService() {
+        this.dashboardDAO = new DashboardDAO();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(EnvConfig.getInt("DASHBOARD_STATS_TTL_SECONDS", 30));
+    }
+
+    public static synchronized DashboardStatsService getInstance() {
+        if (instance == null) {
+            instance = new DashboardStatsService();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the dashboard counters, possibly slightly stale
+     *
+     * @return stats (all zeros if they could not be loaded)
+     */
+    public DashboardStats getStats() {
+        DashboardStats stats = cached;
+        if (stats == null) {
+            stats = refresh();
+            return stats != null ? stats : new DashboardStats();
+        }
+        if (System.nanoTime() - loadedAt > ttlNanos || loadedGeneration != generation.get()) {
+            refreshAsync();
+        }
+        return stats;
+    }
+
+    /**
+     * Reload the counters in the background unless a refresh is already running
+     */
+    public void refreshAsync() {
+        if (refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Mark the cached snapshot stale after a write that changes the counters.
+     * Readers keep getting the old snapshot until the background reload
+     * finishes; a reload already running when this is called does not count.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (cached != null) {
+            refreshAsync();
+        }
+    }
+
+    private DashboardStats refresh() {
+        long gen = generation.get();
+        DashboardStats stats = dashboardDAO.getStats();
+        if (stats != null) {
+            cached = stats;
+            loadedAt = System.nanoTime();
+            loadedGeneration = gen;
+        }
+        return stats;
+    }
+}
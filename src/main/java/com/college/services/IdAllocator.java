@@ -0,0 +1,100 @@
+package com.college.services;
+
+import com.college.dao.IdCounterDAO;
+import com.college.utils.EnvConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out generated usernames (student enrollment numbers, faculty IDs)
+ * without a database lookup per ID.
+ *
+ * Each scope (e.g. "CS2025", "FAC") reserves ID_BLOCK_SIZE values at a time
+ * from the id_counters table and serves them from memory. Reservations are
+ * atomic in the database, so several desks or app instances never receive
+ * the same number. Values left in a block when the app exits are skipped.
+ */
+public class IdAllocator {
+
+    private static IdAllocator instance;
+
+    private final IdCounterDAO counterDAO;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    IdAllocator(IdCounterDAO counterDAO, int blockSize) {
+        this.counterDAO = counterDAO;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public static synchronized IdAllocator getInstance() {
+        if (instance == null) {
+            instance = new IdAllocator(new IdCounterDAO(), EnvConfig.getInt("ID_BLOCK_SIZE", 20));
+        }
+        return instance;
+    }
+
+    /**
+     * Next ID for a prefix, formatted as prefix + at least three digits
+     *
+     * @return the ID, or null if a block could not be reserved
+     */
+    public String next(String prefix) {
+        Block block = blocks.computeIfAbsent(prefix, p -> new Block());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                long start = counterDAO.reserveBlock(prefix, prefix, blockSize);
+                if (start < 0) {
+                    return null;
+                }
+                block.next = start;
+                block.end = start + blockSize;
+            }
+            return format(prefix, block.next++);
+        }
+    }
+
+    /**
+     * Reserve count IDs for a prefix. Small requests are served from the
+     * cached block; larger ones reserve a dedicated consecutive range.
+     *
+     * @return count IDs, or an empty list if they could not be reserved
+     */
+    public List<String> reserve(String prefix, int count) {
+        List<String> ids = new ArrayList<>(count);
+        if (count <= 0) {
+            return ids;
+        }
+
+        Block block = blocks.computeIfAbsent(prefix, p -> new Block());
+        synchronized (block) {
+            if (block.end - block.next >= count) {
+                for (int i = 0; i < count; i++) {
+                    ids.add(format(prefix, block.next++));
+                }
+                return ids;
+            }
+        }
+
+        long start = counterDAO.reserveBlock(prefix, prefix, count);
+        if (start < 0) {
+            return ids;
+        }
+        for (int i = 0; i < count; i++) {
+            ids.add(format(prefix, start + i));
+        }
+        return ids;
+    }
+
+    private static String format(String prefix, long value) {
+        return prefix + String.format("%03d", value);
+    }
+
+    private static final class Block {
+        long next;
+        long end;
+    }
+}
@@ -0,0 +1,131 @@
+package com.college.services;
+
+import com.college.dao.SearchDAO;
+import com.college.models.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Global search across students, faculty, books and users.
+ * Returns one ranked page of hits plus the number of hits per entity type
+ * (facets), so callers can offer "Students (12) / Books (3)" filters.
+ */
+public class SearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // pg_trgm indexes (like StudentSearchIndex) are keyed on 3-character grams;
+    // a shorter pattern cannot use them and would scan every searched table
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private SearchDAO searchDAO;
+
+    public SearchService() {
+        this(new SearchDAO());
+    }
+
+    public SearchService(SearchDAO searchDAO) {
+        this.searchDAO = searchDAO;
+    }
+
+    /**
+     * Search one page
+     *
+     * @param types    entity types to return (see SearchDAO constants); null or
+     *                 empty for all. Facets always cover every type.
+     * @param page     1-based page number
+     * @param pageSize hits per page, capped at MAX_PAGE_SIZE
+     */
+    public SearchPage search(String query, Collection<String> types, int page, int pageSize) {
+        String text = query == null ? "" : query.trim();
+        int size = pageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+        int pageNumber = Math.max(1, page);
+        if (text.length() < MIN_QUERY_LENGTH) {
+            return new SearchPage(text, pageNumber, size, 0, Map.of(), List.of());
+        }
+
+        List<String> selected = new ArrayList<>();
+        for (String type : SearchDAO.getEntityTypes()) {
+            if (types == null || types.isEmpty() || types.contains(type)) {
+                selected.add(type);
+            }
+        }
+
+        String pattern = "%" + escapeLike(text) + "%";
+        Map<String, Integer> facets = searchDAO.countByType(pattern);
+        int total = 0;
+        for (String type : selected) {
+            total += facets.getOrDefault(type, 0);
+        }
+
+        List<SearchResult> results = List.of();
+        long offset = (long) (pageNumber - 1) * size;
+        if (offset < total) {
+            results = searchDAO.search(text.toLowerCase(Locale.ROOT), pattern, selected, size, (int) offset);
+        }
+        return new SearchPage(text, pageNumber, size, total, facets, results);
+    }
+
+    /**
+     * Escape LIKE wildcards so the text is matched literally
+     */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * One page of search results
+     */
+    public static class SearchPage {
+        private final String query;
+        private final int page;
+        private final int pageSize;
+        private final int total;
+        private final Map<String, Integer> facets;
+        private final List<SearchResult> results;
+
+        public SearchPage(String query, int page, int pageSize, int total, Map<String, Integer> facets,
+                List<SearchResult> results) {
+            this.query = query;
+            this.page = page;
+            this.pageSize = pageSize;
+            this.total = total;
+            this.facets = facets;
+            this.results = results;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /** Hits across the selected entity types */
+        public int getTotal() {
+            return total;
+        }
+
+        /** Hits per entity type, for every type with hits */
+        public Map<String, Integer> getFacets() {
+            return facets;
+        }
+
+        public List<SearchResult> getResults() {
+            return results;
+        }
+
+        public boolean hasMore() {
+            return (long) page * pageSize < total;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.college.services;
+
+import com.college.dao.CourseDAO;
+import com.college.dao.TimetableDAO;
+import com.college.models.Course;
+import com.college.models.Timetable;
+import com.college.utils.EnvConfig;
+import com.college.utils.Logger;
+import com.college.utils.TimetableIndex;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service to generate timetables automatically.
+ *
+ * Each course of the selected department(s) and semester gets one weekly
+ * session per credit. Sessions are placed by {@link TimetableSolver} around
+ * the bookings of every other department/semester. Rooms are the
+ * comma-separated TIMETABLE_ROOMS list plus any room the timetable already
+ * uses. The search runs on all cores for at most TIMETABLE_SOLVER_BUDGET_MS
+ * (default 5000).
+ */
+public class TimetableGenerator {
+
+    private CourseDAO courseDAO;
+    private TimetableDAO timetableDAO;
+    private TimetableIndex timetableIndex;
+    private List<String> rooms;
+
+    public TimetableGenerator() {
+        this(new CourseDAO(), new TimetableDAO(), TimetableIndex.getInstance(), configuredRooms());
+    }
+
+    public TimetableGenerator(CourseDAO courseDAO, TimetableDAO timetableDAO, TimetableIndex timetableIndex,
+            List<String> rooms) {
+        this.courseDAO = courseDAO;
+        this.timetableDAO = timetableDAO;
+        this.timetableIndex = timetableIndex;
+        this.rooms = List.copyOf(rooms);
+    }
+
+    /**
+     * Rooms listed in TIMETABLE_ROOMS, e.g. "R101, R102, Lab 1"
+     */
+    public static List<String> configuredRooms() {
+        List<String> rooms = new ArrayList<>();
+        for (String room : EnvConfig.get("TIMETABLE_ROOMS", "").split(",")) {
+            if (!room.isBlank()) {
+                rooms.add(room.trim());
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * Build a timetable without saving it
+     *
+     * @param department department name, or null for every department
+     * @param semester   semester, or 0 for every semester
+     */
+    public TimetableSolver.Result generate(List<String> days, List<String> timeSlots, String department,
+            int semester) {
+        List<TimetableSolver.Session> sessions = new ArrayList<>();
+        Set<String> groups = new HashSet<>();
+        for (Course course : courseDAO.getAllCourses()) {
+            String dept = course.getDepartmentName() != null ? course.getDepartmentName() : course.getDepartment();
+            if (dept == null || course.getSemester() <= 0) {
+                continue;
+            }
+            if ((department != null && !department.equals(dept))
+                    || (semester > 0 && semester != course.getSemester())) {
+                continue;
+            }
+            groups.add(dept + "|" + course.getSemester());
+            for (int i = 0; i < Math.max(1, course.getCredits()); i++) {
+                sessions.add(new TimetableSolver.Session(dept, course.getSemester(), course.getName(),
+                        course.getFacultyName()));
+            }
+        }
+
+        // Everything outside the regenerated groups stays as it is
+        List<Timetable> kept = new ArrayList<>();
+        for (Timetable entry : timetableIndex.getEntries()) {
+            if (!groups.contains(entry.getDepartment() + "|" + entry.getSemester())) {
+                kept.add(entry);
+            }
+        }
+        // Rooms already in use stay available, so existing bookings remain valid
+        Set<String> allRooms = new LinkedHashSet<>(rooms);
+        allRooms.addAll(timetableIndex.getRooms());
+        TimetableSolver solver = new TimetableSolver(days, timeSlots, new ArrayList<>(allRooms),
+                new Bookings(kept));
+
+        long started = System.currentTimeMillis();
+        TimetableSolver.Result result = solver.solve(sessions,
+                EnvConfig.getInt("TIMETABLE_SOLVER_BUDGET_MS", 5000), Runtime.getRuntime().availableProcessors());
+        Logger.info(String.format("Generated timetable for %d group(s): %d sessions, %d hard / %d soft violations, %d iterations in %dms",
+                groups.size(), sessions.size(), result.getHardViolations(), result.getSoftPenalty(),
+                result.getIterations(), System.currentTimeMillis() - started));
+        return result;
+    }
+
+    /**
+     * Replace the generated groups' timetables with the result in one batch.
+     * Results with hard violations are refused: a double booking would break
+     * unique_timetable_slot and sessions without a room would be lost.
+     */
+    public boolean save(TimetableSolver.Result result) {
+        if (result.getEntries().isEmpty() || !result.isConflictFree()) {
+            return false;
+        }
+        return timetableDAO.replaceTimetables(result.getEntries());
+    }
+
+    /**
+     * Availability from a snapshot of existing entries
+     */
+    private static final class Bookings implements TimetableSolver.Availability {
+        private final Set<String> rooms = new HashSet<>();
+        private final Set<String> faculty = new HashSet<>();
+
+        Bookings(List<Timetable> entries) {
+            for (Timetable entry : entries) {
+                if (entry.getRoomNumber() != null) {
+                    rooms.add(key(entry.getRoomNumber(), entry.getDayOfWeek(), entry.getTimeSlot()));
+                }
+                if (entry.getFacultyName() != null) {
+                    faculty.add(key(entry.getFacultyName(), entry.getDayOfWeek(), entry.getTimeSlot()));
+                }
+            }
+        }
+
+        @Override
+        public boolean isRoomFree(String room, String day, String timeSlot) {
+            return !rooms.contains(key(room, day, timeSlot));
+        }
+
+        @Override
+        public boolean isFacultyFree(String facultyName, String day, String timeSlot) {
+            return !faculty.contains(key(facultyName, day, timeSlot));
+        }
+
+        private static String key(String name, String day, String timeSlot) {
+            return name + "|" + day + "|" + timeSlot;
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.college.services;
+
+import com.college.models.Timetable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Timetable search engine.
+ *
+ * Places weekly sessions of one or more department/semester groups into
+ * day x slot cells so that no group, faculty member or room is double
+ * booked (hard constraints) and a course's sessions are spread over
+ * different days (soft). Bookings that already exist outside the groups
+ * being generated are honoured through {@link Availability}.
+ *
+ * Each worker thread runs simulated annealing from its own random start,
+ * moving or swapping sessions and keeping per-cell counters so every move
+ * is scored in O(1). Workers stop at the time budget or as soon as one of
+ * them finds a timetable with no violations; the best result wins. Rooms
+ * are interchangeable, so the search only tracks how many sessions share a
+ * cell and concrete rooms are handed out at the end.
+ */
+public class TimetableSolver {
+
+    private static final int HARD_WEIGHT = 1000;
+
+    /**
+     * Existing bookings outside the groups being generated
+     */
+    public interface Availability {
+        boolean isRoomFree(String room, String day, String timeSlot);
+
+        boolean isFacultyFree(String facultyName, String day, String timeSlot);
+    }
+
+    /**
+     * One weekly class meeting to place
+     */
+    public record Session(String department, int semester, String subject, String facultyName) {
+    }
+
+    private final List<String> days;
+    private final List<String> slots;
+    private final List<String> rooms;
+    private final Availability availability;
+
+    public TimetableSolver(List<String> days, List<String> slots, List<String> rooms, Availability availability) {
+        this.days = List.copyOf(days);
+        this.slots = List.copyOf(slots);
+        this.rooms = List.copyOf(rooms);
+        this.availability = availability;
+    }
+
+    /**
+     * Search for a timetable.
+     *
+     * @param budgetMillis wall-clock limit
+     * @param threads      parallel searches (at least 1)
+     */
+    public Result solve(List<Session> sessions, long budgetMillis, int threads) {
+        Model model = new Model(sessions);
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000;
+        int workers = Math.max(1, threads);
+        AtomicBoolean solved = new AtomicBoolean(false);
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "timetable-solver");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Search>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                long seed = 0x9E3779B97F4A7C15L * (i + 1);
+                futures.add(pool.submit(() -> {
+                    Search search = new Search(model, new SplittableRandom(seed));
+                    search.run(deadline, solved);
+                    return search;
+                }));
+            }
+            Search best = null;
+            long iterations = 0;
+            for (Future<Search> f : futures) {
+                Search search = f.get();
+                iterations += search.iterations;
+                if (best == null || search.bestCost < best.bestCost) {
+                    best = search;
+                }
+            }
+            return model.toResult(best, iterations);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Timetable search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Timetable search failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Outcome of a search
+     */
+    public static final class Result {
+        private final List<Timetable> entries;
+        private final int hardViolations;
+        private final int softPenalty;
+        private final int unplaced;
+        private final long iterations;
+
+        Result(List<Timetable> entries, int hardViolations, int softPenalty, int unplaced, long iterations) {
+            this.entries = entries;
+            this.hardViolations = hardViolations;
+            this.softPenalty = softPenalty;
+            this.unplaced = unplaced;
+            this.iterations = iterations;
+        }
+
+        /** Placed sessions; sessions that could not get a free room are left out */
+        public List<Timetable> getEntries() {
+            return entries;
+        }
+
+        /** Double bookings and sessions without a room */
+        public int getHardViolations() {
+            return hardViolations;
+        }
+
+        /** Extra sessions of the same course on the same day */
+        public int getSoftPenalty() {
+            return softPenalty;
+        }
+
+        /** Sessions left out of the entries because no room was free */
+        public int getUnplaced() {
+            return unplaced;
+        }
+
+        public long getIterations() {
+            return iterations;
+        }
+
+        public boolean isConflictFree() {
+            return hardViolations == 0;
+        }
+    }
+
+    /**
+     * Immutable problem data shared by all workers
+     */
+    private final class Model {
+        final int sessionCount;
+        final int cellCount;
+        final int slotCount;
+        final int[] group;      // session -> group index
+        final int[] faculty;    // session -> faculty index, -1 if none
+        final int[] course;     // session -> course index
+        final List<Session> sessions;
+        final int groupCount;
+        final int facultyCount;
+        final int courseCount;
+        final int[] freeRooms;  // cell -> rooms not booked outside the generated groups
+        final boolean[][] facultyBusy; // faculty x cell, booked outside the generated groups
+
+        Model(List<Session> sessions) {
+            this.sessions = List.copyOf(sessions);
+            this.sessionCount = sessions.size();
+            this.slotCount = slots.size();
+            this.cellCount = days.size() * slotCount;
+
+            Map<String, Integer> groups = new HashMap<>();
+            Map<String, Integer> facultyIds = new HashMap<>();
+            Map<String, Integer> courses = new HashMap<>();
+            group = new int[sessionCount];
+            faculty = new int[sessionCount];
+            course = new int[sessionCount];
+            for (int s = 0; s < sessionCount; s++) {
+                Session session = sessions.get(s);
+                String groupKey = session.department() + "|" + session.semester();
+                group[s] = groups.computeIfAbsent(groupKey, k -> groups.size());
+                course[s] = courses.computeIfAbsent(groupKey + "|" + session.subject(), k -> courses.size());
+                String name = session.facultyName();
+                faculty[s] = name == null || name.isBlank() ? -1
+                        : facultyIds.computeIfAbsent(name, k -> facultyIds.size());
+            }
+            groupCount = groups.size();
+            facultyCount = facultyIds.size();
+            courseCount = courses.size();
+
+            freeRooms = new int[cellCount];
+            for (int c = 0; c < cellCount; c++) {
+                for (String room : rooms) {
+                    if (availability.isRoomFree(room, day(c), slot(c))) {
+                        freeRooms[c]++;
+                    }
+                }
+            }
+            facultyBusy = new boolean[facultyCount][cellCount];
+            for (Map.Entry<String, Integer> f : facultyIds.entrySet()) {
+                for (int c = 0; c < cellCount; c++) {
+                    facultyBusy[f.getValue()][c] = !availability.isFacultyFree(f.getKey(), day(c), slot(c));
+                }
+            }
+        }
+
+        String day(int cell) {
+            return days.get(cell / slotCount);
+        }
+
+        String slot(int cell) {
+            return slots.get(cell % slotCount);
+        }
+
+        Result toResult(Search search, long iterations) {
+            List<Timetable> entries = new ArrayList<>();
+            if (search == null || sessionCount == 0 || cellCount == 0) {
+                return new Result(entries, sessionCount, 0, sessionCount, iterations);
+            }
+            int[] cells = search.best;
+            Map<Integer, String> homeRoom = new HashMap<>(); // keep a course in one room where possible
+            int unplaced = 0;
+            for (int c = 0; c < cellCount; c++) {
+                List<String> free = new ArrayList<>();
+                for (String room : rooms) {
+                    if (availability.isRoomFree(room, day(c), slot(c))) {
+                        free.add(room);
+                    }
+                }
+                for (int s = 0; s < sessionCount; s++) {
+                    if (cells[s] != c) {
+                        continue;
+                    }
+                    String room = homeRoom.get(course[s]);
+                    if (room == null || !free.remove(room)) {
+                        room = free.isEmpty() ? null : free.remove(0);
+                    }
+                    if (room == null) {
+                        unplaced++;
+                        continue;
+                    }
+                    homeRoom.putIfAbsent(course[s], room);
+                    Session session = sessions.get(s);
+                    entries.add(new Timetable(session.department(), session.semester(), day(c), slot(c),
+                            session.subject(), session.facultyName(), room));
+                }
+            }
+            int[] violations = violations(cells);
+            return new Result(entries, Math.max(violations[0], unplaced), violations[1], unplaced, iterations);
+        }
+
+        // {hard, soft} violations of an assignment, counted from scratch
+        int[] violations(int[] cells) {
+            int[] groupLoad = new int[groupCount * cellCount];
+            int[] facultyLoad = new int[facultyCount * cellCount];
+            int[] roomLoad = new int[cellCount];
+            int[] courseDay = new int[courseCount * days.size()];
+            for (int s = 0; s < sessionCount; s++) {
+                groupLoad[group[s] * cellCount + cells[s]]++;
+                if (faculty[s] >= 0) {
+                    facultyLoad[faculty[s] * cellCount + cells[s]]++;
+                }
+                roomLoad[cells[s]]++;
+                courseDay[course[s] * days.size() + cells[s] / slotCount]++;
+            }
+            int hard = 0;
+            for (int load : groupLoad) {
+                hard += Math.max(0, load - 1);
+            }
+            for (int f = 0; f < facultyCount; f++) {
+                for (int c = 0; c < cellCount; c++) {
+                    int load = facultyLoad[f * cellCount + c];
+                    hard += Math.max(0, load + (load > 0 && facultyBusy[f][c] ? 1 : 0) - 1);
+                }
+            }
+            for (int c = 0; c < cellCount; c++) {
+                hard += Math.max(0, roomLoad[c] - freeRooms[c]);
+            }
+            int soft = 0;
+            for (int load : courseDay) {
+                soft += Math.max(0, load - 1);
+            }
+            return new int[] { hard, soft };
+        }
+    }
+
+    /**
+     * One simulated annealing run with its own mutable state
+     */
+    private final class Search {
+        final Model m;
+        final SplittableRandom random;
+        final int[] cellOf;
+        final int[] groupLoad;   // group x cell
+        final int[] facultyLoad; // faculty x cell
+        final int[] roomLoad;    // cell
+        final int[] courseDay;   // course x day
+        int cost;
+        int[] best;
+        int bestCost;
+        long iterations;
+
+        Search(Model m, SplittableRandom random) {
+            this.m = m;
+            this.random = random;
+            this.cellOf = new int[m.sessionCount];
+            this.groupLoad = new int[m.groupCount * m.cellCount];
+            this.facultyLoad = new int[m.facultyCount * m.cellCount];
+            this.roomLoad = new int[m.cellCount];
+            this.courseDay = new int[m.courseCount * days.size()];
+            if (m.cellCount > 0) {
+                for (int s = 0; s < m.sessionCount; s++) {
+                    cellOf[s] = random.nextInt(m.cellCount);
+                    cost += place(s, cellOf[s], +1);
+                }
+            }
+            best = cellOf.clone();
+            bestCost = cost;
+        }
+
+        void run(long deadline, AtomicBoolean solved) {
+            if (m.sessionCount == 0 || m.cellCount == 0) {
+                return;
+            }
+            double temperature = 2.0 * HARD_WEIGHT;
+            while (bestCost > 0 && !solved.get()) {
+                for (int i = 0; i < 1024; i++) {
+                    step(temperature);
+                }
+                iterations += 1024;
+                temperature = Math.max(0.5, temperature * 0.995);
+                if (System.nanoTime() > deadline) {
+                    return;
+                }
+            }
+            if (bestCost == 0) {
+                solved.set(true);
+            }
+        }
+
+        void step(double temperature) {
+            int s = random.nextInt(m.sessionCount);
+            int from = cellOf[s];
+            int to = random.nextInt(m.cellCount);
+            if (to == from) {
+                return;
+            }
+            // Swap with a session of the same group in the target cell if there is one
+            int other = -1;
+            if (groupLoad[m.group[s] * m.cellCount + to] > 0) {
+                for (int t = 0; t < m.sessionCount; t++) {
+                    if (cellOf[t] == to && m.group[t] == m.group[s]) {
+                        other = t;
+                        break;
+                    }
+                }
+            }
+
+            int delta = place(s, from, -1) + place(s, to, +1);
+            cellOf[s] = to;
+            if (other >= 0) {
+                delta += place(other, to, -1) + place(other, from, +1);
+                cellOf[other] = from;
+            }
+
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                cost += delta;
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    System.arraycopy(cellOf, 0, best, 0, cellOf.length);
+                }
+                return;
+            }
+            // Undo
+            if (other >= 0) {
+                place(other, from, -1);
+                place(other, to, +1);
+                cellOf[other] = to;
+            }
+            place(s, to, -1);
+            place(s, from, +1);
+            cellOf[s] = from;
+        }
+
+        /**
+         * Add (+1) or remove (-1) session s at a cell and return the change in
+         * cost
+         */
+        int place(int s, int cell, int sign) {
+            int delta = 0;
+            int g = m.group[s] * m.cellCount + cell;
+            delta += HARD_WEIGHT * excessChange(groupLoad[g], 1, sign);
+            groupLoad[g] += sign;
+
+            int f = m.faculty[s];
+            if (f >= 0) {
+                int fi = f * m.cellCount + cell;
+                int external = m.facultyBusy[f][cell] ? 1 : 0;
+                delta += HARD_WEIGHT * excessChange(facultyLoad[fi] + external, 1, sign);
+                facultyLoad[fi] += sign;
+            }
+
+            delta += HARD_WEIGHT * excessChange(roomLoad[cell], m.freeRooms[cell], sign);
+            roomLoad[cell] += sign;
+
+            int cd = m.course[s] * days.size() + cell / m.slotCount;
+            delta += excessChange(courseDay[cd], 1, sign);
+            courseDay[cd] += sign;
+            return delta;
+        }
+
+        // Change in max(0, load - capacity) when load moves by sign
+        private int excessChange(int load, int capacity, int sign) {
+            int before = Math.max(0, load - capacity);
+            int after = Math.max(0, load + sign - capacity);
+            return after - before;
+        }
+    }
+}
@@ -16,7 +16,11 @@ public class TranscriptService {
     private GradeDAO gradeDAO;
 
     public TranscriptService() {
-        this.gradeDAO = new GradeDAO();
+        this(new GradeDAO());
+    }
+
+    public TranscriptService(GradeDAO gradeDAO) {
+        this.gradeDAO = gradeDAO;
     }
 
     /**
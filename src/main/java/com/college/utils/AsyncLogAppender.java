@@ -0,0 +1,217 @@
+package com.college.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background appender used by {@link Logger}.
+ *
+ * Log lines are queued by the calling thread and written by a single daemon
+ * thread through one open FileChannel and a reusable buffer. The file is
+ * rotated (app.log -> app.log.1 -> ... app.log.N) when it exceeds
+ * LOG_MAX_BYTES or when the date changes. If the queue is full the line is
+ * dropped and a count of dropped lines is written once space frees up.
+ */
+class AsyncLogAppender {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final long flushIntervalMillis;
+    private final boolean console;
+
+    private final BlockingQueue<String> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final StringBuilder consoleBatch = new StringBuilder();
+
+    private FileChannel channel;
+    private long fileSize;
+    private LocalDate fileDate;
+    private volatile boolean running = true;
+    private final Thread worker;
+
+    AsyncLogAppender(String fileName, int queueCapacity, long maxBytes, int maxFiles,
+            long flushIntervalMillis, boolean console) {
+        this.file = Paths.get(fileName);
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.flushIntervalMillis = Math.max(10, flushIntervalMillis);
+        this.console = console;
+        this.queue = new ArrayBlockingQueue<>(Math.max(16, queueCapacity));
+
+        this.worker = new Thread(this::run, "log-appender");
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "log-appender-shutdown"));
+    }
+
+    /**
+     * Queue a formatted line (without trailing newline). Never blocks.
+     */
+    void append(String line) {
+        if (!running || !queue.offer(line)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    void shutdown() {
+        if (!running)
+            return;
+        running = false;
+        try {
+            worker.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(256);
+        long lastDropped = 0;
+        while (running || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, 255);
+                    for (String line : batch) {
+                        write(line);
+                    }
+                    batch.clear();
+                }
+
+                long droppedNow = dropped.get();
+                if (droppedNow != lastDropped) {
+                    write("[WARN] Logger dropped " + (droppedNow - lastDropped) + " line(s), queue full");
+                    lastDropped = droppedNow;
+                }
+                flush();
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                System.err.println("Failed to write to log file: " + e.getMessage());
+                buffer.clear();
+                closeChannel();
+            }
+        }
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Failed to write to log file: " + e.getMessage());
+        }
+        closeChannel();
+    }
+
+    private void write(String line) throws IOException {
+        if (console) {
+            consoleBatch.append(line).append(System.lineSeparator());
+        }
+        rotateIfNeeded();
+        encode(CharBuffer.wrap(line));
+        encode(CharBuffer.wrap(System.lineSeparator()));
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                drainBuffer();
+            } else {
+                break;
+            }
+        }
+        encoder.reset();
+    }
+
+    private void flush() throws IOException {
+        drainBuffer();
+        if (consoleBatch.length() > 0) {
+            System.out.print(consoleBatch);
+            consoleBatch.setLength(0);
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+            FileChannel ch = openChannel();
+            while (buffer.hasRemaining()) {
+                fileSize += ch.write(buffer);
+            }
+        }
+        buffer.clear();
+    }
+
+    private void rotateIfNeeded() throws IOException {
+        LocalDate today = LocalDate.now();
+        openChannel();
+        boolean dateChanged = fileDate != null && !fileDate.equals(today);
+        if (fileSize + buffer.position() < maxBytes && !dateChanged)
+            return;
+        if (fileSize + buffer.position() == 0)
+            return;
+
+        drainBuffer();
+        closeChannel();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path src = Paths.get(file + "." + i);
+            if (Files.exists(src)) {
+                Files.move(src, Paths.get(file + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (Files.exists(file)) {
+            Files.move(file, Paths.get(file + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        openChannel();
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            fileSize = channel.size();
+            fileDate = fileSize > 0
+                    ? LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault())
+                    : LocalDate.now();
+        }
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+            channel = null;
+        }
+    }
+}
@@ -1,35 +1,80 @@
 package com.college.utils;
 
-import com.college.dao.StudentDAO;
-import com.college.dao.UserDAO;
+import com.college.dao.StudentImportDAO;
+import com.college.dao.StudentImportDAO.ImportRow;
 import com.college.models.Student;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.Date;
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 
+/**
+ * Bulk student import from CSV.
+ *
+ * Columns: name, email, phone, department, course, semester[, batch[, address]]
+ * with a header row. The file is streamed in chunks of IMPORT_CHUNK_SIZE
+ * records; each chunk is validated in parallel, gets its enrollment numbers
+ * reserved once per department, and is loaded with COPY through
+ * {@link StudentImportDAO}. Rejected rows are written to
+ * &lt;file&gt;.errors.csv next to the input.
+ */
 public class CSVImporter {
 
+    private static final String DEFAULT_PASSWORD = "123";
+    private static final int MAX_ERRORS_IN_SUMMARY = 50;
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE = Pattern.compile("^[0-9]{10}$");
+
     public static class ImportResult {
         public int successCount = 0;
         public int failCount = 0;
         public List<String> errors = new ArrayList<>();
+        public File errorFile;
+        public long elapsedMillis;
+        public long validateMillis;
+        public long loadMillis;
+
+        public double getRowsPerSecond() {
+            int rows = successCount + failCount;
+            return elapsedMillis > 0 ? rows * 1000.0 / elapsedMillis : rows;
+        }
 
         public String getSummary() {
             StringBuilder sb = new StringBuilder();
             sb.append("Import Complete!\n\n");
             sb.append("✅ Success: ").append(successCount).append(" students\n");
-            sb.append("❌ Failed: ").append(failCount).append(" students\n\n");
+            sb.append("❌ Failed: ").append(failCount).append(" students\n");
+            sb.append(String.format("⏱ %.1f s (%.0f rows/s; validate %d ms, load %d ms)\n\n",
+                    elapsedMillis / 1000.0, getRowsPerSecond(), validateMillis, loadMillis));
 
             if (!errors.isEmpty()) {
                 sb.append("Errors:\n");
-                for (String error : errors) {
-                    sb.append("- ").append(error).append("\n");
+                int shown = Math.min(errors.size(), MAX_ERRORS_IN_SUMMARY);
+                for (int i = 0; i < shown; i++) {
+                    sb.append("- ").append(errors.get(i)).append("\n");
+                }
+                if (errors.size() > shown) {
+                    sb.append("... and ").append(errors.size() - shown).append(" more\n");
+                }
+                if (errorFile != null) {
+                    sb.append("\nFull error report: ").append(errorFile.getAbsolutePath()).append("\n");
                 }
             }
 
@@ -39,96 +84,211 @@ public class CSVImporter {
 
     public static ImportResult importStudents(File csvFile) {
         ImportResult result = new ImportResult();
-        StudentDAO studentDAO = new StudentDAO();
-        UserDAO userDAO = new UserDAO();
+        StudentImportDAO importDAO = new StudentImportDAO();
+        int chunkSize = Math.max(1, EnvConfig.getInt("IMPORT_CHUNK_SIZE", 2000));
+        long started = System.nanoTime();
 
-        try (BufferedReader br = new BufferedReader(new FileReader(csvFile))) {
-            String line;
-            int lineNum = 0;
+        // line number -> [reason, raw record]
+        Map<Integer, String[]> rejected = new TreeMap<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        try (BufferedReader br = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
+            CsvParser parser = new CsvParser(br);
 
             // Skip header
-            br.readLine();
-            lineNum++;
-
-            while ((line = br.readLine()) != null) {
-                lineNum++;
-
-                try {
-                    String[] fields = line.split(",");
-
-                    if (fields.length < 6) {
-                        result.errors.add("Line " + lineNum + ": Not enough fields");
-                        result.failCount++;
-                        continue;
-                    }
-
-                    String name = fields[0].trim();
-                    String email = fields[1].trim();
-                    String phone = fields[2].trim();
-                    String department = fields[3].trim();
-                    String course = fields[4].trim();
-                    int semester = Integer.parseInt(fields[5].trim());
-                    String batch = fields.length > 6 ? fields[6].trim() : String.valueOf(LocalDate.now().getYear());
-                    String address = fields.length > 7 ? fields[7].trim() : "";
-
-                    // Validate email
-                    if (!email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
-                        result.errors.add("Line " + lineNum + ": Invalid email - " + email);
-                        result.failCount++;
-                        continue;
-                    }
-
-                    // Validate phone
-                    if (!phone.matches("^[0-9]{10}$")) {
-                        result.errors.add("Line " + lineNum + ": Invalid phone - " + phone);
-                        result.failCount++;
-                        continue;
-                    }
-
-                    // Generate enrollment number
-                    String enrollmentNumber = EnrollmentGenerator.generateStudentEnrollment(department);
-
-                    // Create user account
-                    int userId = userDAO.addUser(enrollmentNumber, "123", "STUDENT");
-
-                    if (userId == -1) {
-                        result.errors.add("Line " + lineNum + ": Failed to create user account");
-                        result.failCount++;
-                        continue;
-                    }
-
-                    // Create student
-                    Student student = new Student();
-                    student.setName(name);
-                    student.setEmail(email);
-                    student.setPhone(phone);
-                    student.setDepartment(department);
-                    student.setCourse(course);
-                    student.setSemester(semester);
-                    student.setBatch(batch);
-                    student.setAddress(address);
-                    student.setUserId(userId);
-                    student.setUsername(enrollmentNumber);
-                    student.setEnrollmentDate(
-                            Date.from(LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant()));
-
-                    if (studentDAO.addStudent(student, userId) > 0) {
-                        result.successCount++;
-                    } else {
-                        result.errors.add("Line " + lineNum + ": Failed to add student - " + name);
-                        result.failCount++;
-                    }
-
-                } catch (Exception e) {
-                    result.errors.add("Line " + lineNum + ": " + e.getMessage());
-                    result.failCount++;
+            parser.next();
+
+            List<RawRecord> chunk = new ArrayList<>(chunkSize);
+            List<String> fields;
+            while ((fields = parser.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                chunk.add(new RawRecord(parser.getRecordLine(), fields));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, importDAO, seenEmails, rejected, result);
+                    chunk.clear();
                 }
             }
+            processChunk(chunk, importDAO, seenEmails, rejected, result);
 
-        } catch (Exception e) {
+        } catch (IOException e) {
             result.errors.add("File error: " + e.getMessage());
         }
 
+        result.failCount = rejected.size();
+        for (Map.Entry<Integer, String[]> e : rejected.entrySet()) {
+            result.errors.add("Line " + e.getKey() + ": " + e.getValue()[0]);
+        }
+        if (!rejected.isEmpty()) {
+            result.errorFile = writeErrorFile(csvFile, rejected);
+        }
+
+        result.elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        Logger.info(String.format("CSV import of %s: %d imported, %d failed in %d ms (%.0f rows/s)",
+                csvFile.getName(), result.successCount, result.failCount, result.elapsedMillis,
+                result.getRowsPerSecond()));
         return result;
     }
+
+    private static void processChunk(List<RawRecord> chunk, StudentImportDAO importDAO, Set<String> seenEmails,
+            Map<Integer, String[]> rejected, ImportResult result) {
+        if (chunk.isEmpty())
+            return;
+
+        long t0 = System.nanoTime();
+        List<Validated> validated = chunk.parallelStream().map(CSVImporter::validate).toList();
+
+        // Sequential pass: duplicates within the file, grouping by enrollment prefix
+        Map<String, List<Validated>> byDepartment = new LinkedHashMap<>();
+        for (Validated v : validated) {
+            if (v.error == null && !seenEmails.add(v.student.getEmail())) {
+                v.error = "Duplicate email in file - " + v.student.getEmail();
+            }
+            if (v.error != null) {
+                rejected.put(v.record.line, new String[] { v.error, CsvParser.toLine(v.record.fields.toArray()) });
+            } else {
+                byDepartment.computeIfAbsent(EnrollmentGenerator.getDepartmentCode(v.student.getDepartment()),
+                        d -> new ArrayList<>()).add(v);
+            }
+        }
+
+        List<ImportRow> rows = new ArrayList<>();
+        for (Map.Entry<String, List<Validated>> group : byDepartment.entrySet()) {
+            List<Validated> students = group.getValue();
+            List<String> ids = EnrollmentGenerator.reserveStudentEnrollments(
+                    students.get(0).student.getDepartment(), students.size());
+            Iterator<String> it = ids.iterator();
+            for (Validated v : students) {
+                if (!it.hasNext()) {
+                    rejected.put(v.record.line, new String[] { "Could not reserve enrollment number",
+                            CsvParser.toLine(v.record.fields.toArray()) });
+                    continue;
+                }
+                v.student.setUsername(it.next());
+                rows.add(new ImportRow(v.record.line, v.student, v.passwordHash));
+            }
+        }
+        long t1 = System.nanoTime();
+        result.validateMillis += (t1 - t0) / 1_000_000;
+
+        Map<Integer, RawRecord> byLine = new HashMap<>();
+        for (RawRecord r : chunk) {
+            byLine.put(r.line, r);
+        }
+        Map<Integer, String> clashes = new LinkedHashMap<>();
+        try {
+            result.successCount += importDAO.importStudents(rows, clashes);
+            for (Map.Entry<Integer, String> e : clashes.entrySet()) {
+                rejected.put(e.getKey(), new String[] { e.getValue(), rawFor(byLine, e.getKey()) });
+            }
+        } catch (SQLException e) {
+            Logger.error("Bulk student import failed", e);
+            for (ImportRow row : rows) {
+                rejected.put(row.getLineNumber(), new String[] { "Database error: " + e.getMessage(),
+                        rawFor(byLine, row.getLineNumber()) });
+            }
+        }
+        result.loadMillis += (System.nanoTime() - t1) / 1_000_000;
+    }
+
+    private static Validated validate(RawRecord record) {
+        Validated v = new Validated(record);
+        List<String> fields = record.fields;
+
+        if (fields.size() < 6) {
+            v.error = "Not enough fields";
+            return v;
+        }
+
+        String name = fields.get(0).trim();
+        String email = fields.get(1).trim();
+        String phone = fields.get(2).trim();
+        String department = fields.get(3).trim();
+        String course = fields.get(4).trim();
+        String batch = fields.size() > 6 ? fields.get(6).trim() : String.valueOf(LocalDate.now().getYear());
+        String address = fields.size() > 7 ? fields.get(7).trim() : "";
+
+        int semester;
+        try {
+            semester = Integer.parseInt(fields.get(5).trim());
+        } catch (NumberFormatException e) {
+            v.error = "Invalid semester - " + fields.get(5).trim();
+            return v;
+        }
+
+        if (name.isEmpty()) {
+            v.error = "Name is required";
+            return v;
+        }
+
+        // Validate email
+        if (!EMAIL.matcher(email).matches()) {
+            v.error = "Invalid email - " + email;
+            return v;
+        }
+
+        // Validate phone
+        if (!PHONE.matcher(phone).matches()) {
+            v.error = "Invalid phone - " + phone;
+            return v;
+        }
+
+        Student student = new Student();
+        student.setName(name);
+        student.setEmail(email);
+        student.setPhone(phone);
+        student.setDepartment(department);
+        student.setCourse(course);
+        student.setSemester(semester);
+        student.setBatch(batch);
+        student.setAddress(address);
+        student.setEnrollmentDate(Date.valueOf(LocalDate.now()));
+
+        v.student = student;
+        v.passwordHash = PasswordUtils.hashPassword(DEFAULT_PASSWORD);
+        return v;
+    }
+
+    private static String rawFor(Map<Integer, RawRecord> byLine, int line) {
+        RawRecord r = byLine.get(line);
+        return r != null ? CsvParser.toLine(r.fields.toArray()) : "";
+    }
+
+    private static File writeErrorFile(File csvFile, Map<Integer, String[]> rejected) {
+        File errorFile = new File(csvFile.getAbsoluteFile().getParentFile(), csvFile.getName() + ".errors.csv");
+        try (BufferedWriter w = Files.newBufferedWriter(errorFile.toPath(), StandardCharsets.UTF_8)) {
+            w.write(CsvParser.toLine("line", "error", "record"));
+            w.newLine();
+            for (Map.Entry<Integer, String[]> e : rejected.entrySet()) {
+                w.write(CsvParser.toLine(e.getKey(), e.getValue()[0], e.getValue()[1]));
+                w.newLine();
+            }
+            return errorFile;
+        } catch (IOException e) {
+            Logger.error("Could not write import error file " + errorFile, e);
+            return null;
+        }
+    }
+
+    private static final class RawRecord {
+        final int line;
+        final List<String> fields;
+
+        RawRecord(int line, List<String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Validated {
+        final RawRecord record;
+        Student student;
+        String passwordHash;
+        String error;
+
+        Validated(RawRecord record) {
+            this.record = record;
+        }
+    }
 }
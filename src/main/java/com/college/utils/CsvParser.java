@@ -0,0 +1,134 @@
+package com.college.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC-4180 CSV parser.
+ *
+ * Handles quoted fields with embedded commas, line breaks and doubled quotes
+ * (""), and both CRLF and LF line endings. Records are read one at a time so
+ * large files never need to be held in memory.
+ */
+public class CsvParser {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private int peeked = -2;
+    private int line = 1;
+    private int recordLine = 1;
+
+    public CsvParser(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the record's fields, or null at end of input
+     * @throws IOException on read failure or an unterminated quoted field
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            if (c == '"' && field.length() == 0 && !quoted) {
+                quoted = true;
+                readQuoted();
+                c = read();
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Line number (1-based) on which the last record returned by {@link #next()} started
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    private void readQuoted() throws IOException {
+        int start = line;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IOException("Unterminated quoted field starting on line " + start);
+            }
+            if (c == '"') {
+                if (peek() == '"') {
+                    read();
+                    field.append('"');
+                } else {
+                    return;
+                }
+            } else {
+                if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = in.read();
+        }
+        return peeked;
+    }
+
+    /**
+     * Format values as one CSV line (no line terminator). Non-null values are
+     * always quoted; null is written as an empty unquoted field, which
+     * PostgreSQL COPY reads as NULL.
+     */
+    public static String toLine(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Object v = values[i];
+            if (v != null) {
+                sb.append('"').append(v.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -5,6 +5,8 @@ import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Utility class for managing database connections
@@ -13,6 +15,13 @@ import java.sql.SQLException;
 public class DatabaseConnection {
 
     private static HikariDataSource dataSource;
+    private static HikariDataSource readDataSource; // null unless DB_READ_URL is set
+
+    private static final PoolMetrics primaryMetrics = new PoolMetrics();
+    private static PoolMetrics readMetrics;
+
+    // Run before the pool is closed (e.g. flushing buffered writes)
+    private static final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
 
     // Database credentials
     private static String URL = "jdbc:postgresql://localhost:5432/college_db";
@@ -45,35 +54,22 @@ public class DatabaseConnection {
 
     private static void initDataSource() {
         try {
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(URL);
-            config.setUsername(USERNAME);
-            config.setPassword(PASSWORD);
-
-            // Pool settings optimized for desktop/remote usage (Conservative for Supabase
-            // Session Mode)
-            config.setMaximumPoolSize(15); // Reduced to 2 (Minimum viable)
-            config.setMinimumIdle(1);
-            config.setIdleTimeout(60000); // 1 minute
-            config.setConnectionTimeout(30000); // 30 seconds
-            config.setMaxLifetime(600000); // 10 minutes (Reduced to cycle connections faster)
-            config.setKeepaliveTime(30000); // Keepalive every 30s to prevent server closure
-            config.setLeakDetectionThreshold(10000); // Detect leaks > 10s (relaxed)
-
-            // Driver
-            config.setDriverClassName("org.postgresql.Driver");
-
-            dataSource = new HikariDataSource(config);
+            dataSource = createPool("college-primary", URL, USERNAME, PASSWORD, false, primaryMetrics);
             // Logger might not be initialized yet, so use stderr if needed or basic sysout
             System.out.println("HikariCP Connection Pool initialized.");
 
+            String readUrl = EnvConfig.get("DB_READ_URL");
+            if (readUrl != null && !readUrl.isBlank()) {
+                readMetrics = new PoolMetrics();
+                readDataSource = createPool("college-read", readUrl, EnvConfig.get("DB_READ_USER", USERNAME),
+                        EnvConfig.get("DB_READ_PASSWORD", PASSWORD), true, readMetrics);
+                System.out.println("Read replica pool initialized: " + readUrl);
+            }
+
             // Add Shutdown Hook to close pool cleanly
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                if (dataSource != null && !dataSource.isClosed()) {
-                    System.out.println("Closing HikariCP Connection Pool...");
-                    dataSource.close();
-                    System.out.println("HikariCP Connection Pool closed.");
-                }
+                runShutdownTasks();
+                closePools();
             }));
 
         } catch (Exception e) {
@@ -82,6 +78,69 @@ public class DatabaseConnection {
         }
     }
 
+    /**
+     * Pool settings default to values suited to a desktop client talking to a
+     * remote Supabase instance in session mode; override with DB_POOL_* (or
+     * DB_READ_POOL_* for the replica).
+     */
+    private static HikariDataSource createPool(String name, String url, String user, String password,
+            boolean readOnly, PoolMetrics metrics) {
+        String prefix = readOnly ? "DB_READ_POOL_" : "DB_POOL_";
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setReadOnly(readOnly);
+
+        config.setMaximumPoolSize(poolSetting(prefix, "MAX_SIZE", 15));
+        config.setMinimumIdle(poolSetting(prefix, "MIN_IDLE", 1));
+        config.setIdleTimeout(poolSetting(prefix, "IDLE_TIMEOUT_MS", 60000)); // 1 minute
+        config.setConnectionTimeout(poolSetting(prefix, "CONNECTION_TIMEOUT_MS", 30000)); // 30 seconds
+        config.setMaxLifetime(poolSetting(prefix, "MAX_LIFETIME_MS", 600000)); // 10 minutes
+        config.setKeepaliveTime(poolSetting(prefix, "KEEPALIVE_MS", 30000)); // prevent server closure
+        config.setLeakDetectionThreshold(poolSetting(prefix, "LEAK_DETECTION_MS", 10000));
+
+        // Server-side prepared statements: pgJDBC switches a statement to a named
+        // server-side prepare once the same SQL has run DB_PREPARE_THRESHOLD times
+        // on a connection, and keeps up to DB_STATEMENT_CACHE_QUERIES of them per
+        // connection (see SqlCatalog). Use DB_PREPARE_THRESHOLD=0 behind a
+        // transaction-mode pooler, which cannot keep named statements.
+        config.addDataSourceProperty("prepareThreshold", EnvConfig.getInt("DB_PREPARE_THRESHOLD", 3));
+        config.addDataSourceProperty("preparedStatementCacheQueries",
+                EnvConfig.getInt("DB_STATEMENT_CACHE_QUERIES", 256));
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                EnvConfig.getInt("DB_STATEMENT_CACHE_SIZE_MIB", 5));
+
+        config.setMetricsTrackerFactory(metrics);
+        config.setRegisterMbeans(true);
+
+        // Driver
+        config.setDriverClassName("org.postgresql.Driver");
+
+        return new HikariDataSource(config);
+    }
+
+    // Replica settings fall back to the primary's
+    private static int poolSetting(String prefix, String key, int defaultValue) {
+        return EnvConfig.getInt(prefix + key, EnvConfig.getInt("DB_POOL_" + key, defaultValue));
+    }
+
+    private static void closePools() {
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            readDataSource.close();
+        }
+        if (dataSource != null && !dataSource.isClosed()) {
+            System.out.println("Closing HikariCP Connection Pool...");
+            Logger.info("Pool metrics at shutdown: " + primaryMetrics);
+            Logger.info(QueryMetrics.report(20));
+            QueryMetrics.shutdown();
+            dataSource.close();
+            System.out.println("HikariCP Connection Pool closed.");
+        }
+    }
+
     /**
      * Private constructor to prevent instantiation
      */
@@ -89,7 +148,8 @@ public class DatabaseConnection {
     }
 
     /**
-     * Get database connection from the pool
+     * Get database connection from the pool. Statements on it are timed by
+     * {@link QueryMetrics}.
      * 
      * @return Connection object
      */
@@ -97,7 +157,43 @@ public class DatabaseConnection {
         if (dataSource == null) {
             throw new SQLException("DataSource is not initialized. Check logs for startup errors.");
         }
-        return dataSource.getConnection();
+        return QueryMetrics.wrap(dataSource.getConnection());
+    }
+
+    /**
+     * Get a read-only connection for queries that can tolerate replication
+     * lag (listings, searches, reports). Comes from the DB_READ_URL replica
+     * when one is configured, otherwise from the primary. Reads that must see
+     * a write made just before them belong on {@link #getConnection()}.
+     *
+     * @return Connection object
+     */
+    public static Connection getReadConnection() throws SQLException {
+        if (readDataSource == null) {
+            return getConnection();
+        }
+        return QueryMetrics.wrap(readDataSource.getConnection());
+    }
+
+    /**
+     * Whether a separate read replica is configured
+     */
+    public static boolean hasReadReplica() {
+        return readDataSource != null;
+    }
+
+    /**
+     * Metrics for the primary pool
+     */
+    public static PoolMetrics getPoolMetrics() {
+        return primaryMetrics;
+    }
+
+    /**
+     * Metrics for the read replica pool, or null if there is none
+     */
+    public static PoolMetrics getReadPoolMetrics() {
+        return readMetrics;
     }
 
     /**
@@ -118,8 +214,25 @@ public class DatabaseConnection {
      * Shutdown the pool
      */
     public static void shutdown() {
-        if (dataSource != null) {
-            dataSource.close();
+        runShutdownTasks();
+        closePools();
+    }
+
+    /**
+     * Register a task that must run while the pool is still open during shutdown
+     */
+    public static void registerShutdownTask(Runnable task) {
+        shutdownTasks.add(task);
+    }
+
+    private static void runShutdownTasks() {
+        for (Runnable task : shutdownTasks) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("Shutdown task failed: " + e.getMessage());
+            }
         }
+        shutdownTasks.clear();
     }
 }
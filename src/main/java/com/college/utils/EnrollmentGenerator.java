@@ -1,6 +1,9 @@
 package com.college.utils;
 
+import com.college.services.IdAllocator;
+
 import java.util.Calendar;
+import java.util.List;
 
 /**
  * Utility class for generating unique enrollment numbers
@@ -10,77 +13,41 @@ public class EnrollmentGenerator {
     /**
      * Generate student enrollment number in format: DEPT_CODE + YEAR + SEQ_NUM
      * Example: CS2023001, EE2023002
+     *
+     * @return the enrollment number, or null if none could be allocated
      */
     public static String generateStudentEnrollment(String department) {
-        String deptCode = getDepartmentCode(department);
-        int year = Calendar.getInstance().get(Calendar.YEAR);
-        String prefix = deptCode + year;
-
-        try (java.sql.Connection conn = DatabaseConnection.getConnection();
-                java.sql.Statement stmt = conn.createStatement()) {
-
-            // Find highest sequence number for this Dept + Year prefix
-            String sql = "SELECT username FROM users WHERE username LIKE '" + prefix
-                    + "%' ORDER BY username DESC LIMIT 1";
-            java.sql.ResultSet rs = stmt.executeQuery(sql);
+        return IdAllocator.getInstance().next(studentPrefix(department));
+    }
 
-            int nextNum = 1;
-            if (rs.next()) {
-                String lastId = rs.getString("username");
-                if (lastId.length() >= prefix.length() + 3) {
-                    String numPart = lastId.substring(prefix.length());
-                    try {
-                        nextNum = Integer.parseInt(numPart) + 1;
-                    } catch (NumberFormatException e) {
-                        nextNum = 1;
-                    }
-                }
-            }
-            return prefix + String.format("%03d", nextNum);
-        } catch (Exception e) {
-            // Fallback unique ID
-            return prefix + System.currentTimeMillis() % 1000;
-        }
+    /**
+     * Reserve enrollment numbers for several students of one department in
+     * the current year (used by bulk import).
+     *
+     * @return count enrollment numbers, or an empty list if they could not be allocated
+     */
+    public static List<String> reserveStudentEnrollments(String department, int count) {
+        return IdAllocator.getInstance().reserve(studentPrefix(department), count);
     }
 
     /**
      * Generate faculty ID in format: FAC + SEQ_NUM
      * Example: FAC001, FAC002
-     * Queries users table to find next available ID
+     *
+     * @return the faculty ID, or null if none could be allocated
      */
     public static String generateFacultyId() {
-        try (java.sql.Connection conn = com.college.utils.DatabaseConnection.getConnection();
-                java.sql.Statement stmt = conn.createStatement()) {
-
-            // Query to find the highest number in existing FAC IDs
-            String sql = "SELECT username FROM users WHERE username LIKE 'FAC%' ORDER BY username DESC LIMIT 1";
-            java.sql.ResultSet rs = stmt.executeQuery(sql);
-
-            int nextNum = 1;
-            if (rs.next()) {
-                String lastId = rs.getString("username");
-                // Extract number from FAC001, FAC002, etc.
-                String numPart = lastId.substring(3); // Remove "FAC"
-                try {
-                    nextNum = Integer.parseInt(numPart) + 1;
-                } catch (NumberFormatException e) {
-                    // If parsing fails, start from 1
-                    nextNum = 1;
-                }
-            }
-
-            return "FAC" + String.format("%03d", nextNum);
+        return IdAllocator.getInstance().next("FAC");
+    }
 
-        } catch (Exception e) {
-            // Fallback: use timestamp-based ID to ensure uniqueness
-            return "FAC" + System.currentTimeMillis() % 1000;
-        }
+    private static String studentPrefix(String department) {
+        return getDepartmentCode(department) + Calendar.getInstance().get(Calendar.YEAR);
     }
 
     /**
      * Get department code from department name
      */
-    private static String getDepartmentCode(String department) {
+    static String getDepartmentCode(String department) {
         if (department == null || department.isEmpty()) {
             return "GEN";
         }
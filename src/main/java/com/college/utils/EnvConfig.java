@@ -36,4 +36,21 @@ public class EnvConfig {
     public static String get(String key) {
         return ENV.get(key);
     }
+
+    public static String get(String key, String defaultValue) {
+        String value = ENV.get(key);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = ENV.get(key);
+        if (value == null || value.isEmpty())
+            return defaultValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("EnvConfig: Invalid integer for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package com.college.utils;
 
 import java.lang.reflect.Field;
-import java.util.List;
 
 /**
  * Minimal JSON Helper to avoid external dependencies.
@@ -9,51 +8,12 @@ import java.util.List;
  */
 public class JsonHelper {
 
+    /**
+     * Serialize an object, list or primitive value.
+     * Delegates to {@link StreamingJsonSerializer}, which caches field accessors per class.
+     */
     public static String toJson(Object obj) {
-        if (obj == null)
-            return "null";
-        if (obj instanceof List) {
-            List<?> list = (List<?>) obj;
-            StringBuilder sb = new StringBuilder("[");
-            for (int i = 0; i < list.size(); i++) {
-                sb.append(toJson(list.get(i)));
-                if (i < list.size() - 1)
-                    sb.append(",");
-            }
-            sb.append("]");
-            return sb.toString();
-        }
-        if (obj instanceof String) {
-            return "\"" + escape((String) obj) + "\"";
-        }
-        if (obj instanceof Number || obj instanceof Boolean) {
-            return obj.toString();
-        }
-        if (obj instanceof java.util.Date) {
-            return "\"" + obj.toString() + "\"";
-        }
-        // Object serialization (Refection)
-        StringBuilder sb = new StringBuilder("{");
-        Field[] fields = obj.getClass().getDeclaredFields();
-        for (int i = 0; i < fields.length; i++) {
-            fields[i].setAccessible(true);
-            try {
-                String name = fields[i].getName();
-                Object value = fields[i].get(obj);
-                sb.append("\"").append(name).append("\":");
-                sb.append(toJson(value));
-                if (i < fields.length - 1)
-                    sb.append(",");
-            } catch (IllegalAccessException e) {
-                // skip
-            }
-        }
-        sb.append("}");
-        return sb.toString();
-    }
-
-    private static String escape(String s) {
-        return s.replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r");
+        return StreamingJsonSerializer.toJson(obj);
     }
 
     // Very basic Parser for flat JSON: {"key":"value", "num":123}
@@ -0,0 +1,122 @@
+package com.college.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, HDR-style latency histogram at microsecond resolution.
+ *
+ * Values below 8 us get their own bucket; above that every power of two is
+ * split into 8 linear sub-buckets, so a recorded value is off by at most
+ * 12.5% while everything up to about a month fits in 320 counters.
+ * Percentiles are reported as the upper bound of their bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 320;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void recordNanos(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts.incrementAndGet(bucketOf(nanos / 1_000));
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public void recordMillis(long millis) {
+        recordNanos(millis * 1_000_000);
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS - 1, (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub);
+    }
+
+    /**
+     * Exclusive upper bound, in microseconds, of the values in a bucket
+     */
+    static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << shift;
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            n += copy[i];
+        }
+        return new Snapshot(n, totalNanos.sum(), maxNanos.get(), copy);
+    }
+
+    /**
+     * Point-in-time view of a histogram. Times are in milliseconds.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0 : totalNanos / (double) count / 1_000_000;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+
+        /**
+         * @param quantile 0..1, e.g. 0.99
+         */
+        public double getPercentileMillis(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, rank)) {
+                    return Math.min(upperBoundMicros(i) / 1_000.0, getMaxMillis());
+                }
+            }
+            return getMaxMillis();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d mean=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms", count,
+                    getMeanMillis(), getPercentileMillis(0.50), getPercentileMillis(0.95),
+                    getPercentileMillis(0.99), getMaxMillis());
+        }
+    }
+}
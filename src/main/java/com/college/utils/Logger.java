@@ -1,23 +1,37 @@
 package com.college.utils;
 
-import java.io.FileWriter;
-import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Centralized logging utility for the College Management System
+ *
+ * Lines are handed to a background {@link AsyncLogAppender}, so callers
+ * (including the JavaFX thread) never wait on file or console I/O.
+ * Configured through .env: LOG_LEVEL (ERROR, WARN, INFO, DEBUG; default DEBUG),
+ * LOG_FILE, LOG_MAX_BYTES, LOG_MAX_FILES, LOG_FLUSH_INTERVAL_MS, LOG_CONSOLE.
  */
 public class Logger {
 
-    private static final String LOG_FILE = "app.log";
+    private static final String LOG_FILE = EnvConfig.get("LOG_FILE", "app.log");
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public enum Level {
         ERROR, WARN, INFO, DEBUG
     }
 
+    private static final Level threshold = parseLevel(EnvConfig.get("LOG_LEVEL", "DEBUG"));
+
+    private static final AsyncLogAppender appender = new AsyncLogAppender(
+            LOG_FILE,
+            EnvConfig.getInt("LOG_QUEUE_CAPACITY", 8192),
+            EnvConfig.getInt("LOG_MAX_BYTES", 10 * 1024 * 1024),
+            EnvConfig.getInt("LOG_MAX_FILES", 5),
+            EnvConfig.getInt("LOG_FLUSH_INTERVAL_MS", 200),
+            !"false".equalsIgnoreCase(EnvConfig.get("LOG_CONSOLE", "true")));
+
     /**
      * Log an error message with exception
      */
@@ -53,25 +67,40 @@ public class Logger {
         log(Level.DEBUG, message, null);
     }
 
+    /**
+     * Check whether a level would be written, to skip building expensive messages
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() <= threshold.ordinal();
+    }
+
     /**
      * Internal logging method
      */
     private static void log(Level level, String message, Exception e) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
-
-        // Print to console
-        System.out.println(logMessage);
-
-        // Write to file
-        try (FileWriter fw = new FileWriter(LOG_FILE, true);
-                PrintWriter pw = new PrintWriter(fw)) {
-            pw.println(logMessage);
-            if (e != null) {
-                e.printStackTrace(pw);
-            }
-        } catch (IOException ex) {
-            System.err.println("Failed to write to log file: " + ex.getMessage());
+        if (!isEnabled(level))
+            return;
+
+        String text = String.valueOf(message);
+        StringBuilder sb = new StringBuilder(text.length() + 40);
+        sb.append('[').append(LocalDateTime.now().format(formatter)).append("] [")
+                .append(level).append("] ").append(text);
+
+        if (e != null) {
+            // Render the trace now; the exception may change before the appender runs
+            StringWriter trace = new StringWriter();
+            e.printStackTrace(new PrintWriter(trace));
+            sb.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+
+        appender.append(sb.toString());
+    }
+
+    private static Level parseLevel(String value) {
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.DEBUG;
         }
     }
 }
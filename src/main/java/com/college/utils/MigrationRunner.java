@@ -1,37 +1,112 @@
 package com.college.utils;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Versioned schema migrations.
+ *
+ * Migrations are the V&lt;n&gt;[_&lt;m&gt;]__Description.sql files directly under
+ * db/migration on the classpath (a directory when run from the IDE, jar
+ * entries when packaged). Each one is applied once, in version order, in its
+ * own transaction, and recorded in schema_version with a SHA-256 checksum.
+ *
+ * When nothing is pending, startup costs a single query on schema_version.
+ * Otherwise a Postgres advisory lock is taken so that instances starting at
+ * the same time apply migrations one after another, and the pending list is
+ * re-read under the lock.
+ */
 public class MigrationRunner {
 
-    public static void runMigrations() {
-        System.out.println("[Migration] Checking for pending migrations...");
+    static final String LOCATION = "db/migration";
+
+    // Arbitrary, but must stay the same across releases
+    private static final long LOCK_KEY = 0x436F6C6C4D696772L;
 
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            // 1. Ensure schema_version table exists
-            ensureSchemaVersionTable(conn);
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+(?:_\\d+)*)__(.+)\\.sql");
 
-            // 2. Find migration files
-            List<String> migrationFiles = findMigrationFiles();
+    /**
+     * A migration script found on the classpath
+     */
+    static final class Migration implements Comparable<Migration> {
+        final String version;
+        final String fileName;
+        final int[] versionParts;
 
-            for (String file : migrationFiles) {
-                String version = extractVersion(file);
-                if (!isMigrationApplied(conn, version)) {
-                    System.out.println("[Migration] Applying " + file + "...");
-                    applyMigration(conn, file, version);
+        Migration(String version, String fileName, int[] versionParts) {
+            this.version = version;
+            this.fileName = fileName;
+            this.versionParts = versionParts;
+        }
+
+        @Override
+        public int compareTo(Migration other) {
+            int n = Math.max(versionParts.length, other.versionParts.length);
+            for (int i = 0; i < n; i++) {
+                int a = i < versionParts.length ? versionParts[i] : 0;
+                int b = i < other.versionParts.length ? other.versionParts[i] : 0;
+                if (a != b) {
+                    return Integer.compare(a, b);
+                }
+            }
+            return 0;
+        }
+    }
+
+    public static void runMigrations() {
+        try {
+            List<Migration> migrations = findMigrations(MigrationRunner.class.getClassLoader(), LOCATION);
+            if (migrations.isEmpty()) {
+                Logger.warn("No migrations found under " + LOCATION);
+                return;
+            }
+
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                Map<String, String> applied = readApplied(conn);
+                if (applied != null && pending(migrations, applied).isEmpty()) {
+                    verifyChecksums(conn, migrations, applied);
+                    return;
+                }
+
+                lock(conn);
+                try {
+                    ensureSchemaVersionTable(conn);
+                    // Another instance may have applied them while we waited
+                    applied = readApplied(conn);
+                    List<Migration> pending = pending(migrations, applied);
+                    for (Migration m : pending) {
+                        applyMigration(conn, m);
+                    }
+                    verifyChecksums(conn, migrations, applied);
+                    Logger.info("Database is up to date (" + pending.size() + " migration(s) applied)");
+                } finally {
+                    unlock(conn);
                 }
             }
-            System.out.println("[Migration] Database is up to date.");
 
         } catch (Exception e) {
             System.err.println("[Migration] Failed to run migrations: " + e.getMessage());
@@ -39,107 +114,211 @@ public class MigrationRunner {
         }
     }
 
-    private static void ensureSchemaVersionTable(Connection conn) throws SQLException {
-        try (Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
-                    "version VARCHAR(50) PRIMARY KEY, " +
-                    "file_name VARCHAR(255), " +
-                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+    /**
+     * Migrations directly under location, in version order
+     *
+     * @throws IllegalStateException if two files share a version
+     */
+    static List<Migration> findMigrations(ClassLoader loader, String location) throws IOException {
+        Set<String> files = new TreeSet<>();
+        Enumeration<URL> roots = loader.getResources(location);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("jar".equals(root.getProtocol())) {
+                listJar(root, location, files);
+            } else if ("file".equals(root.getProtocol())) {
+                listDirectory(root, files);
+            } else {
+                Logger.warn("Unsupported migration location " + root);
+            }
+        }
+
+        Map<String, Migration> byVersion = new HashMap<>();
+        List<Migration> migrations = new ArrayList<>();
+        for (String fileName : files) {
+            Matcher m = FILE_NAME.matcher(fileName);
+            if (!m.matches()) {
+                continue;
+            }
+            String[] parts = m.group(1).split("_");
+            int[] versionParts = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                versionParts[i] = Integer.parseInt(parts[i]);
+            }
+            Migration migration = new Migration("V" + m.group(1), fileName, versionParts);
+            Migration clash = byVersion.put(migration.version, migration);
+            if (clash != null) {
+                throw new IllegalStateException("Migrations " + clash.fileName + " and " + fileName
+                        + " share version " + migration.version);
+            }
+            migrations.add(migration);
         }
+        migrations.sort(null);
+        return migrations;
     }
 
-    private static List<String> findMigrationFiles() {
-        List<String> files = new ArrayList<>();
+    private static void listJar(URL root, String location, Set<String> files) throws IOException {
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        String prefix = location + "/";
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0
+                        && name.length() > prefix.length()) {
+                    files.add(name.substring(prefix.length()));
+                }
+            }
+        }
+    }
+
+    private static void listDirectory(URL root, Set<String> files) throws IOException {
+        File dir;
         try {
-            // Use java.nio to properly scan the migration directory
-            java.nio.file.Path migrationDir = java.nio.file.Paths.get("src/main/resources/db/migration");
-
-            if (java.nio.file.Files.exists(migrationDir)) {
-                files = java.nio.file.Files.list(migrationDir)
-                        .map(path -> path.getFileName().toString())
-                        .filter(name -> name.endsWith(".sql"))
-                        .sorted() // Natural sort first
-                        .collect(Collectors.toList());
-
-                // Custom sort: V1, V2, ..., V9, V10, V11
-                Collections.sort(files, (a, b) -> {
-                    try {
-                        int verA = Integer.parseInt(a.substring(1, a.indexOf("__")));
-                        int verB = Integer.parseInt(b.substring(1, b.indexOf("__")));
-                        return Integer.compare(verA, verB);
-                    } catch (Exception e) {
-                        return a.compareTo(b); // Fallback to lexical
-                    }
-                });
+            dir = new File(root.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Bad migration location " + root, e);
+        }
+        File[] children = dir.listFiles(File::isFile);
+        if (children != null) {
+            for (File f : children) {
+                files.add(f.getName());
             }
-        } catch (Exception e) {
-            Logger.error("Failed to find migration files", e);
         }
-        return files;
     }
 
-    private static String extractVersion(String fileName) {
-        // V1__Description.sql -> 1
-        // We will store "1" or "V1"
-        return fileName.split("__")[0];
+    static String checksum(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static List<Migration> pending(List<Migration> migrations, Map<String, String> applied) {
+        List<Migration> pending = new ArrayList<>();
+        for (Migration m : migrations) {
+            if (!applied.containsKey(m.version)) {
+                pending.add(m);
+            }
+        }
+        return pending;
     }
 
-    private static boolean isMigrationApplied(Connection conn, String version) throws SQLException {
-        String sql = "SELECT 1 FROM schema_version WHERE version = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, version);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                return rs.next();
+    /**
+     * version -> checksum (null for rows recorded before checksums), or null if
+     * schema_version is missing or still has the old layout
+     */
+    private static Map<String, String> readApplied(Connection conn) throws SQLException {
+        Map<String, String> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getString("version"), rs.getString("checksum"));
             }
+            return applied;
+        } catch (SQLException e) {
+            // 42P01 undefined_table, 42703 undefined_column
+            if ("42P01".equals(e.getSQLState()) || "42703".equals(e.getSQLState())) {
+                return null;
+            }
+            throw e;
         }
     }
 
-    private static void applyMigration(Connection conn, String fileName, String version) throws SQLException {
-        try {
-            // Read SQL content
-            String sqlContent;
-            try (InputStream is = MigrationRunner.class.getClassLoader()
-                    .getResourceAsStream("db/migration/" + fileName)) {
-                if (is == null)
-                    throw new RuntimeException("Migration file not found: " + fileName);
-                sqlContent = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-            }
-
-            // Execute SQL (Simple split by semicolon for multiple statements, simplistic
-            // approach)
-            // Ideally we should use a proper SQL parser, but for this scope, simple
-            // splitting is fine
-            // provided statements don't contain semicolons in string literals.
-            String[] statements = sqlContent.split(";");
-            conn.setAutoCommit(false);
-
-            try (Statement stmt = conn.createStatement()) {
-                for (String sql : statements) {
-                    if (!sql.trim().isEmpty()) {
-                        stmt.execute(sql.trim());
-                    }
-                }
+    private static void ensureSchemaVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                    "version VARCHAR(50) PRIMARY KEY, " +
+                    "file_name VARCHAR(255), " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("ALTER TABLE schema_version ADD COLUMN IF NOT EXISTS checksum VARCHAR(64)");
+            stmt.execute("ALTER TABLE schema_version ADD COLUMN IF NOT EXISTS execution_ms INTEGER");
+        }
+    }
 
-                // Record migration
+    private static void applyMigration(Connection conn, Migration migration) throws SQLException {
+        byte[] content = read(migration);
+        long started = System.nanoTime();
+        System.out.println("[Migration] Applying " + migration.fileName + "...");
+
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            // The whole script is sent at once so DO $$ ... $$ blocks stay intact
+            stmt.execute(new String(content, StandardCharsets.UTF_8));
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, file_name, checksum, execution_ms) VALUES (?, ?, ?, ?)")) {
+                pstmt.setString(1, migration.version);
+                pstmt.setString(2, migration.fileName);
+                pstmt.setString(3, checksum(content));
+                pstmt.setInt(4, (int) ((System.nanoTime() - started) / 1_000_000));
+                pstmt.executeUpdate();
+            }
+
+            conn.commit();
+            Logger.info("Applied migration " + migration.fileName);
+
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Error applying migration " + migration.fileName, e);
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Warn about applied migrations whose file changed afterwards, and record
+     * checksums for rows written before checksums existed
+     */
+    private static void verifyChecksums(Connection conn, List<Migration> migrations, Map<String, String> applied)
+            throws SQLException {
+        for (Migration m : migrations) {
+            if (!applied.containsKey(m.version)) {
+                continue;
+            }
+            String recorded = applied.get(m.version);
+            String actual = checksum(read(m));
+            if (recorded == null) {
                 try (PreparedStatement pstmt = conn.prepareStatement(
-                        "INSERT INTO schema_version (version, file_name) VALUES (?, ?)")) {
-                    pstmt.setString(1, version);
-                    pstmt.setString(2, fileName);
+                        "UPDATE schema_version SET checksum = ? WHERE version = ? AND checksum IS NULL")) {
+                    pstmt.setString(1, actual);
+                    pstmt.setString(2, m.version);
                     pstmt.executeUpdate();
                 }
+            } else if (!recorded.equals(actual)) {
+                Logger.warn("Migration " + m.fileName + " was modified after it was applied; "
+                        + "add a new migration instead of editing an applied one");
+            }
+        }
+    }
 
-                conn.commit();
-                System.out.println("[Migration] Applied " + fileName);
-
-            } catch (SQLException e) {
-                conn.rollback();
-                throw e;
-            } finally {
-                conn.setAutoCommit(true);
+    private static byte[] read(Migration migration) throws SQLException {
+        try (InputStream is = MigrationRunner.class.getClassLoader()
+                .getResourceAsStream(LOCATION + "/" + migration.fileName)) {
+            if (is == null) {
+                throw new SQLException("Migration file not found: " + migration.fileName);
             }
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new SQLException("Could not read migration " + migration.fileName, e);
+        }
+    }
 
-        } catch (Exception e) {
-            throw new SQLException("Error applying migration " + fileName, e);
+    private static void lock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT pg_advisory_lock(?)")) {
+            pstmt.setLong(1, LOCK_KEY);
+            pstmt.execute();
+        }
+    }
+
+    private static void unlock(Connection conn) {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            pstmt.setLong(1, LOCK_KEY);
+            pstmt.execute();
+        } catch (SQLException e) {
+            Logger.error("Could not release migration lock", e);
         }
     }
 }
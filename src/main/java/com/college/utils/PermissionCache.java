@@ -0,0 +1,128 @@
+package com.college.utils;
+
+import com.college.dao.RoleDAO;
+import com.college.models.Role;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process RBAC cache.
+ *
+ * Read-through: the first lookup for a user loads its role (with permissions)
+ * from {@link RoleDAO}; later checks are hash lookups. RoleDAO invalidates
+ * entries whenever role permissions or user role assignments change. A TTL
+ * (PERMISSION_CACHE_TTL_SECONDS, default 300) bounds staleness for changes
+ * made by other application instances. Each invalidation bumps a
+ * generation counter, so a load that was already reading the database when
+ * a role changed is returned to its caller but not cached.
+ */
+public class PermissionCache {
+
+    private static PermissionCache instance;
+
+    private final ConcurrentHashMap<Integer, Entry<Integer>> userRoles = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Entry<Role>> roles = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private RoleDAO roleDAO;
+    private long generation; // guarded by this
+
+    PermissionCache(RoleDAO roleDAO, long ttlNanos) {
+        this.roleDAO = roleDAO;
+        this.ttlNanos = ttlNanos;
+    }
+
+    public static synchronized PermissionCache getInstance() {
+        if (instance == null) {
+            instance = new PermissionCache(null,
+                    TimeUnit.SECONDS.toNanos(EnvConfig.getInt("PERMISSION_CACHE_TTL_SECONDS", 300)));
+        }
+        return instance;
+    }
+
+    /**
+     * Get the role (with permissions) for a user, loading it on a cache miss.
+     * The returned Role is shared and must not be modified.
+     *
+     * @return Role or null if the user has no RBAC role
+     */
+    public Role getRoleForUser(int userId) {
+        Entry<Integer> roleRef = userRoles.get(userId);
+        if (roleRef != null && !roleRef.isExpired(ttlNanos)) {
+            Entry<Role> cached = roles.get(roleRef.value);
+            if (cached != null && !cached.isExpired(ttlNanos)) {
+                return cached.value;
+            }
+        }
+        return load(userId);
+    }
+
+    public boolean hasPermission(int userId, String permissionCode) {
+        Role role = getRoleForUser(userId);
+        return role != null && role.hasPermission(permissionCode);
+    }
+
+    /**
+     * Drop the cached role, e.g. after its permissions were changed
+     */
+    public synchronized void invalidateRole(int roleId) {
+        generation++;
+        roles.remove(roleId);
+    }
+
+    /**
+     * Drop the cached role assignment of a user
+     */
+    public synchronized void invalidateUser(int userId) {
+        generation++;
+        userRoles.remove(userId);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        userRoles.clear();
+        roles.clear();
+    }
+
+    private Role load(int userId) {
+        long generationAtLoad;
+        synchronized (this) {
+            generationAtLoad = generation;
+        }
+        Role role = getRoleDAO().getRoleForUser(userId);
+        synchronized (this) {
+            if (role == null) {
+                // Not cached: may be a transient DB failure rather than a missing role
+                userRoles.remove(userId);
+                return null;
+            }
+            // Skip publishing if a role or assignment changed while we were reading
+            if (generation == generationAtLoad) {
+                roles.put(role.getId(), new Entry<>(role));
+                userRoles.put(userId, new Entry<>(role.getId()));
+            }
+        }
+        return role;
+    }
+
+    private synchronized RoleDAO getRoleDAO() {
+        if (roleDAO == null) {
+            roleDAO = new RoleDAO();
+        }
+        return roleDAO;
+    }
+
+    private static final class Entry<T> {
+        final T value;
+        final long loadedAt;
+
+        Entry(T value) {
+            this.value = value;
+            this.loadedAt = System.nanoTime();
+        }
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
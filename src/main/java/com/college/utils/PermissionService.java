@@ -1,19 +1,19 @@
 package com.college.utils;
 
-import com.college.dao.RoleDAO;
 import com.college.models.Role;
 
 /**
  * Permission Service Utility
  * Provides centralized permission checking for the application
+ * Roles are served from {@link PermissionCache}
  */
 public class PermissionService {
 
     private static PermissionService instance;
-    private RoleDAO roleDAO;
+    private final PermissionCache permissionCache;
 
     private PermissionService() {
-        this.roleDAO = new RoleDAO();
+        this.permissionCache = PermissionCache.getInstance();
     }
 
     public static synchronized PermissionService getInstance() {
@@ -27,7 +27,7 @@ public class PermissionService {
      * Check if a user has a specific permission
      */
     public boolean hasPermission(int userId, String permissionCode) {
-        Role role = roleDAO.getRoleForUser(userId);
+        Role role = permissionCache.getRoleForUser(userId);
         if (role != null) {
             return role.hasPermission(permissionCode);
         }
@@ -38,14 +38,14 @@ public class PermissionService {
      * Get the role for a user
      */
     public Role getUserRole(int userId) {
-        return roleDAO.getRoleForUser(userId);
+        return permissionCache.getRoleForUser(userId);
     }
 
     /**
      * Check if user has any of the specified permissions
      */
     public boolean hasAnyPermission(int userId, String... permissionCodes) {
-        Role role = roleDAO.getRoleForUser(userId);
+        Role role = permissionCache.getRoleForUser(userId);
         if (role != null) {
             for (String code : permissionCodes) {
                 if (role.hasPermission(code)) {
@@ -60,7 +60,7 @@ public class PermissionService {
      * Check if user has all of the specified permissions
      */
     public boolean hasAllPermissions(int userId, String... permissionCodes) {
-        Role role = roleDAO.getRoleForUser(userId);
+        Role role = permissionCache.getRoleForUser(userId);
         if (role != null) {
             for (String code : permissionCodes) {
                 if (!role.hasPermission(code)) {
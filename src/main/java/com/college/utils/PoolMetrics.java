@@ -0,0 +1,105 @@
+package com.college.utils;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP metrics for one pool: connection counts plus acquire, usage and
+ * creation time histograms. Install with
+ * {@code config.setMetricsTrackerFactory(metrics)}.
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LatencyHistogram acquire = new LatencyHistogram();
+    private final LatencyHistogram usage = new LatencyHistogram();
+    private final LatencyHistogram creation = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creation.recordMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.recordNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.recordMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getActiveConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getActiveConnections() : 0;
+    }
+
+    public int getIdleConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getIdleConnections() : 0;
+    }
+
+    /** Threads waiting for a connection */
+    public int getPendingThreads() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getPendingThreads() : 0;
+    }
+
+    public int getTotalConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getTotalConnections() : 0;
+    }
+
+    public int getMaxConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getMaxConnections() : 0;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /** Time spent waiting in getConnection() */
+    public LatencyHistogram.Snapshot getAcquireTime() {
+        return acquire.snapshot();
+    }
+
+    /** Time connections were held before being returned */
+    public LatencyHistogram.Snapshot getUsageTime() {
+        return usage.snapshot();
+    }
+
+    public LatencyHistogram.Snapshot getCreationTime() {
+        return creation.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: active=%d idle=%d pending=%d total=%d/%d timeouts=%d acquire[%s] usage[%s]",
+                poolName, getActiveConnections(), getIdleConnections(), getPendingThreads(),
+                getTotalConnections(), getMaxConnections(), getTimeouts(), getAcquireTime(), getUsageTime());
+    }
+}
@@ -0,0 +1,317 @@
+package com.college.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC instrumentation for connections handed out by
+ * {@link DatabaseConnection}.
+ *
+ * Every execute call is timed and attributed to the DAO method that issued
+ * it (e.g. "StudentDAO.getAllStudents"), or to its name for statements in
+ * the {@link SqlCatalog}, with a latency histogram, row and
+ * error counts per caller. Statements slower than DB_SLOW_QUERY_MS are
+ * written to DB_SLOW_QUERY_LOG. Set DB_INSTRUMENTATION=false to hand out
+ * the pool's connections unwrapped.
+ */
+public final class QueryMetrics {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(EnvConfig.get("DB_INSTRUMENTATION", "true"));
+    private static final long SLOW_QUERY_NANOS = EnvConfig.getInt("DB_SLOW_QUERY_MS", 500) * 1_000_000L;
+    private static final int MAX_LOGGED_SQL = 2000;
+
+    private static final String DAO_PACKAGE = "com.college.dao.";
+    private static final String APP_PACKAGE = "com.college.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final Map<String, Stats> BY_CALLER = new ConcurrentHashMap<>();
+
+    // Opened on the first slow query
+    private static volatile AsyncLogAppender slowLog;
+
+    private QueryMetrics() {
+    }
+
+    /**
+     * Wrap a connection so its statements are measured. Returns conn
+     * unchanged when instrumentation is disabled.
+     */
+    public static Connection wrap(Connection conn) {
+        if (!ENABLED || conn == null) {
+            return conn;
+        }
+        return (Connection) Proxy.newProxyInstance(QueryMetrics.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(conn));
+    }
+
+    /**
+     * Per-caller statistics, by total execution time (highest first)
+     */
+    public static List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>(BY_CALLER.values());
+        stats.sort(Comparator.comparingDouble(Stats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    /**
+     * One line per caller, by total time
+     */
+    public static String report(int limit) {
+        StringBuilder sb = new StringBuilder("Query metrics:");
+        int shown = 0;
+        for (Stats s : getStats()) {
+            if (shown == limit)
+                break;
+            sb.append(String.format("%n  %-45s total=%.0fms rows=%d errors=%d slow=%d %s", s.caller,
+                    s.getTotalMillis(), s.getRows(), s.getErrors(), s.getSlowQueries(), s.getLatency()));
+            shown++;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Clear all statistics (e.g. between load test runs)
+     */
+    public static void reset() {
+        BY_CALLER.clear();
+    }
+
+    /**
+     * Close the slow-query log, flushing pending lines
+     */
+    public static void shutdown() {
+        AsyncLogAppender log = slowLog;
+        if (log != null) {
+            log.shutdown();
+        }
+    }
+
+    /**
+     * Latency, rows and errors of the statements issued by one DAO method
+     */
+    public static final class Stats {
+        private final String caller;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private Stats(String caller) {
+            this.caller = caller;
+        }
+
+        public String getCaller() {
+            return caller;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency.snapshot();
+        }
+
+        /** Rows returned by queries plus rows affected by updates */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getSlowQueries() {
+            return slow.sum();
+        }
+
+        public double getTotalMillis() {
+            LatencyHistogram.Snapshot s = latency.snapshot();
+            return s.getMeanMillis() * s.getCount();
+        }
+    }
+
+    /**
+     * The first DAO frame on the stack, else the first application frame
+     * outside the JDBC wrappers, as "SimpleClassName.method"
+     */
+    static String caller() {
+        StackWalker.StackFrame frame = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(DAO_PACKAGE))
+                .findFirst()).orElse(null);
+        if (frame == null) {
+            frame = WALKER.walk(frames -> frames
+                    .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                            && !isWrapper(f.getClassName(), QueryMetrics.class))
+                    .findFirst()).orElse(null);
+        }
+        if (frame == null) {
+            return "unknown";
+        }
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+    private static boolean isWrapper(String className, Class<?> wrapper) {
+        return className.equals(wrapper.getName()) || className.startsWith(wrapper.getName() + "$");
+    }
+
+    private static Stats statsFor(String caller) {
+        return BY_CALLER.computeIfAbsent(caller, Stats::new);
+    }
+
+    private static void logSlowQuery(String caller, String sql, long nanos, long rows, boolean failed) {
+        AsyncLogAppender log = slowLog;
+        if (log == null) {
+            synchronized (QueryMetrics.class) {
+                log = slowLog;
+                if (log == null) {
+                    log = new AsyncLogAppender(EnvConfig.get("DB_SLOW_QUERY_LOG", "slow-queries.log"), 1024,
+                            EnvConfig.getInt("LOG_MAX_BYTES", 10 * 1024 * 1024),
+                            EnvConfig.getInt("LOG_MAX_FILES", 5), 1000, false);
+                    slowLog = log;
+                }
+            }
+        }
+        String text = sql == null ? "<batch>" : sql.replaceAll("\\s+", " ").trim();
+        if (text.length() > MAX_LOGGED_SQL) {
+            text = text.substring(0, MAX_LOGGED_SQL) + "...";
+        }
+        log.append(String.format("[%s] %.1fms %s rows=%s%s | %s", LocalDateTime.now().format(TIMESTAMP),
+                nanos / 1_000_000.0, caller, rows < 0 ? "-" : Long.toString(rows), failed ? " FAILED" : "", text));
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            if (result instanceof Statement stmt) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(QueryMetrics.class.getClassLoader(), new Class<?>[] { type },
+                        new StatementHandler(stmt, sql, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+        private String caller;
+
+        StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+            this.caller = SqlCatalog.nameOf(preparedSql);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            if (name.equals("getResultSet")) {
+                return countRows((ResultSet) call(target, method, args), stats());
+            }
+            if (!name.startsWith("execute")) {
+                return call(target, method, args);
+            }
+
+            Stats stats = stats();
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long started = System.nanoTime();
+            long rows = -1;
+            boolean failed = false;
+            try {
+                Object result = call(target, method, args);
+                if (result instanceof ResultSet rs) {
+                    return countRows(rs, stats);
+                }
+                if (result instanceof Integer n) {
+                    rows = n;
+                } else if (result instanceof Long n) {
+                    rows = n;
+                } else if (result instanceof int[] counts) {
+                    rows = 0;
+                    for (int c : counts) {
+                        rows += Math.max(0, c);
+                    }
+                } else if (result instanceof long[] counts) {
+                    rows = 0;
+                    for (long c : counts) {
+                        rows += Math.max(0, c);
+                    }
+                }
+                if (rows > 0) {
+                    stats.rows.add(rows);
+                }
+                return result;
+            } catch (Throwable t) {
+                failed = true;
+                stats.errors.increment();
+                throw t;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                stats.latency.recordNanos(elapsed);
+                if (elapsed >= SLOW_QUERY_NANOS) {
+                    stats.slow.increment();
+                    logSlowQuery(stats.caller, sql, elapsed, rows, failed);
+                }
+            }
+        }
+
+        // A statement is used by one method, so resolve the caller once
+        private Stats stats() {
+            if (caller == null) {
+                caller = caller();
+            }
+            return statsFor(caller);
+        }
+    }
+
+    private static ResultSet countRows(ResultSet rs, Stats stats) {
+        if (rs == null) {
+            return null;
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = call(rs, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.rows.increment();
+            }
+            return result;
+        };
+        return (ResultSet) Proxy.newProxyInstance(QueryMetrics.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, handler);
+    }
+}
@@ -0,0 +1,236 @@
+package com.college.utils;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-process cache for slow-changing reference data (departments, courses,
+ * fee categories, hostels).
+ *
+ * Read-through: DAOs pass a loader that runs on a miss. The cache is bounded
+ * by the total number of cached rows (REFERENCE_CACHE_MAX_ROWS, default
+ * 20000) and evicts the least recently used lists first. A TTL
+ * (REFERENCE_CACHE_TTL_SECONDS, default 300) bounds staleness for changes
+ * made by other application instances. DAOs invalidate a region after
+ * writing to its tables; each invalidation bumps the region's generation, so
+ * a load that was already running when the data changed is returned to its
+ * caller but not cached. Loaders read from the primary, not the read
+ * replica, so a reload right after an invalidation cannot cache rows from
+ * before the write.
+ */
+public class ReferenceDataCache {
+
+    public static final String DEPARTMENTS = "departments";
+    public static final String COURSES = "courses";
+    public static final String FEE_CATEGORIES = "fee_categories";
+    public static final String HOSTELS = "hostels";
+
+    /**
+     * Loads a list on a cache miss
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        List<T> load() throws SQLException;
+    }
+
+    private static ReferenceDataCache instance;
+
+    // Access-ordered, so iteration starts at the least recently used entry. Guarded by this.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> generations = new HashMap<>();
+    private long epoch; // bumped by invalidateAll
+    private long cachedRows;
+
+    private final long ttlNanos;
+    private final long maxRows;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ReferenceDataCache(long ttlNanos, long maxRows) {
+        this.ttlNanos = ttlNanos;
+        this.maxRows = maxRows;
+    }
+
+    public static synchronized ReferenceDataCache getInstance() {
+        if (instance == null) {
+            instance = new ReferenceDataCache(
+                    TimeUnit.SECONDS.toNanos(EnvConfig.getInt("REFERENCE_CACHE_TTL_SECONDS", 300)),
+                    EnvConfig.getInt("REFERENCE_CACHE_MAX_ROWS", 20000));
+        }
+        return instance;
+    }
+
+    /**
+     * Get a cached list of immutable elements (e.g. strings), loading it on a
+     * miss. The returned list is the caller's own copy; its elements are shared.
+     */
+    public <T> List<T> get(String region, String key, Loader<T> loader) throws SQLException {
+        return get(region, key, loader, UnaryOperator.identity());
+    }
+
+    /**
+     * Get a cached list, loading it on a miss. Failed loads are not cached.
+     * The returned list and its elements are the caller's own copies, so views
+     * may edit them (e.g. in a form) without changing what other callers see.
+     *
+     * @param region one of the region constants, used for invalidation
+     * @param key    distinguishes lists within a region, e.g. "all"
+     * @param copy   copies one element
+     */
+    public <T> List<T> get(String region, String key, Loader<T> loader, UnaryOperator<T> copy)
+            throws SQLException {
+        String cacheKey = region + ':' + key;
+        long generation;
+        long epochAtLoad;
+        synchronized (this) {
+            Entry entry = entries.get(cacheKey);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt <= ttlNanos) {
+                    hits.increment();
+                    @SuppressWarnings("unchecked")
+                    List<T> values = (List<T>) entry.values;
+                    return copyOf(values, copy);
+                }
+                remove(cacheKey);
+            }
+            generation = generations.getOrDefault(region, 0L);
+            epochAtLoad = epoch;
+        }
+        misses.increment();
+
+        List<T> loaded = loader.load();
+        List<Object> values = Collections.unmodifiableList(new ArrayList<>(loaded));
+        synchronized (this) {
+            if (generations.getOrDefault(region, 0L) == generation && epoch == epochAtLoad
+                    && values.size() <= maxRows) {
+                remove(cacheKey);
+                entries.put(cacheKey, new Entry(region, values));
+                cachedRows += values.size();
+                evictToLimit();
+            }
+        }
+        return copyOf(loaded, copy);
+    }
+
+    private static <T> List<T> copyOf(List<T> values, UnaryOperator<T> copy) {
+        List<T> result = new ArrayList<>(values.size());
+        for (T value : values) {
+            result.add(copy.apply(value));
+        }
+        return result;
+    }
+
+    /**
+     * Drop every cached list of a region, e.g. after its table changed
+     */
+    public synchronized void invalidate(String region) {
+        generations.merge(region, 1L, Long::sum);
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next().getValue();
+            if (entry.region.equals(region)) {
+                cachedRows -= entry.values.size();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        epoch++;
+        entries.clear();
+        cachedRows = 0;
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), cachedRows);
+    }
+
+    private void remove(String cacheKey) {
+        Entry old = entries.remove(cacheKey);
+        if (old != null) {
+            cachedRows -= old.values.size();
+        }
+    }
+
+    private void evictToLimit() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (cachedRows > maxRows && it.hasNext()) {
+            cachedRows -= it.next().values.size();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        final String region;
+        final List<Object> values;
+        final long loadedAt;
+
+        Entry(String region, List<Object> values) {
+            this.region = region;
+            this.values = values;
+            this.loadedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Hit/miss counters since startup
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int entries;
+        private final long rows;
+
+        Stats(long hits, long misses, long evictions, int entries, long rows) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.rows = rows;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getEntries() {
+            return entries;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : hits / (double) requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hitRate=%.1f%% evictions=%d entries=%d rows=%d", hits, misses,
+                    getHitRate() * 100, evictions, entries, rows);
+        }
+    }
+}
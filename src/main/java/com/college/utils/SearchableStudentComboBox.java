@@ -1,28 +1,35 @@
 package com.college.utils;
 
 import com.college.models.Student;
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.TextField;
 import javafx.scene.control.Tooltip;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 import java.util.List;
 
 /**
  * Searchable Student ComboBox
- * Allows filtering students by name or enrollment ID
+ * Allows filtering students by name or enrollment ID.
+ * Typing is debounced and answered from a {@link StudentSearchIndex} built
+ * in the background, showing the best MAX_RESULTS matches.
  */
 public class SearchableStudentComboBox extends VBox {
 
+    private static final int MAX_RESULTS = 200;
+    private static final Duration SEARCH_DELAY = Duration.millis(150);
+
     private final TextField searchField;
     private final ComboBox<Student> comboBox;
-    private final ObservableList<Student> allStudents;
     private final ObservableList<Student> filteredStudents;
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+    private StudentSearchIndex index;
 
     public SearchableStudentComboBox(List<Student> students) {
-        this.allStudents = FXCollections.observableArrayList(students);
         this.filteredStudents = FXCollections.observableArrayList(students);
 
         // Search field
@@ -61,40 +68,43 @@ public class SearchableStudentComboBox extends VBox {
             }
         });
 
-        // Add search filtering
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> filterStudents(newVal));
+        // Add search filtering once typing pauses
+        searchDelay.setOnFinished(e -> filterStudents(searchField.getText()));
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> searchDelay.playFromStart());
 
         this.setSpacing(5);
         this.getChildren().addAll(searchField, comboBox);
+        buildIndex(students);
     }
 
-    private void filterStudents(String searchText) {
-        filteredStudents.clear();
+    /**
+     * Build the search index off the FX thread; a newer list replaces a
+     * build that is still running
+     */
+    private void buildIndex(List<Student> students) {
+        index = null;
+        List<Student> snapshot = List.copyOf(students);
+        javafx.concurrent.Task<StudentSearchIndex> task = ViewTaskExecutor.task(() -> new StudentSearchIndex(snapshot));
+        task.setOnSucceeded(e -> {
+            index = task.getValue();
+            String text = searchField.getText();
+            if (text != null && !text.isBlank()) {
+                filterStudents(text);
+            }
+        });
+        ViewTaskExecutor.getInstance().submitLatest(this, "search-index", task);
+    }
 
-        if (searchText == null || searchText.trim().isEmpty()) {
-            filteredStudents.addAll(allStudents);
+    private void filterStudents(String searchText) {
+        if (index == null) {
+            // Still building; buildIndex applies the search when it is ready
             return;
         }
-
-        String lowerSearch = searchText.toLowerCase().trim();
-        for (Student student : allStudents) {
-            boolean matches = false;
-
-            // Search by name
-            if (student.getName() != null && student.getName().toLowerCase().contains(lowerSearch)) {
-                matches = true;
-            }
-
-            // Search by enrollment ID (username)
-            if (!matches && student.getUsername() != null &&
-                    student.getUsername().toLowerCase().contains(lowerSearch)) {
-                matches = true;
-            }
-
-            if (matches) {
-                filteredStudents.add(student);
-            }
+        if (searchText == null || searchText.trim().isEmpty()) {
+            filteredStudents.setAll(index.getStudents());
+            return;
         }
+        filteredStudents.setAll(index.search(searchText, MAX_RESULTS));
     }
 
     public Student getSelectedStudent() {
@@ -119,9 +129,10 @@ public class SearchableStudentComboBox extends VBox {
     }
 
     public void setStudents(List<Student> students) {
-        this.allStudents.setAll(students);
         this.filteredStudents.setAll(students);
         this.searchField.clear();
+        this.searchDelay.stop();
         this.comboBox.setValue(null);
+        buildIndex(students);
     }
 }
@@ -1,6 +1,5 @@
 package com.college.utils;
 
-import com.college.dao.RoleDAO;
 import com.college.models.Role;
 
 import java.time.LocalDateTime;
@@ -18,11 +17,11 @@ public class SessionManager {
     private String role; // Legacy role string
     private Role userRole; // New RBAC Role object
     private LocalDateTime loginTime;
-    private RoleDAO roleDAO;
+    private final PermissionCache permissionCache;
 
     // Private constructor for singleton
     private SessionManager() {
-        this.roleDAO = new RoleDAO();
+        this.permissionCache = PermissionCache.getInstance();
     }
 
     /**
@@ -53,7 +52,7 @@ public class SessionManager {
      */
     private void loadUserRole() {
         try {
-            this.userRole = roleDAO.getRoleForUser(userId);
+            this.userRole = permissionCache.getRoleForUser(userId);
         } catch (Exception e) {
             // RBAC tables may not exist yet or connection error
             this.userRole = null;
@@ -77,6 +76,9 @@ public class SessionManager {
      * Clear session on logout
      */
     public void clearSession() {
+        if (this.userId > 0) {
+            permissionCache.invalidateUser(this.userId);
+        }
         this.userId = 0;
         this.username = null;
         this.role = null;
@@ -102,7 +104,9 @@ public class SessionManager {
         }
 
         if (userRole != null && userRole.getPermissions() != null) {
-            return userRole.hasPermission(permissionCode);
+            // Re-read through the cache so permission edits apply to the live session
+            Role current = userRole.getId() > 0 ? permissionCache.getRoleForUser(userId) : null;
+            return (current != null ? current : userRole).hasPermission(permissionCode);
         }
         // Fallback to legacy role-based checks
         return fallbackPermissionCheck(permissionCode);
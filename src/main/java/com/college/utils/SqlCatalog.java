@@ -0,0 +1,94 @@
+package com.college.utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of named, constant SQL statements.
+ *
+ * DAOs define their hot statements once as static constants and prepare
+ * them through {@link Query#prepare(Connection)}. Because the text is always
+ * identical, pgJDBC's per-connection statement cache (see the DB_PREPARE_*
+ * settings in {@link DatabaseConnection}) turns them into server-side
+ * prepared statements, so repeated calls skip parse and plan.
+ * {@link QueryMetrics} reports executions of a catalogued statement under
+ * its name.
+ */
+public final class SqlCatalog {
+
+    private static final Map<String, Query> QUERIES = new ConcurrentHashMap<>();
+    // First name defined for each SQL text
+    private static final Map<String, String> NAMES_BY_SQL = new ConcurrentHashMap<>();
+
+    private SqlCatalog() {
+    }
+
+    /**
+     * Register a statement.
+     *
+     * @param name e.g. "StudentDAO.getStudentByUserId"
+     * @throws IllegalStateException if the name is already used for different SQL
+     */
+    public static Query define(String name, String sql) {
+        Query query = QUERIES.computeIfAbsent(name, n -> new Query(n, sql));
+        if (!query.sql.equals(sql)) {
+            throw new IllegalStateException("SQL catalog name " + name + " is already defined with different SQL");
+        }
+        NAMES_BY_SQL.putIfAbsent(sql, name);
+        return query;
+    }
+
+    /**
+     * Name of a registered statement, or null if sql is not in the catalog
+     */
+    public static String nameOf(String sql) {
+        return sql == null ? null : NAMES_BY_SQL.get(sql);
+    }
+
+    /**
+     * All registered statements, by name
+     */
+    public static List<Query> getQueries() {
+        List<Query> queries = new ArrayList<>(QUERIES.values());
+        queries.sort(Comparator.comparing(Query::getName));
+        return queries;
+    }
+
+    /**
+     * A named statement
+     */
+    public static final class Query {
+        private final String name;
+        private final String sql;
+
+        private Query(String name, String sql) {
+            this.name = name;
+            this.sql = sql;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public PreparedStatement prepare(Connection conn) throws SQLException {
+            return conn.prepareStatement(sql);
+        }
+
+        /**
+         * @see Connection#prepareStatement(String, int)
+         */
+        public PreparedStatement prepare(Connection conn, int autoGeneratedKeys) throws SQLException {
+            return conn.prepareStatement(sql, autoGeneratedKeys);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.college.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON serializer that writes straight to a stream.
+ *
+ * The field layout of each model class is resolved once into a cached plan of
+ * MethodHandle getters, so serializing a list of thousands of students costs
+ * no reflection lookups and no intermediate Strings. Output matches
+ * {@link JsonHelper#toJson(Object)}: declared instance fields in order, dates
+ * as quoted toString values.
+ */
+public final class StreamingJsonSerializer {
+
+    private static final int MAX_DEPTH = 32;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ClassValue<FieldWriter[]> PLANS = new ClassValue<>() {
+        @Override
+        protected FieldWriter[] computeValue(Class<?> type) {
+            return buildPlan(type);
+        }
+    };
+
+    private StreamingJsonSerializer() {
+    }
+
+    /**
+     * Serialize value as UTF-8 into the stream. The stream is flushed but not closed.
+     */
+    public static void write(Object value, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        write(value, writer);
+        writer.flush();
+    }
+
+    public static void write(Object value, Writer out) throws IOException {
+        writeValue(value, out, 0);
+    }
+
+    public static String toJson(Object value) {
+        StringWriter sw = new StringWriter();
+        try {
+            write(value, sw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sw.toString();
+    }
+
+    private static void writeValue(Object value, Writer out, int depth) throws IOException {
+        if (value == null || depth > MAX_DEPTH) {
+            out.write("null");
+        } else if (value instanceof String s) {
+            writeString(s, out);
+        } else if (value instanceof Double d) {
+            writeDouble(d, out);
+        } else if (value instanceof Float f) {
+            writeFloat(f, out);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof java.util.Date || value instanceof TemporalAccessor
+                || value instanceof Character) {
+            writeString(value.toString(), out);
+        } else if (value instanceof Enum<?> e) {
+            writeString(e.name(), out);
+        } else if (value instanceof Collection<?> c) {
+            out.write('[');
+            boolean first = true;
+            for (Object item : c) {
+                if (!first)
+                    out.write(',');
+                writeValue(item, out, depth + 1);
+                first = false;
+            }
+            out.write(']');
+        } else if (value instanceof Map<?, ?> m) {
+            out.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : m.entrySet()) {
+                if (!first)
+                    out.write(',');
+                writeString(String.valueOf(entry.getKey()), out);
+                out.write(':');
+                writeValue(entry.getValue(), out, depth + 1);
+                first = false;
+            }
+            out.write('}');
+        } else if (value.getClass().getName().startsWith("java.")) {
+            // JDK internals are not open for field access
+            writeString(value.toString(), out);
+        } else {
+            writeObject(value, out, depth);
+        }
+    }
+
+    private static void writeObject(Object value, Writer out, int depth) throws IOException {
+        FieldWriter[] plan = PLANS.get(value.getClass());
+        out.write('{');
+        for (int i = 0; i < plan.length; i++) {
+            if (i > 0)
+                out.write(',');
+            plan[i].write(value, out, depth);
+        }
+        out.write('}');
+    }
+
+    private static void writeDouble(double d, Writer out) throws IOException {
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            out.write("null");
+        } else {
+            out.write(Double.toString(d));
+        }
+    }
+
+    private static void writeFloat(float f, Writer out) throws IOException {
+        if (Float.isNaN(f) || Float.isInfinite(f)) {
+            out.write("null");
+        } else {
+            out.write(Float.toString(f));
+        }
+    }
+
+    static void writeString(String s, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            String escaped;
+            if (c == '"') {
+                escaped = "\\\"";
+            } else if (c == '\\') {
+                escaped = "\\\\";
+            } else if (c == '\n') {
+                escaped = "\\n";
+            } else if (c == '\r') {
+                escaped = "\\r";
+            } else if (c == '\t') {
+                escaped = "\\t";
+            } else if (c < 0x20) {
+                escaped = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            out.write(s, start, i - start);
+            out.write(escaped);
+            start = i + 1;
+        }
+        out.write(s, start, len - start);
+        out.write('"');
+    }
+
+    private static FieldWriter[] buildPlan(Class<?> type) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot serialize " + type.getName(), e);
+        }
+
+        List<FieldWriter> writers = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+                continue;
+            try {
+                writers.add(FieldWriter.of(field, lookup.unreflectGetter(field)));
+            } catch (IllegalAccessException e) {
+                Logger.warn("Skipping inaccessible field " + type.getSimpleName() + "." + field.getName());
+            }
+        }
+        return writers.toArray(new FieldWriter[0]);
+    }
+
+    /**
+     * Pre-resolved getter for one field, with the "name": prefix already built.
+     * Primitive fields are read through exactly-typed handles to avoid boxing.
+     */
+    private static final class FieldWriter {
+        private final String prefix;
+        private final Class<?> type;
+        private final MethodHandle getter;
+
+        private FieldWriter(String prefix, Class<?> type, MethodHandle getter) {
+            this.prefix = prefix;
+            this.type = type;
+            this.getter = getter;
+        }
+
+        static FieldWriter of(Field field, MethodHandle getter) {
+            Class<?> type = field.getType();
+            Class<?> returnType = type.isPrimitive() ? type : Object.class;
+            MethodHandle adapted = getter.asType(MethodType.methodType(returnType, Object.class));
+            return new FieldWriter("\"" + field.getName() + "\":", type, adapted);
+        }
+
+        void write(Object target, Writer out, int depth) throws IOException {
+            out.write(prefix);
+            try {
+                if (type == int.class) {
+                    out.write(Integer.toString((int) getter.invokeExact(target)));
+                } else if (type == double.class) {
+                    writeDouble((double) getter.invokeExact(target), out);
+                } else if (type == boolean.class) {
+                    out.write((boolean) getter.invokeExact(target) ? "true" : "false");
+                } else if (type == long.class) {
+                    out.write(Long.toString((long) getter.invokeExact(target)));
+                } else if (type == float.class) {
+                    writeFloat((float) getter.invokeExact(target), out);
+                } else if (type == short.class) {
+                    out.write(Short.toString((short) getter.invokeExact(target)));
+                } else if (type == byte.class) {
+                    out.write(Byte.toString((byte) getter.invokeExact(target)));
+                } else if (type == char.class) {
+                    writeString(String.valueOf((char) getter.invokeExact(target)), out);
+                } else {
+                    writeValue((Object) getter.invokeExact(target), out, depth + 1);
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
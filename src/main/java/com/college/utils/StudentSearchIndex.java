@@ -0,0 +1,188 @@
+package com.college.utils;
+
+import com.college.models.Student;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable substring index over student names and enrollment IDs
+ * (usernames).
+ *
+ * Keys are lower-cased once at build time and every 3-character gram maps
+ * to the sorted positions of the students containing it. A query of three
+ * or more characters intersects the posting lists of its grams and checks
+ * only the surviving candidates; shorter queries scan the pre-lowered keys.
+ * Results are ranked (exact ID, ID prefix, name or word prefix, anywhere)
+ * and capped, keeping the original order within a rank.
+ */
+public final class StudentSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int RANKS = 4;
+
+    private final List<Student> students;
+    private final String[] names;
+    private final String[] ids;
+    private final Map<String, int[]> postings;
+
+    public StudentSearchIndex(List<Student> students) {
+        this.students = List.copyOf(students);
+        int n = this.students.size();
+        names = new String[n];
+        ids = new String[n];
+
+        Map<String, IntList> grams = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Student s = this.students.get(i);
+            names[i] = lower(s.getName());
+            ids[i] = lower(s.getUsername());
+            addGrams(grams, names[i], i);
+            addGrams(grams, ids[i], i);
+        }
+        postings = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<String, IntList> e : grams.entrySet()) {
+            postings.put(e.getKey(), e.getValue().toArray());
+        }
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    /**
+     * Students whose name or enrollment ID contains the query, best matches
+     * first, at most limit results. A blank query matches everyone.
+     */
+    public List<Student> search(String query, int limit) {
+        String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty()) {
+            return students.size() <= limit ? students : students.subList(0, limit);
+        }
+
+        List<List<Student>> ranked = new ArrayList<>(RANKS);
+        for (int r = 0; r < RANKS; r++) {
+            ranked.add(new ArrayList<>());
+        }
+        if (q.length() < GRAM) {
+            for (int i = 0; i < students.size(); i++) {
+                collect(ranked, i, q, limit);
+            }
+        } else {
+            for (int i : candidates(q)) {
+                collect(ranked, i, q, limit);
+            }
+        }
+
+        List<Student> results = new ArrayList<>(limit);
+        for (List<Student> rank : ranked) {
+            for (Student s : rank) {
+                if (results.size() == limit) {
+                    return results;
+                }
+                results.add(s);
+            }
+        }
+        return results;
+    }
+
+    private void collect(List<List<Student>> ranked, int i, String q, int limit) {
+        int rank = rank(names[i], ids[i], q);
+        if (rank >= 0 && ranked.get(rank).size() < limit) {
+            ranked.get(rank).add(students.get(i));
+        }
+    }
+
+    // 0 = exact ID, 1 = ID prefix, 2 = name or name-word prefix, 3 = anywhere, -1 = no match
+    private static int rank(String name, String id, String q) {
+        if (id.equals(q)) {
+            return 0;
+        }
+        if (id.startsWith(q)) {
+            return 1;
+        }
+        int at = name.indexOf(q);
+        if (at < 0) {
+            return id.contains(q) ? 3 : -1;
+        }
+        for (; at >= 0; at = name.indexOf(q, at + 1)) {
+            if (at == 0 || name.charAt(at - 1) == ' ') {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    /**
+     * Positions that contain every gram of q, ascending
+     */
+    private int[] candidates(String q) {
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            int[] list = postings.get(q.substring(i, i + GRAM));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0);
+        for (int l = 1; l < lists.size() && result.length > 0; l++) {
+            result = intersect(result, lists.get(l));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static void addGrams(Map<String, IntList> grams, String key, int position) {
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            grams.computeIfAbsent(key.substring(i, i + GRAM), g -> new IntList()).addOnce(position);
+        }
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable sorted int list; positions arrive in ascending order
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addOnce(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.college.utils;
+
+import com.college.dao.TimetableDAO;
+import com.college.models.Timetable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of the timetable for conflict and availability checks.
+ *
+ * The whole timetable table is loaded once and kept as one bitset per room,
+ * faculty member, subject and department/semester group: a long per day,
+ * with one bit per time slot. "Is room X free on Monday 9:00?" is a single
+ * bit test, and a faculty/subject clash is an AND of two bitsets.
+ *
+ * TimetableDAO updates the index after saving, deleting or clearing entries.
+ * A TTL (TIMETABLE_INDEX_TTL_SECONDS, default 300) picks up changes made by
+ * other application instances.
+ */
+public class TimetableIndex {
+
+    private static final String[] DAYS = { "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday",
+            "Sunday" };
+    private static final int MAX_SLOTS = Long.SIZE;
+
+    private static TimetableIndex instance;
+
+    private final long ttlNanos;
+    private TimetableDAO timetableDAO;
+
+    // All guarded by this
+    private boolean loaded;
+    private long loadedAt;
+    private final Map<Integer, Timetable> entries = new HashMap<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<String, long[]> rooms = new TreeMap<>();
+    private final Map<String, long[]> faculty = new HashMap<>();
+    private final Map<String, long[]> subjects = new HashMap<>();
+    private final Map<String, long[]> groups = new HashMap<>();
+    // Entries per "kind|key|day|slot" cell, so a bit is cleared only when its last entry goes
+    private final Map<String, List<Timetable>> cells = new HashMap<>();
+
+    TimetableIndex(TimetableDAO timetableDAO, long ttlNanos) {
+        this.timetableDAO = timetableDAO;
+        this.ttlNanos = ttlNanos;
+    }
+
+    public static synchronized TimetableIndex getInstance() {
+        if (instance == null) {
+            instance = new TimetableIndex(null,
+                    TimeUnit.SECONDS.toNanos(EnvConfig.getInt("TIMETABLE_INDEX_TTL_SECONDS", 300)));
+        }
+        return instance;
+    }
+
+    /**
+     * Rooms that appear in the timetable, sorted
+     */
+    public synchronized List<String> getRooms() {
+        ensureLoaded();
+        return new ArrayList<>(rooms.keySet());
+    }
+
+    /**
+     * Copies of every indexed entry
+     */
+    public synchronized List<Timetable> getEntries() {
+        ensureLoaded();
+        List<Timetable> all = new ArrayList<>(entries.size());
+        for (Timetable entry : entries.values()) {
+            all.add(copy(entry));
+        }
+        return all;
+    }
+
+    /**
+     * Rooms booked on a day and time slot, sorted
+     */
+    public synchronized List<String> getOccupiedRooms(String day, String timeSlot) {
+        ensureLoaded();
+        List<String> occupied = new ArrayList<>();
+        int d = dayIndex(day);
+        Integer s = slots.get(timeSlot);
+        if (d < 0 || s == null) {
+            return occupied;
+        }
+        long mask = 1L << s;
+        for (Map.Entry<String, long[]> room : rooms.entrySet()) {
+            if ((room.getValue()[d] & mask) != 0) {
+                occupied.add(room.getKey());
+            }
+        }
+        return occupied;
+    }
+
+    public synchronized boolean isRoomBooked(String room, String day, String timeSlot) {
+        ensureLoaded();
+        return isSet(rooms, room, day, timeSlot);
+    }
+
+    public synchronized boolean isFacultyBooked(String facultyName, String day, String timeSlot) {
+        ensureLoaded();
+        return isSet(faculty, facultyName, day, timeSlot);
+    }
+
+    public synchronized boolean isGroupBooked(String department, int semester, String day, String timeSlot) {
+        ensureLoaded();
+        return isSet(groups, groupKey(department, semester), day, timeSlot);
+    }
+
+    /**
+     * Whether a room is booked for a semester at a day and slot by an entry
+     * other than excludeId
+     */
+    public synchronized boolean isRoomBooked(String room, String day, String timeSlot, int semester,
+            int excludeId) {
+        ensureLoaded();
+        if (!isSet(rooms, room, day, timeSlot)) {
+            return false;
+        }
+        for (Timetable occupant : cells.get(cellKey("R", room, dayIndex(day), timeSlot))) {
+            if (occupant.getSemester() == semester && occupant.getId() != excludeId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An entry of another department/semester that already uses the proposed
+     * entry's room at the same time, or null. Entries of the proposed entry's
+     * own group are ignored because saving replaces them.
+     */
+    public synchronized Timetable findRoomConflict(Timetable proposed) {
+        ensureLoaded();
+        return findConflict("R", rooms, proposed.getRoomNumber(), proposed);
+    }
+
+    /**
+     * An entry of another department/semester that the proposed entry's
+     * faculty member already teaches at the same time, or null
+     */
+    public synchronized Timetable findFacultyConflict(Timetable proposed) {
+        ensureLoaded();
+        return findConflict("F", faculty, proposed.getFacultyName(), proposed);
+    }
+
+    /**
+     * The first entry of a faculty member that falls in a slot where the
+     * subject is also scheduled, or null
+     */
+    public synchronized Timetable findFacultySubjectClash(String facultyName, String subject) {
+        ensureLoaded();
+        long[] f = facultyName == null ? null : faculty.get(facultyName);
+        long[] s = subject == null ? null : subjects.get(subject);
+        if (f == null || s == null) {
+            return null;
+        }
+        for (int d = 0; d < DAYS.length; d++) {
+            long both = f[d] & s[d];
+            if (both != 0) {
+                String slot = slotName(Long.numberOfTrailingZeros(both));
+                return cells.get(cellKey("F", facultyName, d, slot)).get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record a saved entry, replacing the entry of the same group, day and slot
+     */
+    public synchronized void onSaved(Timetable entry) {
+        if (!loaded) {
+            return;
+        }
+        Timetable previous = entries.get(entry.getId());
+        if (previous != null) {
+            remove(previous);
+        }
+        // The upsert replaced whatever the group had in this slot
+        List<Timetable> sameSlot = cells.get(cellKey("G", groupKey(entry.getDepartment(), entry.getSemester()),
+                dayIndex(entry.getDayOfWeek()), entry.getTimeSlot()));
+        if (sameSlot != null) {
+            for (Timetable existing : new ArrayList<>(sameSlot)) {
+                remove(existing);
+            }
+        }
+        add(copy(entry));
+    }
+
+    public synchronized void onDeleted(int id) {
+        Timetable existing = entries.get(id);
+        if (existing != null) {
+            remove(existing);
+        }
+    }
+
+    public synchronized void onCleared(String department, int semester) {
+        for (Timetable existing : new ArrayList<>(entries.values())) {
+            if (semester == existing.getSemester() && equal(department, existing.getDepartment())) {
+                remove(existing);
+            }
+        }
+    }
+
+    /**
+     * Drop the index so the next call reloads it
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    private void ensureLoaded() {
+        if (loaded && System.nanoTime() - loadedAt <= ttlNanos) {
+            return;
+        }
+        if (timetableDAO == null) {
+            timetableDAO = new TimetableDAO();
+        }
+        List<Timetable> all = timetableDAO.getAllEntries();
+        if (all == null) {
+            // Keep serving the previous index rather than an empty one
+            return;
+        }
+        load(all);
+    }
+
+    void load(List<Timetable> all) {
+        entries.clear();
+        slots.clear();
+        rooms.clear();
+        faculty.clear();
+        subjects.clear();
+        groups.clear();
+        cells.clear();
+        for (Timetable entry : all) {
+            add(copy(entry));
+        }
+        loaded = true;
+        loadedAt = System.nanoTime();
+    }
+
+    private void add(Timetable entry) {
+        int d = dayIndex(entry.getDayOfWeek());
+        Integer s = slotIndex(entry.getTimeSlot());
+        if (d < 0 || s == null) {
+            Logger.warn("Timetable entry " + entry.getId() + " has an unindexable day/slot: "
+                    + entry.getDayOfWeek() + " " + entry.getTimeSlot());
+            return;
+        }
+        entries.put(entry.getId(), entry);
+        set("R", rooms, entry.getRoomNumber(), d, s, entry);
+        set("F", faculty, entry.getFacultyName(), d, s, entry);
+        set("S", subjects, entry.getSubject(), d, s, entry);
+        set("G", groups, groupKey(entry.getDepartment(), entry.getSemester()), d, s, entry);
+    }
+
+    private void remove(Timetable entry) {
+        entries.remove(entry.getId());
+        int d = dayIndex(entry.getDayOfWeek());
+        Integer s = slots.get(entry.getTimeSlot());
+        if (d < 0 || s == null) {
+            return;
+        }
+        clear("R", rooms, entry.getRoomNumber(), d, s, entry);
+        clear("F", faculty, entry.getFacultyName(), d, s, entry);
+        clear("S", subjects, entry.getSubject(), d, s, entry);
+        clear("G", groups, groupKey(entry.getDepartment(), entry.getSemester()), d, s, entry);
+    }
+
+    private void set(String kind, Map<String, long[]> index, String key, int day, int slot, Timetable entry) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        index.computeIfAbsent(key, k -> new long[DAYS.length])[day] |= 1L << slot;
+        cells.computeIfAbsent(cellKey(kind, key, day, entry.getTimeSlot()), k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void clear(String kind, Map<String, long[]> index, String key, int day, int slot, Timetable entry) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        String cellKey = cellKey(kind, key, day, entry.getTimeSlot());
+        List<Timetable> occupants = cells.get(cellKey);
+        if (occupants == null || !occupants.remove(entry) || !occupants.isEmpty()) {
+            return;
+        }
+        cells.remove(cellKey);
+        long[] bits = index.get(key);
+        bits[day] &= ~(1L << slot);
+        for (long b : bits) {
+            if (b != 0) {
+                return;
+            }
+        }
+        index.remove(key);
+    }
+
+    private boolean isSet(Map<String, long[]> index, String key, String day, String timeSlot) {
+        long[] bits = key == null ? null : index.get(key);
+        int d = dayIndex(day);
+        Integer s = slots.get(timeSlot);
+        return bits != null && d >= 0 && s != null && (bits[d] & (1L << s)) != 0;
+    }
+
+    private Timetable findConflict(String kind, Map<String, long[]> index, String key, Timetable proposed) {
+        int d = dayIndex(proposed.getDayOfWeek());
+        if (!isSet(index, key, proposed.getDayOfWeek(), proposed.getTimeSlot())) {
+            return null;
+        }
+        for (Timetable occupant : cells.get(cellKey(kind, key, d, proposed.getTimeSlot()))) {
+            if (occupant.getSemester() != proposed.getSemester()
+                    || !equal(occupant.getDepartment(), proposed.getDepartment())) {
+                return occupant;
+            }
+        }
+        return null;
+    }
+
+    private Integer slotIndex(String timeSlot) {
+        if (timeSlot == null) {
+            return null;
+        }
+        Integer s = slots.get(timeSlot);
+        if (s == null && slots.size() < MAX_SLOTS) {
+            s = slots.size();
+            slots.put(timeSlot, s);
+        }
+        return s;
+    }
+
+    private String slotName(int index) {
+        for (Map.Entry<String, Integer> slot : slots.entrySet()) {
+            if (slot.getValue() == index) {
+                return slot.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static int dayIndex(String day) {
+        for (int i = 0; i < DAYS.length; i++) {
+            if (DAYS[i].equalsIgnoreCase(day)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean equal(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static String groupKey(String department, int semester) {
+        return department == null ? null : department + "|" + semester;
+    }
+
+    private static String cellKey(String kind, String key, int day, String timeSlot) {
+        return kind + "|" + key + "|" + day + "|" + timeSlot;
+    }
+
+    private static Timetable copy(Timetable entry) {
+        Timetable copy = new Timetable(entry.getDepartment(), entry.getSemester(), entry.getDayOfWeek(),
+                entry.getTimeSlot(), entry.getSubject(), entry.getFacultyName(), entry.getRoomNumber());
+        copy.setId(entry.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,170 @@
+package com.college.utils;
+
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableView;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executor for view data loading.
+ *
+ * Tasks run on virtual threads so slow remote queries never block the JavaFX
+ * thread. Each task is registered under an owner (the view) and a key:
+ * <ul>
+ * <li>submitting a key that is already running is coalesced into the running
+ * task (repeated refresh clicks cost one query);</li>
+ * <li>{@link #cancelAll(Object)} cancels everything an owner started, which
+ * DashboardView calls when the user navigates away. Cancelled tasks never fire
+ * their onSucceeded handler.</li>
+ * </ul>
+ * Cancelling does not interrupt the worker: an interrupt during a pgJDBC socket
+ * read closes the socket and with it the pooled connection. The query runs to
+ * completion and its result is dropped.
+ * Failures are always logged; views add their own onFailed handler for UI feedback.
+ */
+public class ViewTaskExecutor {
+
+    private static ViewTaskExecutor instance;
+
+    private final ExecutorService executor = Executors
+            .newThreadPerTaskExecutor(Thread.ofVirtual().name("view-task-", 0).factory());
+    private final Map<Object, Map<String, Task<?>>> running = new ConcurrentHashMap<>();
+
+    private ViewTaskExecutor() {
+    }
+
+    public static synchronized ViewTaskExecutor getInstance() {
+        if (instance == null) {
+            instance = new ViewTaskExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * Wrap a DAO call in a Task
+     */
+    public static <T> Task<T> task(Callable<T> work) {
+        return new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+    }
+
+    /**
+     * Run a task for a view. If the same owner/key is still running, the new
+     * task is dropped and the running one is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Task<T> submit(Object owner, String key, Task<T> task) {
+        Map<String, Task<?>> tasks = running.computeIfAbsent(owner, o -> new ConcurrentHashMap<>());
+        Task<?> existing = tasks.putIfAbsent(key, task);
+        if (existing != null && !existing.isDone()) {
+            return (Task<T>) existing;
+        }
+        if (existing != null) {
+            tasks.put(key, task);
+        }
+        start(owner, key, task);
+        return task;
+    }
+
+    /**
+     * Run a task for a view, cancelling any running task with the same key.
+     * Use when the request parameters changed (e.g. a new filter value).
+     */
+    public <T> Task<T> submitLatest(Object owner, String key, Task<T> task) {
+        Map<String, Task<?>> tasks = running.computeIfAbsent(owner, o -> new ConcurrentHashMap<>());
+        Task<?> previous = tasks.put(key, task);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        start(owner, key, task);
+        return task;
+    }
+
+    /**
+     * Run a task while showing a modal {@link LoadingSpinner}
+     */
+    public <T> Task<T> submitWithSpinner(Object owner, String key, Task<T> task, String message) {
+        LoadingSpinner spinner = new LoadingSpinner(message);
+        spinner.show();
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> spinner.close());
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> spinner.close());
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, e -> spinner.close());
+        return submit(owner, key, task);
+    }
+
+    /**
+     * Show "Loading..." / error placeholders on a table while the task runs
+     */
+    public static void bindPlaceholder(TableView<?> table, Task<?> task, String loadingText, String emptyText) {
+        table.setPlaceholder(new Label(loadingText));
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED,
+                e -> table.setPlaceholder(new Label(emptyText)));
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED,
+                e -> table.setPlaceholder(new Label("Error loading data.")));
+    }
+
+    /**
+     * Cancel every task started by the owner
+     */
+    public void cancelAll(Object owner) {
+        if (owner == null)
+            return;
+        Map<String, Task<?>> tasks = running.remove(owner);
+        if (tasks != null) {
+            tasks.values().forEach(t -> t.cancel(false));
+        }
+    }
+
+    /**
+     * Cancel one task of an owner
+     */
+    public void cancel(Object owner, String key) {
+        Map<String, Task<?>> tasks = running.get(owner);
+        if (tasks != null) {
+            Task<?> task = tasks.remove(key);
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private void start(Object owner, String key, Task<?> task) {
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> {
+            Throwable ex = task.getException();
+            Logger.error("Background task '" + key + "' failed"
+                    + (ex != null ? ": " + ex.getMessage() : ""));
+        });
+        Runnable cleanup = () -> {
+            Map<String, Task<?>> tasks = running.get(owner);
+            if (tasks != null) {
+                tasks.remove(key, task);
+                if (tasks.isEmpty()) {
+                    running.remove(owner, tasks);
+                }
+            }
+        };
+        // A result can still arrive after cancel(false) or after the key was
+        // resubmitted; drop it before any onSucceeded handler sees it
+        task.addEventFilter(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> {
+            Map<String, Task<?>> tasks = running.get(owner);
+            if (task.isCancelled() || tasks == null || tasks.get(key) != task) {
+                e.consume();
+            }
+        });
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> cleanup.run());
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> cleanup.run());
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, e -> cleanup.run());
+
+        executor.execute(task);
+    }
+}
@@ -0,0 +1,3 @@
+-- V48: Composite index backing keyset pagination on /students
+-- (ORDER BY name, id with WHERE (name, id) > (?, ?))
+CREATE INDEX IF NOT EXISTS idx_students_name_id ON students(name, id);
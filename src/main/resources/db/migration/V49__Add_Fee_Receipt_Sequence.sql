@@ -0,0 +1,14 @@
+-- V49: Sequence backing fee receipt numbers (RCP000001, RCP000002, ...)
+-- replaces the MAX(receipt_number) scan done for every payment.
+CREATE SEQUENCE IF NOT EXISTS fee_receipt_seq;
+
+-- Start after the highest receipt already issued. Only ever moves the
+-- sequence forward, so re-running while the app is live is safe.
+SELECT setval('fee_receipt_seq', x.max_num)
+FROM (
+    SELECT COALESCE(MAX(CAST(SUBSTRING(receipt_number FROM 4) AS BIGINT)), 0) AS max_num
+    FROM fee_payments
+    WHERE receipt_number ~ '^RCP[0-9]+$'
+) x
+WHERE x.max_num > 0
+  AND x.max_num >= (SELECT last_value FROM fee_receipt_seq);
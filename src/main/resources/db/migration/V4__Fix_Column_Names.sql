@@ -1,8 +1,13 @@
 -- V4 Fix Faculty Column and Add Department Columns
 
 -- 1. Rename joining_date to join_date (Faculty)
--- Using simple SQL assuming state is clean from V1
-ALTER TABLE faculty RENAME COLUMN joining_date TO join_date;
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'faculty' AND column_name = 'joining_date') THEN
+        ALTER TABLE faculty RENAME COLUMN joining_date TO join_date;
+    END IF;
+END $$;
 
 -- 2. Add description, head_of_department, timestamps to departments
 ALTER TABLE departments ADD COLUMN IF NOT EXISTS description TEXT;
@@ -0,0 +1,8 @@
+-- V50: Block-allocated counters for generated usernames
+-- (student enrollment numbers per department/year, faculty IDs).
+-- Rows are created on first use, seeded from the highest existing username.
+CREATE TABLE IF NOT EXISTS id_counters (
+    scope VARCHAR(40) PRIMARY KEY,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
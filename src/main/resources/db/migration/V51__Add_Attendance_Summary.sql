@@ -0,0 +1,23 @@
+-- V51: Per-(student, course) attendance counters maintained by AttendanceDAO
+-- so percentage and low-attendance queries no longer aggregate attendance.
+CREATE TABLE IF NOT EXISTS attendance_summary (
+    student_id INTEGER NOT NULL REFERENCES students(id) ON DELETE CASCADE,
+    course_id INTEGER NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    present_count INTEGER NOT NULL DEFAULT 0,
+    total_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (student_id, course_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attendance_summary_course ON attendance_summary(course_id);
+
+-- Initial backfill (only while the table is empty; use
+-- AttendanceDAO.rebuildAttendanceSummary() to recompute later)
+INSERT INTO attendance_summary (student_id, course_id, present_count, total_count)
+SELECT student_id, course_id,
+       COUNT(*) FILTER (WHERE status = 'PRESENT'),
+       COUNT(*)
+FROM attendance
+WHERE student_id IS NOT NULL AND course_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM attendance_summary)
+GROUP BY student_id, course_id;
@@ -0,0 +1,18 @@
+-- V52: Trigram indexes so ILIKE '%keyword%' searches (SearchDAO, StudentDAO,
+-- EnhancedFeeDAO) use index scans instead of reading whole tables.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_students_name_trgm ON students USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_trgm ON students USING gin (email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (username gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_faculty_name_trgm ON faculty USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_faculty_email_trgm ON faculty USING gin (email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING gin (author gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_isbn_trgm ON books USING gin (isbn gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_fee_payments_receipt_trgm ON fee_payments USING gin (receipt_number gin_trgm_ops);
+
+-- Joins used to map matching students back to their rows
+CREATE INDEX IF NOT EXISTS idx_students_user_id ON students(user_id);
+CREATE INDEX IF NOT EXISTS idx_student_fees_student ON student_fees(student_id);
+CREATE INDEX IF NOT EXISTS idx_fee_payments_student_fee ON fee_payments(student_fee_id);
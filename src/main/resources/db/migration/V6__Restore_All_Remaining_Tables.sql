@@ -67,8 +67,15 @@ CREATE TABLE IF NOT EXISTS timetable (
 );
 
 -- 6. Recreate Notifications to match DAO
-DROP TABLE IF EXISTS notifications;
-CREATE TABLE notifications (
+-- (only when the old layout is still in place, so re-running keeps data)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'notifications' AND column_name = 'recipient_user_id') THEN
+        DROP TABLE IF EXISTS notifications;
+    END IF;
+END $$;
+CREATE TABLE IF NOT EXISTS notifications (
     id SERIAL PRIMARY KEY,
     recipient_user_id INTEGER REFERENCES users(id) ON DELETE CASCADE,
     recipient_contact VARCHAR(100),
@@ -1,11 +1,10 @@
--- V7 Fix Runtime Schema Issues and Constraints
+-- V7.1 Fix Runtime Schema Issues and Constraints
+-- (was a second V7 file; renumbered so every migration has its own version)
 
 -- 1. Add Unique Constraints for Upsert operations (required for ON CONFLICT)
--- Using DO NOTHING to avoid errors if constraint already exists (Postgres doesn't support IF NOT EXISTS for constraints directly in simple syntax, so we wrap or just assume)
--- Better: Try to add, if fails (duplicate), it's fine. But for migration safety, we can use an anonymous block or just allow it to fail if applied manually. 
--- Since this is managed migration, we assume it runs once.
-
+ALTER TABLE grades DROP CONSTRAINT IF EXISTS unique_grade_entry;
 ALTER TABLE grades ADD CONSTRAINT unique_grade_entry UNIQUE (student_id, course_id, exam_type);
+ALTER TABLE attendance DROP CONSTRAINT IF EXISTS unique_attendance_entry;
 ALTER TABLE attendance ADD CONSTRAINT unique_attendance_entry UNIQUE (student_id, course_id, date);
 
 -- 2. Update Courses Table
@@ -12,7 +12,7 @@ public class ConnectionTest {
 
                 // Run Migration
                 System.out.println("Running Migration...");
-                com.college.utils.DatabaseMigrator.migrate();
+                com.college.utils.MigrationRunner.runMigrations();
 
                 // Test Query
                 System.out.println("Verifying Schema...");
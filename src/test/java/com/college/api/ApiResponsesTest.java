@@ -0,0 +1,53 @@
+package com.college.api;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApiResponsesTest {
+
+    @Test
+    void testFailedSerializationAbortsInsteadOfSending500() throws Exception {
+        HttpExchange t = exchange();
+        OutputStream body = mock(OutputStream.class);
+        when(t.getResponseBody()).thenReturn(body);
+        doThrow(new IOException("client went away")).when(body).write(any(byte[].class), anyInt(), anyInt());
+
+        IOException e = assertThrows(IOException.class, () -> ApiResponses.sendJson(t, 200, List.of("x")));
+        when(t.getResponseCode()).thenReturn(200);
+        assertThrows(IOException.class, () -> ApiResponses.sendServerError(t, e));
+
+        verify(t, times(1)).sendResponseHeaders(anyInt(), anyLong());
+        verify(body, never()).close();
+    }
+
+    @Test
+    void testServerErrorBeforeResponseStarted() throws Exception {
+        HttpExchange t = exchange();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        when(t.getResponseBody()).thenReturn(body);
+        when(t.getResponseCode()).thenReturn(-1);
+
+        ApiResponses.sendServerError(t, new IllegalStateException("boom"));
+
+        verify(t).sendResponseHeaders(eq(500), anyLong());
+        assertEquals("{\"error\":\"boom\"}", body.toString());
+    }
+
+    private static HttpExchange exchange() {
+        HttpExchange t = mock(HttpExchange.class);
+        when(t.getResponseHeaders()).thenReturn(new Headers());
+        when(t.getRequestURI()).thenReturn(URI.create("/students"));
+        return t;
+    }
+}
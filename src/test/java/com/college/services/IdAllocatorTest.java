@@ -0,0 +1,48 @@
+package com.college.services;
+
+import com.college.dao.IdCounterDAO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdAllocatorTest {
+
+    @Test
+    void testServesIdsFromCachedBlock() {
+        IdCounterDAO dao = mock(IdCounterDAO.class);
+        when(dao.reserveBlock("CS2025", "CS2025", 3)).thenReturn(41L, 44L);
+        IdAllocator allocator = new IdAllocator(dao, 3);
+
+        assertEquals("CS2025041", allocator.next("CS2025"));
+        assertEquals("CS2025042", allocator.next("CS2025"));
+        assertEquals("CS2025043", allocator.next("CS2025"));
+        assertEquals("CS2025044", allocator.next("CS2025"));
+
+        verify(dao, times(2)).reserveBlock(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void testLargeReservationGetsDedicatedRange() {
+        IdCounterDAO dao = mock(IdCounterDAO.class);
+        when(dao.reserveBlock("FAC", "FAC", 5)).thenReturn(1000L);
+        IdAllocator allocator = new IdAllocator(dao, 2);
+
+        List<String> ids = allocator.reserve("FAC", 5);
+
+        assertEquals(List.of("FAC1000", "FAC1001", "FAC1002", "FAC1003", "FAC1004"), ids);
+    }
+
+    @Test
+    void testFailedReservationReturnsNull() {
+        IdCounterDAO dao = mock(IdCounterDAO.class);
+        when(dao.reserveBlock(anyString(), anyString(), anyInt())).thenReturn(-1L);
+        IdAllocator allocator = new IdAllocator(dao, 10);
+
+        assertNull(allocator.next("EE2025"));
+        assertTrue(allocator.reserve("EE2025", 50).isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package com.college.services;
+
+import com.college.dao.SearchDAO;
+import com.college.models.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchServiceTest {
+
+    private final SearchDAO searchDAO = mock(SearchDAO.class);
+    private final SearchService service = new SearchService(searchDAO);
+
+    @Test
+    void testPagesAndFacets() {
+        when(searchDAO.countByType("%Rao%")).thenReturn(Map.of(SearchDAO.STUDENT, 30, SearchDAO.FACULTY, 2));
+        when(searchDAO.search(eq("rao"), eq("%Rao%"), anyList(), eq(10), eq(10)))
+                .thenReturn(List.of(new SearchResult(SearchDAO.STUDENT, 7, "Sharmila Rao", "EE2021001", 0.5)));
+
+        SearchService.SearchPage page = service.search("  Rao ", List.of(SearchDAO.STUDENT), 2, 10);
+
+        assertEquals(30, page.getTotal());
+        assertEquals(2, page.getFacets().get(SearchDAO.FACULTY));
+        assertEquals(1, page.getResults().size());
+        assertTrue(page.hasMore());
+        verify(searchDAO).search("rao", "%Rao%", List.of(SearchDAO.STUDENT), 10, 10);
+    }
+
+    @Test
+    void testSkipsQueriesThatCannotMatch() {
+        assertEquals(0, service.search("a", null, 1, 10).getTotal());
+        // Shorter than one trigram once trimmed
+        assertEquals(0, service.search(" ab ", null, 1, 10).getTotal());
+        verifyNoInteractions(searchDAO);
+
+        // Past the last hit: facets only
+        when(searchDAO.countByType(anyString())).thenReturn(Map.of(SearchDAO.BOOK, 3));
+        SearchService.SearchPage page = service.search("java", null, 2, 500);
+        assertEquals(SearchService.MAX_PAGE_SIZE, page.getPageSize());
+        assertTrue(page.getResults().isEmpty());
+        verify(searchDAO, never()).search(anyString(), anyString(), anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testEscapesLikeWildcards() {
+        assertEquals("100\\%\\_a\\\\b", SearchService.escapeLike("100%_a\\b"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.college.services;
+
+import com.college.models.Timetable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableSolverTest {
+
+    private static final List<String> DAYS = List.of("Monday", "Tuesday", "Wednesday");
+    private static final List<String> SLOTS = List.of("9:00-10:00", "10:00-11:00", "11:00-12:00");
+
+    @Test
+    void testFindsConflictFreeTimetable() {
+        // Two groups share Dr. Rao and two rooms; 8 sessions each in 9 cells
+        List<TimetableSolver.Session> sessions = new ArrayList<>();
+        sessions.addAll(sessions("CSE", 3, "Algorithms", "Dr. Rao", 3));
+        sessions.addAll(sessions("CSE", 3, "Networks", "Dr. Iyer", 3));
+        sessions.addAll(sessions("CSE", 3, "Databases", "Dr. Menon", 2));
+        sessions.addAll(sessions("ECE", 3, "Signals", "Dr. Rao", 3));
+        sessions.addAll(sessions("ECE", 3, "Circuits", "Dr. Das", 3));
+        sessions.addAll(sessions("ECE", 3, "Control", "Dr. Nair", 2));
+
+        TimetableSolver.Result result = new TimetableSolver(DAYS, SLOTS, List.of("101", "102"), freeExcept(null))
+                .solve(sessions, 5000, 2);
+
+        assertTrue(result.isConflictFree());
+        assertEquals(16, result.getEntries().size());
+        Set<String> taken = new HashSet<>();
+        for (Timetable t : result.getEntries()) {
+            String cell = t.getDayOfWeek() + t.getTimeSlot();
+            assertTrue(taken.add("G" + t.getDepartment() + cell), "group double booked");
+            assertTrue(taken.add("R" + t.getRoomNumber() + cell), "room double booked");
+            assertTrue(taken.add("F" + t.getFacultyName() + cell), "faculty double booked");
+        }
+    }
+
+    @Test
+    void testHonoursExistingBookings() {
+        // Dr. Rao teaches elsewhere on every Monday slot
+        TimetableSolver.Result result = new TimetableSolver(DAYS, SLOTS, List.of("101"), freeExcept("Monday"))
+                .solve(sessions("CSE", 1, "Algorithms", "Dr. Rao", 3), 500, 1);
+
+        // Three sessions on the two remaining days: one day repeats
+        assertTrue(result.isConflictFree());
+        assertEquals(1, result.getSoftPenalty());
+        for (Timetable t : result.getEntries()) {
+            assertNotEquals("Monday", t.getDayOfWeek());
+        }
+    }
+
+    @Test
+    void testReportsInfeasibleProblem() {
+        // Ten sessions for one group but only nine cells
+        TimetableSolver.Result result = new TimetableSolver(DAYS, SLOTS, List.of("101", "102"), freeExcept(null))
+                .solve(sessions("CSE", 1, "Algorithms", null, 10), 200, 2);
+
+        assertFalse(result.isConflictFree());
+        assertTrue(result.getHardViolations() >= 1);
+    }
+
+    @Test
+    void testCountsSessionsWithoutRoom() {
+        TimetableSolver.Result result = new TimetableSolver(DAYS, SLOTS, List.of(), freeExcept(null))
+                .solve(sessions("CSE", 1, "Algorithms", null, 3), 200, 1);
+
+        assertFalse(result.isConflictFree());
+        assertEquals(3, result.getUnplaced());
+        assertTrue(result.getEntries().isEmpty());
+    }
+
+    private static List<TimetableSolver.Session> sessions(String dept, int sem, String subject, String faculty,
+            int count) {
+        List<TimetableSolver.Session> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new TimetableSolver.Session(dept, sem, subject, faculty));
+        }
+        return list;
+    }
+
+    private static TimetableSolver.Availability freeExcept(String busyFacultyDay) {
+        return new TimetableSolver.Availability() {
+            @Override
+            public boolean isRoomFree(String room, String day, String timeSlot) {
+                return true;
+            }
+
+            @Override
+            public boolean isFacultyFree(String facultyName, String day, String timeSlot) {
+                return !day.equals(busyFacultyDay);
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvParserTest {
+
+    @Test
+    void testParsesQuotedFieldsAndLineEndings() throws IOException {
+        CsvParser parser = new CsvParser(new StringReader(
+                "name,address\r\n\"Rao, Asha\",\"12 \"\"Main\"\" St\nPune\"\r\nVikram,\n"));
+
+        assertEquals(List.of("name", "address"), parser.next());
+        assertEquals(1, parser.getRecordLine());
+
+        assertEquals(List.of("Rao, Asha", "12 \"Main\" St\nPune"), parser.next());
+        assertEquals(2, parser.getRecordLine());
+
+        assertEquals(List.of("Vikram", ""), parser.next());
+        assertEquals(4, parser.getRecordLine());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void testRejectsUnterminatedQuote() throws IOException {
+        CsvParser parser = new CsvParser(new StringReader("a,\"b\n"));
+        assertThrows(IOException.class, parser::next);
+    }
+
+    @Test
+    void testToLineRoundTrips() throws IOException {
+        String line = CsvParser.toLine("a\"b", null, 3, "x,y");
+        assertEquals("\"a\"\"b\",,\"3\",\"x,y\"", line);
+        assertEquals(List.of("a\"b", "", "3", "x,y"), new CsvParser(new StringReader(line)).next());
+    }
+}
@@ -0,0 +1,33 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsBoundValuesWithinOneEighth() {
+        for (long micros = 0; micros < 10_000_000; micros = micros * 5 / 4 + 1) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            long upper = LatencyHistogram.upperBoundMicros(bucket);
+            assertTrue(micros < upper, micros + " < " + upper);
+            assertTrue(bucket == 0 || micros >= LatencyHistogram.upperBoundMicros(bucket - 1), "bucket " + bucket);
+            assertTrue(upper - micros <= Math.max(1, micros / 8), "precision at " + micros);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordMillis(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50.5, snapshot.getMeanMillis(), 1e-9);
+        assertEquals(100.0, snapshot.getMaxMillis(), 1e-9);
+        assertEquals(50, snapshot.getPercentileMillis(0.5), 50 / 8.0);
+        assertEquals(99, snapshot.getPercentileMillis(0.99), 99 / 8.0);
+    }
+}
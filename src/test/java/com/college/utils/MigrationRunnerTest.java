@@ -0,0 +1,83 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigrationRunnerTest {
+
+    @Test
+    void testFindsClasspathMigrationsInVersionOrder() throws IOException {
+        List<MigrationRunner.Migration> migrations = MigrationRunner.findMigrations(
+                MigrationRunner.class.getClassLoader(), MigrationRunner.LOCATION);
+
+        List<String> versions = migrations.stream().map(m -> m.version).toList();
+        assertEquals("V1", versions.get(0));
+        assertTrue(versions.indexOf("V7") < versions.indexOf("V7_1"));
+        assertTrue(versions.indexOf("V7_1") < versions.indexOf("V8"));
+        assertTrue(versions.indexOf("V9") < versions.indexOf("V10"));
+        // Subdirectories (mysql_backup) are not migrations
+        assertTrue(migrations.stream().noneMatch(m -> m.fileName.contains("/")));
+        assertEquals(versions.size(), versions.stream().distinct().count());
+    }
+
+    @Test
+    void testFindsMigrationsInsideJar(@TempDir Path dir) throws IOException {
+        Path jar = dir.resolve("app.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            add(out, "db/migration/");
+            add(out, "db/migration/V2__Second.sql");
+            add(out, "db/migration/V10__Tenth.sql");
+            add(out, "db/migration/V1__First.sql");
+            add(out, "db/migration/README.txt");
+            add(out, "db/migration/old/V3__Ignored.sql");
+        }
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            List<MigrationRunner.Migration> migrations = MigrationRunner.findMigrations(loader,
+                    MigrationRunner.LOCATION);
+            assertEquals(List.of("V1__First.sql", "V2__Second.sql", "V10__Tenth.sql"),
+                    migrations.stream().map(m -> m.fileName).toList());
+        }
+    }
+
+    @Test
+    void testRejectsDuplicateVersions(@TempDir Path dir) throws IOException {
+        Path migrations = Files.createDirectories(dir.resolve("db/migration"));
+        Files.writeString(migrations.resolve("V7__One.sql"), "SELECT 1;");
+        Files.writeString(migrations.resolve("V7__Two.sql"), "SELECT 2;");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            assertThrows(IllegalStateException.class,
+                    () -> MigrationRunner.findMigrations(loader, MigrationRunner.LOCATION));
+        }
+    }
+
+    @Test
+    void testChecksumIsStable() {
+        byte[] sql = "CREATE TABLE t (id INT);".getBytes(StandardCharsets.UTF_8);
+        assertEquals(MigrationRunner.checksum(sql), MigrationRunner.checksum(sql.clone()));
+        assertEquals(64, MigrationRunner.checksum(sql).length());
+        assertNotEquals(MigrationRunner.checksum(sql),
+                MigrationRunner.checksum("CREATE TABLE t (id BIGINT);".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void add(JarOutputStream out, String name) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        if (!name.endsWith("/")) {
+            out.write("SELECT 1;".getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,41 @@
+package com.college.utils;
+
+import com.college.dao.RoleDAO;
+import com.college.models.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PermissionCacheTest {
+
+    private final RoleDAO roleDAO = mock(RoleDAO.class);
+    private final PermissionCache cache = new PermissionCache(roleDAO, TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void testCachesLoadedRole() {
+        when(roleDAO.getRoleForUser(7)).thenReturn(new Role(2, "FACULTY", "Faculty"));
+
+        assertEquals(2, cache.getRoleForUser(7).getId());
+        assertEquals(2, cache.getRoleForUser(7).getId());
+        verify(roleDAO, times(1)).getRoleForUser(7);
+    }
+
+    @Test
+    void testLoadOverlappingInvalidationIsNotCached() {
+        Role before = new Role(1, "ADMIN", "Admin");
+        Role after = new Role(2, "FACULTY", "Faculty");
+        // The role is revoked while the first load is reading the old one
+        when(roleDAO.getRoleForUser(7)).thenAnswer(inv -> {
+            cache.invalidateUser(7);
+            return before;
+        }).thenReturn(after);
+
+        assertEquals(1, cache.getRoleForUser(7).getId());
+        assertEquals(2, cache.getRoleForUser(7).getId());
+        assertEquals(2, cache.getRoleForUser(7).getId());
+        verify(roleDAO, times(2)).getRoleForUser(7);
+    }
+}
@@ -0,0 +1,69 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryMetricsTest {
+
+    @Test
+    void testAttributesTimingRowsAndErrorsToCaller() throws SQLException {
+        Connection target = mock(Connection.class);
+        PreparedStatement select = mock(PreparedStatement.class);
+        PreparedStatement update = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(target.prepareStatement("SELECT id FROM t")).thenReturn(select);
+        when(target.prepareStatement("UPDATE t SET x = 1")).thenReturn(update);
+        when(select.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(update.executeUpdate()).thenReturn(5).thenThrow(new SQLException("boom"));
+
+        Connection conn = QueryMetrics.wrap(target);
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM t");
+                ResultSet result = stmt.executeQuery()) {
+            while (result.next()) {
+                result.getInt(1);
+            }
+            assertSame(conn, stmt.getConnection());
+        }
+        PreparedStatement stmt = conn.prepareStatement("UPDATE t SET x = 1");
+        assertEquals(5, stmt.executeUpdate());
+        assertThrows(SQLException.class, stmt::executeUpdate);
+
+        QueryMetrics.Stats stats = QueryMetrics.getStats().stream()
+                .filter(s -> s.getCaller().equals("QueryMetricsTest.testAttributesTimingRowsAndErrorsToCaller"))
+                .findFirst().orElseThrow();
+        assertEquals(3, stats.getLatency().getCount());
+        assertEquals(7, stats.getRows());
+        assertEquals(1, stats.getErrors());
+        verify(rs, times(2)).getInt(1);
+        verify(rs).close();
+    }
+
+    @Test
+    void testAttributesCataloguedStatementsByName() throws SQLException {
+        SqlCatalog.Query query = SqlCatalog.define("QueryMetricsTest.catalogued", "UPDATE t SET y = ?");
+        Connection target = mock(Connection.class);
+        PreparedStatement update = mock(PreparedStatement.class);
+        when(target.prepareStatement("UPDATE t SET y = ?")).thenReturn(update);
+        when(update.executeUpdate()).thenReturn(2);
+
+        try (PreparedStatement stmt = query.prepare(QueryMetrics.wrap(target))) {
+            stmt.setInt(1, 7);
+            assertEquals(2, stmt.executeUpdate());
+        }
+
+        QueryMetrics.Stats stats = QueryMetrics.getStats().stream()
+                .filter(s -> s.getCaller().equals("QueryMetricsTest.catalogued"))
+                .findFirst().orElseThrow();
+        assertEquals(1, stats.getLatency().getCount());
+        assertEquals(2, stats.getRows());
+        verify(update).setInt(1, 7);
+    }
+}
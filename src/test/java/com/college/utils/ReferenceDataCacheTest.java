@@ -0,0 +1,81 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataCacheTest {
+
+    private final ReferenceDataCache cache = new ReferenceDataCache(TimeUnit.MINUTES.toNanos(5), 5);
+
+    @Test
+    void testLoadsOnceUntilInvalidated() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        ReferenceDataCache.Loader<String> loader = () -> {
+            loads.incrementAndGet();
+            return List.of("A", "B");
+        };
+
+        assertEquals(List.of("A", "B"), cache.get("rooms", "all", loader));
+        List<String> copy = cache.get("rooms", "all", loader);
+        copy.add("C"); // callers get their own copy
+        assertEquals(List.of("A", "B"), cache.get("rooms", "all", loader));
+        assertEquals(1, loads.get());
+
+        cache.invalidate("rooms");
+        cache.get("rooms", "all", loader);
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.getStats().getHits());
+        assertEquals(2, cache.getStats().getMisses());
+    }
+
+    @Test
+    void testReturnsCopiesOfElements() throws SQLException {
+        ReferenceDataCache.Loader<StringBuilder> loader = () -> List.of(new StringBuilder("Maths"));
+
+        cache.get("courses", "all", loader, StringBuilder::new).get(0).append(" (PENDING)");
+        cache.get("courses", "all", loader, StringBuilder::new).get(0).append(" (PENDING)");
+        assertEquals("Maths", cache.get("courses", "all", loader, StringBuilder::new).get(0).toString());
+        assertEquals(2, cache.getStats().getHits());
+    }
+
+    @Test
+    void testDoesNotCacheLoadOverlappingInvalidation() throws SQLException {
+        List<String> first = cache.get("courses", "all", () -> {
+            cache.invalidate("courses"); // a write lands while the query runs
+            return List.of("stale");
+        });
+        assertEquals(List.of("stale"), first);
+        assertEquals(List.of("fresh"), cache.get("courses", "all", () -> List.of("fresh")));
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() throws SQLException {
+        assertThrows(SQLException.class, () -> cache.get("hostels", "all", () -> {
+            throw new SQLException("down");
+        }));
+        assertEquals(List.of("H1"), cache.get("hostels", "all", () -> List.of("H1")));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedToStayWithinRowLimit() throws SQLException {
+        cache.get("a", "all", () -> List.of(1, 2));
+        cache.get("b", "all", () -> List.of(3, 4));
+        cache.get("a", "all", () -> fail("a should be cached"));
+        cache.get("c", "all", () -> List.of(5, 6)); // 6 rows > 5: evicts b
+
+        assertEquals(1, cache.getStats().getEvictions());
+        assertEquals(4, cache.getStats().getRows());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("b", "all", () -> {
+            loads.incrementAndGet();
+            return List.of(3, 4);
+        });
+        assertEquals(1, loads.get());
+    }
+}
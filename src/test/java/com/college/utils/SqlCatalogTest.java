@@ -0,0 +1,24 @@
+package com.college.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlCatalogTest {
+
+    @Test
+    void testDefineReturnsSameQueryForSameSql() {
+        SqlCatalog.Query a = SqlCatalog.define("SqlCatalogTest.same", "SELECT 1");
+        assertSame(a, SqlCatalog.define("SqlCatalogTest.same", "SELECT 1"));
+        assertThrows(IllegalStateException.class, () -> SqlCatalog.define("SqlCatalogTest.same", "SELECT 2"));
+    }
+
+    @Test
+    void testLooksUpNameBySql() {
+        SqlCatalog.define("SqlCatalogTest.first", "SELECT 3");
+        SqlCatalog.define("SqlCatalogTest.second", "SELECT 3");
+        assertEquals("SqlCatalogTest.first", SqlCatalog.nameOf("SELECT 3"));
+        assertNull(SqlCatalog.nameOf("SELECT 4"));
+        assertNull(SqlCatalog.nameOf(null));
+    }
+}
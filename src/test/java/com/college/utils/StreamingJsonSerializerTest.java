@@ -0,0 +1,50 @@
+package com.college.utils;
+
+import com.college.models.Course;
+import com.college.models.StudentFee;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingJsonSerializerTest {
+
+    @Test
+    void testSerializesModelFieldsInDeclarationOrder() {
+        StudentFee fee = new StudentFee(7, 3, "2025-26", 1500.5);
+        fee.setStudentName("Asha \"A\" Rao");
+
+        String json = StreamingJsonSerializer.toJson(fee);
+
+        assertTrue(json.startsWith("{\"id\":0,\"studentId\":7,\"categoryId\":3,\"academicYear\":\"2025-26\""));
+        assertTrue(json.contains("\"totalAmount\":1500.5"));
+        assertTrue(json.contains("\"studentName\":\"Asha \\\"A\\\" Rao\""));
+        assertTrue(json.contains("\"dueDate\":null"));
+    }
+
+    @Test
+    void testStreamsListAsUtf8() throws Exception {
+        Course course = new Course();
+        course.setName("Análisis\\Numérico\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingJsonSerializer.write(List.of(course, course), out);
+        String json = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}]"));
+        assertTrue(json.contains("\"name\":\"Análisis\\\\Numérico\\n\""));
+        assertEquals(json, "[" + JsonHelper.toJson(course) + "," + JsonHelper.toJson(course) + "]");
+    }
+
+    @Test
+    void testPrimitivesAndNull() {
+        assertEquals("null", StreamingJsonSerializer.toJson(null));
+        assertEquals("42", StreamingJsonSerializer.toJson(42));
+        assertEquals("\"a\\tb\"", StreamingJsonSerializer.toJson("a\tb"));
+        assertEquals("null", StreamingJsonSerializer.toJson(Double.NaN));
+    }
+}
@@ -0,0 +1,53 @@
+package com.college.utils;
+
+import com.college.models.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentSearchIndexTest {
+
+    private final StudentSearchIndex index = new StudentSearchIndex(List.of(
+            student("Priya Sharma", "CS2021001"),
+            student("Arjun Mehta", "CS2021002"),
+            student("Sharmila Rao", "EE2021001"),
+            student("Rahul Varma", "ME2020015"),
+            student("Kiran", null)));
+
+    @Test
+    void testSubstringMatchesNameAndId() {
+        assertEquals(List.of("Priya Sharma", "Sharmila Rao"), names(index.search("SHARM", 10)));
+        assertEquals(List.of("Priya Sharma", "Arjun Mehta", "Sharmila Rao"), names(index.search("2021", 10)));
+        assertEquals(List.of("Rahul Varma"), names(index.search("varm", 10)));
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void testRanksIdMatchesFirst() {
+        assertEquals(List.of("Arjun Mehta"), names(index.search("cs2021002", 10)));
+        // ID prefix, then name-word prefix, then anywhere
+        assertEquals(List.of("Sharmila Rao", "Arjun Mehta", "Rahul Varma"), names(index.search("e", 10)));
+        assertEquals(List.of("Sharmila Rao", "Rahul Varma", "Priya Sharma"), names(index.search("r", 3)));
+    }
+
+    @Test
+    void testShortQueriesAndLimit() {
+        assertEquals(List.of("Kiran"), names(index.search("ki", 10)));
+        assertEquals(2, index.search("a", 2).size());
+        assertEquals(5, index.search("  ", 10).size());
+        assertEquals(3, index.search(null, 3).size());
+    }
+
+    private static Student student(String name, String username) {
+        Student s = new Student();
+        s.setName(name);
+        s.setUsername(username);
+        return s;
+    }
+
+    private static List<String> names(List<Student> students) {
+        return students.stream().map(Student::getName).toList();
+    }
+}
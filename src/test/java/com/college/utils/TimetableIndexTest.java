@@ -0,0 +1,75 @@
+package com.college.utils;
+
+import com.college.models.Timetable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableIndexTest {
+
+    private final TimetableIndex index = new TimetableIndex(null, TimeUnit.HOURS.toNanos(1));
+
+    @BeforeEach
+    void setUp() {
+        index.load(List.of(
+                entry(1, "CSE", 3, "Monday", "9:00-10:00", "Algorithms", "Dr. Rao", "101"),
+                entry(2, "CSE", 3, "Monday", "10:00-11:00", "Networks", "Dr. Iyer", "102"),
+                entry(3, "ECE", 5, "Tuesday", "9:00-10:00", "Signals", "Dr. Rao", "101")));
+    }
+
+    @Test
+    void testRoomAvailability() {
+        assertEquals(List.of("101", "102"), index.getRooms());
+        assertEquals(List.of("101"), index.getOccupiedRooms("Monday", "9:00-10:00"));
+        assertTrue(index.isRoomBooked("101", "Tuesday", "9:00-10:00"));
+        assertFalse(index.isRoomBooked("101", "Tuesday", "10:00-11:00"));
+        assertTrue(index.isRoomBooked("101", "Monday", "9:00-10:00", 3, 0));
+        assertFalse(index.isRoomBooked("101", "Monday", "9:00-10:00", 3, 1));
+        assertFalse(index.isRoomBooked("101", "Monday", "9:00-10:00", 5, 0));
+    }
+
+    @Test
+    void testConflictsIgnoreOwnGroup() {
+        Timetable proposed = entry(0, "ECE", 5, "Monday", "9:00-10:00", "Circuits", "Dr. Rao", "101");
+        assertEquals(1, index.findRoomConflict(proposed).getId());
+        assertEquals(1, index.findFacultyConflict(proposed).getId());
+
+        Timetable replacing = entry(0, "CSE", 3, "Monday", "9:00-10:00", "Compilers", "Dr. Rao", "101");
+        assertNull(index.findRoomConflict(replacing));
+        assertNull(index.findFacultyConflict(replacing));
+    }
+
+    @Test
+    void testFacultySubjectClash() {
+        assertEquals(2, index.findFacultySubjectClash("Dr. Iyer", "Networks").getId());
+        assertNull(index.findFacultySubjectClash("Dr. Iyer", "Signals"));
+    }
+
+    @Test
+    void testIncrementalUpdates() {
+        // Upsert of CSE 3 Monday 9:00 replaces entry 1
+        index.onSaved(entry(4, "CSE", 3, "Monday", "9:00-10:00", "Compilers", "Dr. Iyer", "103"));
+        assertEquals(List.of("103"), index.getOccupiedRooms("Monday", "9:00-10:00"));
+        assertTrue(index.isRoomBooked("101", "Tuesday", "9:00-10:00"));
+        assertFalse(index.isFacultyBooked("Dr. Rao", "Monday", "9:00-10:00"));
+
+        index.onDeleted(3);
+        assertFalse(index.isRoomBooked("101", "Tuesday", "9:00-10:00"));
+        assertEquals(List.of("102", "103"), index.getRooms());
+
+        index.onCleared("CSE", 3);
+        assertTrue(index.getRooms().isEmpty());
+        assertFalse(index.isGroupBooked("CSE", 3, "Monday", "10:00-11:00"));
+    }
+
+    private static Timetable entry(int id, String dept, int sem, String day, String slot, String subject,
+            String faculty, String room) {
+        Timetable t = new Timetable(dept, sem, day, slot, subject, faculty, room);
+        t.setId(id);
+        return t;
+    }
+}